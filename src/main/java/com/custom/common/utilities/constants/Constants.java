@@ -8,6 +8,11 @@ package com.custom.common.utilities.constants;
  */
 public final class Constants {
 
+	/**
+	 * Header carrying the time budget left for a request, in milliseconds.
+	 */
+	public static final String DEADLINE_HEADER = "X-Request-Deadline-Ms";
+
 	/**
 	 * Creating a final class with exception if the class is instantiated somewhere
 	 * else in the code.
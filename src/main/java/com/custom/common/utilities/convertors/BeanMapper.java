@@ -0,0 +1,571 @@
+package com.custom.common.utilities.convertors;
+
+import java.lang.annotation.Annotation;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.AccessibleObject;
+import java.lang.reflect.Array;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+import org.apache.commons.lang3.ClassUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.fasterxml.jackson.databind.JavaType;
+
+/**
+ * This class copies the properties of a bean into a new bean of another class,
+ * for the conversions of {@link TypeConversionUtils} between POJOs which would
+ * otherwise serialize the source into a token buffer and deserialize it again.
+ *
+ * @implNote The getters, setters and public fields of a pair of classes are
+ *           inspected once, and the copy plan is cached with its
+ *           {@link MethodHandle}s. It follows the default rules of Jackson:
+ *           properties are matched by name, those missing on the target are
+ *           ignored, nested beans, lists, sets and maps are copied deeply and
+ *           immutable values are shared. Any pair which Jackson could convert
+ *           differently, e.g. with Jackson annotations, type coercion, a target
+ *           without a no-arg constructor or a property without a setter, is not
+ *           mapped and {@link #map(Object, JavaType)} returns null so that the
+ *           caller falls back to Jackson.
+ *
+ * @author Abhijeet
+ *
+ */
+final class BeanMapper {
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(BeanMapper.class);
+
+	private static final int MAX_DEPTH = 64;
+
+	private static final Set<Class<?>> VALUE_TYPES = Set.of(String.class, Boolean.class, Character.class, Byte.class,
+			Short.class, Integer.class, Long.class, Float.class, Double.class, BigDecimal.class, BigInteger.class,
+			UUID.class);
+
+	private static final String JACKSON_PACKAGE = "com.fasterxml.jackson.";
+
+	// Marks the pairs of classes which are left to Jackson.
+	private static final CopyPlan UNMAPPABLE = new CopyPlan(null, new PropertyCopier[0]);
+
+	private static final ClassValue<Map<Class<?>, CopyPlan>> PLANS = new ClassValue<>() {
+
+		@Override
+		protected Map<Class<?>, CopyPlan> computeValue(Class<?> sourceClass) {
+			return new ConcurrentHashMap<>();
+		}
+
+	};
+
+	private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+
+	private BeanMapper() {
+		throw new IllegalStateException("BeanMapper class cannot be instantiated");
+	}
+
+	/**
+	 * This method copies the source into a new value of the target type, a bean
+	 * or a collection of beans.
+	 *
+	 * @param source     - Value to be converted, not null
+	 * @param targetType {@link JavaType} of the result
+	 *
+	 * @return Converted value, null if the conversion is left to Jackson
+	 */
+	static Object map(Object source, JavaType targetType) {
+		try {
+			if (targetType.isCollectionLikeType() && source instanceof Collection<?> collection) {
+				Supplier<Collection<Object>> factory = collectionFactory(targetType.getRawClass());
+				JavaType contentType = targetType.getContentType();
+				if (Objects.isNull(factory) || contentType.hasGenericTypes()) {
+					return null;
+				}
+				return new CollectionValueMapper(factory, elementMapper(contentType.getRawClass())).map(collection,
+						0);
+			}
+			if (!targetType.isContainerType() && !targetType.hasGenericTypes() && isBean(source.getClass())) {
+				return mapBean(source, targetType.getRawClass(), 0);
+			}
+		} catch (UnmappableException e) {
+			LOGGER.debug("Left to Jackson : {} to {}", source.getClass(), targetType, e);
+		}
+		return null;
+	}
+
+	private static Object mapBean(Object source, Class<?> targetClass, int depth) {
+		if (depth > MAX_DEPTH) {
+			throw new UnmappableException("Too deeply nested");
+		}
+		CopyPlan plan = getPlan(source.getClass(), targetClass);
+		if (plan == UNMAPPABLE) {
+			throw new UnmappableException("Not mappable");
+		}
+		return plan.copy(source, depth);
+	}
+
+	private static CopyPlan getPlan(Class<?> sourceClass, Class<?> targetClass) {
+		Map<Class<?>, CopyPlan> plans = PLANS.get(sourceClass);
+		CopyPlan plan = plans.get(targetClass);
+		if (Objects.isNull(plan)) {
+			plan = plans.computeIfAbsent(targetClass, target -> compile(sourceClass, target));
+		}
+		return plan;
+	}
+
+	/**
+	 * This method inspects the properties of both classes and builds the copy
+	 * plan, or returns {@link #UNMAPPABLE} at the first property which Jackson
+	 * might convert differently.
+	 */
+	private static CopyPlan compile(Class<?> sourceClass, Class<?> targetClass) {
+		try {
+			if (!isBean(sourceClass) || !isBean(targetClass) || hasJacksonAnnotations(sourceClass)
+					|| hasJacksonAnnotations(targetClass)) {
+				return UNMAPPABLE;
+			}
+			Constructor<?> constructor = targetClass.getDeclaredConstructor();
+			if (Modifier.isAbstract(targetClass.getModifiers()) || !constructor.trySetAccessible()) {
+				return UNMAPPABLE;
+			}
+			MethodHandle creator = LOOKUP.unreflectConstructor(constructor)
+					.asType(MethodType.methodType(Object.class));
+
+			Map<String, Property> sourceProperties = getReadableProperties(sourceClass);
+			Map<String, Property> targetReadable = getReadableProperties(targetClass);
+			Map<String, Property> targetWritable = getWritableProperties(targetClass);
+			if (Objects.isNull(sourceProperties) || Objects.isNull(targetReadable) || Objects.isNull(targetWritable)) {
+				return UNMAPPABLE;
+			}
+
+			List<PropertyCopier> copiers = new ArrayList<>();
+			for (Map.Entry<String, Property> entry : sourceProperties.entrySet()) {
+				Property target = targetWritable.get(entry.getKey());
+				if (Objects.isNull(target)) {
+					// Jackson could write into the field behind the getter.
+					if (targetReadable.containsKey(entry.getKey())) {
+						return UNMAPPABLE;
+					}
+					continue;
+				}
+				Property source = entry.getValue();
+				copiers.add(new PropertyCopier(source.handle, target.handle,
+						valueMapper(source.genericType, target.genericType), defaultValue(target.genericType)));
+			}
+			return new CopyPlan(creator, copiers.toArray(new PropertyCopier[0]));
+		} catch (ReflectiveOperationException | RuntimeException e) {
+			LOGGER.debug("Left to Jackson : {} to {}", sourceClass, targetClass, e);
+			return UNMAPPABLE;
+		}
+	}
+
+	/**
+	 * This method returns the properties Jackson would serialize, from public
+	 * getters and public fields, the getter winning.
+	 *
+	 * @return Properties by name, null if a property cannot be accessed
+	 */
+	private static Map<String, Property> getReadableProperties(Class<?> beanClass) throws IllegalAccessException {
+		Map<String, Property> properties = new LinkedHashMap<>();
+		for (Field field : beanClass.getFields()) {
+			if (!Modifier.isStatic(field.getModifiers())) {
+				if (!field.trySetAccessible()) {
+					return null;
+				}
+				properties.put(field.getName(), new Property(
+						LOOKUP.unreflectGetter(field).asType(MethodType.methodType(Object.class, Object.class)),
+						field.getGenericType()));
+			}
+		}
+		for (Method method : beanClass.getMethods()) {
+			String name = getterName(method);
+			if (Objects.nonNull(name)) {
+				if (!method.trySetAccessible()) {
+					return null;
+				}
+				properties.put(name,
+						new Property(LOOKUP.unreflect(method).asType(MethodType.methodType(Object.class, Object.class)),
+								method.getGenericReturnType()));
+			}
+		}
+		return properties;
+	}
+
+	/**
+	 * This method returns the properties Jackson would deserialize, from public
+	 * setters and public non-final fields, the setter winning.
+	 *
+	 * @return Properties by name, null if a setter is overloaded or a property
+	 *         cannot be accessed
+	 */
+	private static Map<String, Property> getWritableProperties(Class<?> beanClass) throws IllegalAccessException {
+		Map<String, Property> properties = new HashMap<>();
+		for (Field field : beanClass.getFields()) {
+			if (!Modifier.isStatic(field.getModifiers()) && !Modifier.isFinal(field.getModifiers())) {
+				if (!field.trySetAccessible()) {
+					return null;
+				}
+				properties.put(field.getName(), new Property(
+						LOOKUP.unreflectSetter(field).asType(MethodType.methodType(void.class, Object.class, Object.class)),
+						field.getGenericType()));
+			}
+		}
+		Set<String> setterNames = new HashSet<>();
+		for (Method method : beanClass.getMethods()) {
+			String name = setterName(method);
+			if (Objects.nonNull(name)) {
+				if (!setterNames.add(name) || !method.trySetAccessible()) {
+					return null;
+				}
+				properties.put(name,
+						new Property(LOOKUP.unreflect(method)
+								.asType(MethodType.methodType(void.class, Object.class, Object.class)),
+								method.getGenericParameterTypes()[0]));
+			}
+		}
+		return properties;
+	}
+
+	private static String getterName(Method method) {
+		if (Modifier.isStatic(method.getModifiers()) || method.getParameterCount() != 0
+				|| method.getReturnType() == void.class || method.getDeclaringClass() == Object.class) {
+			return null;
+		}
+		String name = method.getName();
+		if (name.startsWith("get") && name.length() > 3) {
+			return propertyName(name.substring(3));
+		}
+		if (name.startsWith("is") && name.length() > 2 && method.getReturnType() == boolean.class) {
+			return propertyName(name.substring(2));
+		}
+		return null;
+	}
+
+	private static String setterName(Method method) {
+		String name = method.getName();
+		if (Modifier.isStatic(method.getModifiers()) || method.getParameterCount() != 1 || !name.startsWith("set")
+				|| name.length() <= 3) {
+			return null;
+		}
+		return propertyName(name.substring(3));
+	}
+
+	/**
+	 * This method lower-cases the leading upper-case letters of the name, like
+	 * the default naming of Jackson, e.g. URL to url.
+	 */
+	private static String propertyName(String name) {
+		char[] chars = name.toCharArray();
+		for (int index = 0; index < chars.length && Character.isUpperCase(chars[index]); index++) {
+			chars[index] = Character.toLowerCase(chars[index]);
+		}
+		return new String(chars);
+	}
+
+	/**
+	 * This method builds the copier of a property value between the given
+	 * declared types.
+	 *
+	 * @throws UnmappableException if Jackson might convert it differently
+	 */
+	private static ValueMapper valueMapper(Type sourceType, Type targetType) {
+		Class<?> sourceClass = rawClass(sourceType);
+		Class<?> targetClass = rawClass(targetType);
+		if (isValue(sourceClass) || isValue(targetClass)) {
+			if (ClassUtils.primitiveToWrapper(sourceClass) != ClassUtils.primitiveToWrapper(targetClass)) {
+				throw new UnmappableException("Value types differ");
+			}
+			return (value, depth) -> value;
+		}
+		if (Collection.class.isAssignableFrom(sourceClass) && Collection.class.isAssignableFrom(targetClass)) {
+			Supplier<Collection<Object>> factory = collectionFactory(targetClass);
+			if (Objects.isNull(factory)) {
+				throw new UnmappableException("Unsupported collection " + targetClass);
+			}
+			return new CollectionValueMapper(factory, valueMapper(typeArgument(sourceType, 0),
+					typeArgument(targetType, 0)));
+		}
+		if (Map.class.isAssignableFrom(sourceClass) && Map.class.isAssignableFrom(targetClass)) {
+			if (!targetClass.isAssignableFrom(LinkedHashMap.class) || typeArgument(sourceType, 0) != String.class
+					|| typeArgument(targetType, 0) != String.class) {
+				throw new UnmappableException("Unsupported map " + targetType);
+			}
+			return new MapValueMapper(valueMapper(typeArgument(sourceType, 1), typeArgument(targetType, 1)));
+		}
+		if (isBean(sourceClass) && isBean(targetClass)) {
+			return (value, depth) -> mapBean(value, targetClass, depth + 1);
+		}
+		throw new UnmappableException("Unsupported property " + sourceType + " to " + targetType);
+	}
+
+	/**
+	 * This method builds the copier of the elements of a top-level collection,
+	 * whose declared source type is not known.
+	 */
+	private static ValueMapper elementMapper(Class<?> targetClass) {
+		if (isValue(targetClass)) {
+			return (value, depth) -> {
+				if (ClassUtils.primitiveToWrapper(targetClass) != value.getClass()) {
+					throw new UnmappableException("Value types differ");
+				}
+				return value;
+			};
+		}
+		if (isBean(targetClass)) {
+			return (value, depth) -> mapBean(value, targetClass, depth + 1);
+		}
+		throw new UnmappableException("Unsupported element " + targetClass);
+	}
+
+	/**
+	 * This method returns the factory of the collection Jackson would create for
+	 * the declared type.
+	 */
+	private static Supplier<Collection<Object>> collectionFactory(Class<?> collectionClass) {
+		if (collectionClass.isAssignableFrom(ArrayList.class)) {
+			return ArrayList::new;
+		}
+		if (collectionClass == Set.class || collectionClass == HashSet.class) {
+			return HashSet::new;
+		}
+		return null;
+	}
+
+	private static boolean isValue(Class<?> type) {
+		return type.isPrimitive() || type.isEnum() || VALUE_TYPES.contains(type);
+	}
+
+	private static boolean isBean(Class<?> type) {
+		if (type.isPrimitive() || type.isArray() || type.isEnum() || type.isRecord() || isValue(type)
+				|| Collection.class.isAssignableFrom(type) || Map.class.isAssignableFrom(type)) {
+			return false;
+		}
+		String name = type.getName();
+		return !name.startsWith("java.") && !name.startsWith("javax.") && !name.startsWith("jakarta.")
+				&& !name.startsWith(JACKSON_PACKAGE);
+	}
+
+	private static boolean hasJacksonAnnotations(Class<?> beanClass) {
+		for (Class<?> type = beanClass; type != null && type != Object.class; type = type.getSuperclass()) {
+			if (hasJacksonAnnotation(type) || (type.isMemberClass() && !Modifier.isStatic(type.getModifiers()))) {
+				return true;
+			}
+			for (Field field : type.getDeclaredFields()) {
+				if (hasJacksonAnnotation(field)) {
+					return true;
+				}
+			}
+			for (Method method : type.getDeclaredMethods()) {
+				if (hasJacksonAnnotation(method)) {
+					return true;
+				}
+			}
+			for (Constructor<?> constructor : type.getDeclaredConstructors()) {
+				if (hasJacksonAnnotation(constructor)) {
+					return true;
+				}
+			}
+		}
+		for (Class<?> type : beanClass.getInterfaces()) {
+			if (hasJacksonAnnotation(type)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private static boolean hasJacksonAnnotation(AccessibleObject element) {
+		return hasJacksonAnnotation(element.getDeclaredAnnotations());
+	}
+
+	private static boolean hasJacksonAnnotation(Class<?> type) {
+		return hasJacksonAnnotation(type.getDeclaredAnnotations());
+	}
+
+	private static boolean hasJacksonAnnotation(Annotation[] annotations) {
+		for (Annotation annotation : annotations) {
+			if (annotation.annotationType().getName().startsWith(JACKSON_PACKAGE)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private static Class<?> rawClass(Type type) {
+		if (type instanceof Class<?> clazz) {
+			return clazz;
+		}
+		if (type instanceof ParameterizedType parameterizedType
+				&& parameterizedType.getRawType() instanceof Class<?> clazz) {
+			return clazz;
+		}
+		throw new UnmappableException("Unsupported type " + type);
+	}
+
+	private static Type typeArgument(Type type, int index) {
+		if (type instanceof ParameterizedType parameterizedType
+				&& parameterizedType.getActualTypeArguments().length > index) {
+			Type argument = parameterizedType.getActualTypeArguments()[index];
+			rawClass(argument);
+			return argument;
+		}
+		throw new UnmappableException("Raw type " + type);
+	}
+
+	private static Object defaultValue(Type type) {
+		return type instanceof Class<?> clazz && clazz.isPrimitive() ? Array.get(Array.newInstance(clazz, 1), 0)
+				: null;
+	}
+
+	/**
+	 * Copies a property value, of a nested bean or collection, to the target
+	 * type.
+	 */
+	@FunctionalInterface
+	private interface ValueMapper {
+
+		Object map(Object value, int depth);
+
+	}
+
+	private static final class CollectionValueMapper implements ValueMapper {
+
+		private final Supplier<Collection<Object>> factory;
+		private final ValueMapper elementMapper;
+
+		private CollectionValueMapper(Supplier<Collection<Object>> factory, ValueMapper elementMapper) {
+			this.factory = factory;
+			this.elementMapper = elementMapper;
+		}
+
+		@Override
+		public Object map(Object value, int depth) {
+			Collection<Object> target = factory.get();
+			for (Object element : (Collection<?>) value) {
+				target.add(Objects.isNull(element) ? null : elementMapper.map(element, depth));
+			}
+			return target;
+		}
+
+	}
+
+	private static final class MapValueMapper implements ValueMapper {
+
+		private final ValueMapper valueMapper;
+
+		private MapValueMapper(ValueMapper valueMapper) {
+			this.valueMapper = valueMapper;
+		}
+
+		@Override
+		public Object map(Object value, int depth) {
+			Map<?, ?> source = (Map<?, ?>) value;
+			Map<Object, Object> target = new LinkedHashMap<>();
+			for (Map.Entry<?, ?> entry : source.entrySet()) {
+				Object entryValue = entry.getValue();
+				target.put(entry.getKey(), Objects.isNull(entryValue) ? null : valueMapper.map(entryValue, depth));
+			}
+			return target;
+		}
+
+	}
+
+	/**
+	 * Accessor of a property with its declared type.
+	 */
+	private static final class Property {
+
+		private final MethodHandle handle;
+		private final Type genericType;
+
+		private Property(MethodHandle handle, Type genericType) {
+			this.handle = handle;
+			this.genericType = genericType;
+		}
+
+	}
+
+	private static final class PropertyCopier {
+
+		private final MethodHandle getter;
+		private final MethodHandle setter;
+		private final ValueMapper valueMapper;
+		// Set instead of null on primitives, like Jackson.
+		private final Object nullValue;
+
+		private PropertyCopier(MethodHandle getter, MethodHandle setter, ValueMapper valueMapper, Object nullValue) {
+			this.getter = getter;
+			this.setter = setter;
+			this.valueMapper = valueMapper;
+			this.nullValue = nullValue;
+		}
+
+	}
+
+	/**
+	 * Creates the target and copies the properties of a pair of classes.
+	 */
+	private static final class CopyPlan {
+
+		private final MethodHandle creator;
+		private final PropertyCopier[] copiers;
+
+		private CopyPlan(MethodHandle creator, PropertyCopier[] copiers) {
+			this.creator = creator;
+			this.copiers = copiers;
+		}
+
+		private Object copy(Object source, int depth) {
+			try {
+				Object target = creator.invokeExact();
+				for (PropertyCopier copier : copiers) {
+					Object value = (Object) copier.getter.invokeExact(source);
+					copier.setter.invokeExact(target,
+							Objects.isNull(value) ? copier.nullValue : copier.valueMapper.map(value, depth));
+				}
+				return target;
+			} catch (UnmappableException e) {
+				throw e;
+			} catch (Throwable e) {
+				throw new UnmappableException("Copy failed", e);
+			}
+		}
+
+	}
+
+	/**
+	 * Thrown when a value has to be left to Jackson.
+	 */
+	private static final class UnmappableException extends RuntimeException {
+
+		private static final long serialVersionUID = -2945019472262418734L;
+
+		private UnmappableException(String message) {
+			super(message, null, false, false);
+		}
+
+		private UnmappableException(String message, Throwable cause) {
+			super(message, cause, false, false);
+		}
+
+	}
+
+}
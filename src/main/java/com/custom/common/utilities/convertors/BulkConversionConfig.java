@@ -0,0 +1,50 @@
+package com.custom.common.utilities.convertors;
+
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * This class holds the settings of the bulk conversions of
+ * {@link TypeConversionUtils#convertAll(java.util.List, Class, BulkConversionConfig)}.
+ *
+ * @implSpec Conversions are CPU-bound, so they are split across a
+ *           {@link ForkJoinPool} sized to the cores rather than run on virtual
+ *           threads. Batch jobs which should not compete with parallel streams
+ *           can pass a pool of their own.
+ *
+ * @author Abhijeet
+ *
+ */
+@Getter
+@Builder
+@ToString
+public class BulkConversionConfig {
+
+	// Element count below which the batch is converted on the calling thread.
+	@Builder.Default
+	private final int parallelThreshold = 1_000;
+
+	// Pool the conversions are split across.
+	@Builder.Default
+	private final ForkJoinPool pool = ForkJoinPool.commonPool();
+
+	/**
+	 * Used by the builder, which fails on invalid settings instead of the
+	 * conversions.
+	 *
+	 * @throws IllegalArgumentException if the threshold is not positive
+	 * @throws NullPointerException     if the pool is null
+	 */
+	BulkConversionConfig(int parallelThreshold, ForkJoinPool pool) {
+		if (parallelThreshold <= 0) {
+			throw new IllegalArgumentException("Parallel threshold must be positive : " + parallelThreshold);
+		}
+		this.parallelThreshold = parallelThreshold;
+		this.pool = Objects.requireNonNull(pool, "Pool is required");
+	}
+
+}
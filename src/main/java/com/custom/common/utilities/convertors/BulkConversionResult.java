@@ -0,0 +1,37 @@
+package com.custom.common.utilities.convertors;
+
+import java.util.List;
+import java.util.Map;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * This class holds the outcome of a bulk conversion of
+ * {@link TypeConversionUtils#convertAll(List, Class)}, with the values in the
+ * order of the input.
+ *
+ * @implSpec The value of an element which failed is null, and its exception is
+ *           in the failures, by index of the element. Null elements are
+ *           converted to null without failure.
+ *
+ * @author Abhijeet
+ *
+ */
+@Getter
+@ToString
+@AllArgsConstructor(access = AccessLevel.PACKAGE)
+public class BulkConversionResult<T> {
+
+	private final List<T> values;
+
+	// Failures by index of the element, in index order.
+	private final Map<Integer, Exception> failures;
+
+	public boolean isSuccess() {
+		return failures.isEmpty();
+	}
+
+}
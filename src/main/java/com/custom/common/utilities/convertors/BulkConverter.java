@@ -0,0 +1,104 @@
+package com.custom.common.utilities.convertors;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * This class converts the elements of a list with a {@link TypeConverter},
+ * splitting the list across a fork/join pool, for
+ * {@link TypeConversionUtils#convertAll(List, Class, BulkConversionConfig)}.
+ *
+ * @implNote Each task converts a range of indexes into a shared array, so the
+ *           values keep the order of the input without any merge. Ranges are
+ *           split in halves down to a few times the parallelism of the pool, so
+ *           idle workers can steal the remaining halves.
+ *
+ * @author Abhijeet
+ *
+ */
+final class BulkConverter<T> extends RecursiveAction {
+
+	private static final long serialVersionUID = 6305913725093406381L;
+
+	private static final int MIN_CHUNK_SIZE = 16;
+	private static final int CHUNKS_PER_WORKER = 4;
+
+	private final transient List<?> data;
+	private final transient TypeConverter<T> converter;
+	private final transient Object[] values;
+	private final transient Exception[] failures;
+	private final int chunkSize;
+	private final int from;
+	private final int to;
+
+	private BulkConverter(List<?> data, TypeConverter<T> converter, Object[] values, Exception[] failures,
+			int chunkSize, int from, int to) {
+		this.data = data;
+		this.converter = converter;
+		this.values = values;
+		this.failures = failures;
+		this.chunkSize = chunkSize;
+		this.from = from;
+		this.to = to;
+	}
+
+	/**
+	 * This method converts all the elements, across the pool of the config if
+	 * there are at least as many as its threshold.
+	 *
+	 * @param data      - Elements, to be accessed by index
+	 * @param converter - {@link TypeConverter} of the target type
+	 * @param config    {@link BulkConversionConfig}
+	 *
+	 * @return {@link BulkConversionResult}
+	 */
+	@SuppressWarnings("unchecked")
+	static <T> BulkConversionResult<T> convert(List<?> data, TypeConverter<T> converter,
+			BulkConversionConfig config) {
+		int size = data.size();
+		Object[] values = new Object[size];
+		Exception[] failures = new Exception[size];
+		if (size < Math.max(1, config.getParallelThreshold())) {
+			new BulkConverter<>(data, converter, values, failures, size, 0, size).compute();
+		} else {
+			int chunkSize = Math.max(MIN_CHUNK_SIZE,
+					size / (config.getPool().getParallelism() * CHUNKS_PER_WORKER));
+			config.getPool().invoke(new BulkConverter<>(data, converter, values, failures, chunkSize, 0, size));
+		}
+
+		Map<Integer, Exception> failuresByIndex = new TreeMap<>();
+		for (int index = 0; index < size; index++) {
+			if (Objects.nonNull(failures[index])) {
+				failuresByIndex.put(index, failures[index]);
+			}
+		}
+		return new BulkConversionResult<>(Collections.unmodifiableList((List<T>) Arrays.asList(values)),
+				Collections.unmodifiableMap(failuresByIndex));
+	}
+
+	@Override
+	protected void compute() {
+		if (to - from > chunkSize) {
+			int middle = (from + to) >>> 1;
+			invokeAll(new BulkConverter<>(data, converter, values, failures, chunkSize, from, middle),
+					new BulkConverter<>(data, converter, values, failures, chunkSize, middle, to));
+			return;
+		}
+		for (int index = from; index < to; index++) {
+			Object element = data.get(index);
+			if (Objects.nonNull(element)) {
+				try {
+					values[index] = converter.convert(element);
+				} catch (Exception e) {
+					failures[index] = e;
+				}
+			}
+		}
+	}
+
+}
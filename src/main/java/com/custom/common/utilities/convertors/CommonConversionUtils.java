@@ -1,28 +1,200 @@
 package com.custom.common.utilities.convertors;
 
-import java.util.Arrays;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
-
-import org.apache.commons.lang3.StringUtils;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.LongConsumer;
+import java.util.stream.LongStream;
+import java.util.stream.StreamSupport;
 
 public final class CommonConversionUtils {
 
+	private static final int MAX_RETAINED_BUILDER_SIZE = 64 * 1024;
+
+	// Builders of convertToCommaSeperatedString, reused per thread.
+	private static final ThreadLocal<StringBuilder> BUILDERS = ThreadLocal.withInitial(StringBuilder::new);
+
 	private CommonConversionUtils() {
 		throw new IllegalStateException("CommonConversionUtils class cannot be instantiated");
 	}
 
 	/**
 	 * This method converts comma separated String to List of Long {List<Long>}.
-	 * Also removes trailing ',' commas and brackets '[]'. 
+	 * Also removes trailing ',' commas and brackets '[]'.
 	 * Example: "[1,2,3]" = [1,2,3]
-	 * 
+	 *
+	 * @implNote The brackets and whitespace are optional, see
+	 *           {@link #parseLongs(CharSequence)}.
+	 *
 	 * @param fields
 	 * @return
+	 * @throws NumberFormatException if an entry is not a number
 	 */
 	public static List<Long> convertFromCommaSeperatedStrings(String fields) {
-		return StringUtils.isBlank(fields) ? Collections.emptyList()
-				: Arrays.stream(fields.substring(1, fields.length() - 1).split(", ")).map(Long::parseLong).toList();
+		return LongStream.of(parseLongs(fields)).boxed().toList();
+	}
+
+	/**
+	 * This method converts comma separated String to List of Long, skipping the
+	 * entries which are not numbers. Example: "[1, x, 3]" = [1,3]
+	 *
+	 * @param fields
+	 * @return
+	 */
+	public static List<Long> convertFromCommaSeperatedStringsLeniently(CharSequence fields) {
+		NumberListScanner scanner = NumberListScanner.of(fields, Long.MIN_VALUE, Long.MAX_VALUE, true);
+		if (!scanner.hasNext()) {
+			return Collections.emptyList();
+		}
+		List<Long> values = new ArrayList<>();
+		while (scanner.hasNext()) {
+			values.add(scanner.next());
+		}
+		return values;
+	}
+
+	/**
+	 * This method parses a comma separated list of numbers, e.g. "[1, 2, 3]",
+	 * "1,2,3" or " 1 ,2, ", without intermediate Strings nor boxing.
+	 *
+	 * @param fields - Can be null or blank
+	 * @return Numbers, empty if there are none
+	 * @throws NumberFormatException if an entry is not a number
+	 */
+	public static long[] parseLongs(CharSequence fields) {
+		return NumberListScanner.of(fields, Long.MIN_VALUE, Long.MAX_VALUE, false).toLongArray();
+	}
+
+	/**
+	 * This method parses a comma separated list of numbers from the ASCII bytes
+	 * between the position and the limit of the buffer, e.g. a cached value,
+	 * without moving its position.
+	 *
+	 * @see #parseLongs(CharSequence)
+	 *
+	 * @param fields
+	 * @return Numbers, empty if there are none
+	 * @throws NumberFormatException if an entry is not a number
+	 */
+	public static long[] parseLongs(ByteBuffer fields) {
+		return NumberListScanner.of(fields, Long.MIN_VALUE, Long.MAX_VALUE, false).toLongArray();
+	}
+
+	/**
+	 * This method parses a comma separated list of ints.
+	 *
+	 * @see #parseLongs(CharSequence)
+	 *
+	 * @param fields
+	 * @return Numbers, empty if there are none
+	 * @throws NumberFormatException if an entry is not an int
+	 */
+	public static int[] parseInts(CharSequence fields) {
+		return NumberListScanner.of(fields, Integer.MIN_VALUE, Integer.MAX_VALUE, false).toIntArray();
+	}
+
+	/**
+	 * This method parses a comma separated list of ints from the ASCII bytes of
+	 * the buffer, without moving its position.
+	 *
+	 * @see #parseLongs(ByteBuffer)
+	 *
+	 * @param fields
+	 * @return Numbers, empty if there are none
+	 * @throws NumberFormatException if an entry is not an int
+	 */
+	public static int[] parseInts(ByteBuffer fields) {
+		return NumberListScanner.of(fields, Integer.MIN_VALUE, Integer.MAX_VALUE, false).toIntArray();
+	}
+
+	/**
+	 * This method parses a comma separated list of numbers lazily, as the stream
+	 * is consumed.
+	 *
+	 * @see #parseLongs(CharSequence)
+	 *
+	 * @implNote The text must not change while the stream is consumed. An entry
+	 *           which is not a number is thrown as a {@link NumberFormatException}
+	 *           when reached.
+	 *
+	 * @param fields
+	 * @return {@link LongStream}
+	 */
+	public static LongStream streamLongs(CharSequence fields) {
+		NumberListScanner scanner = NumberListScanner.of(fields, Long.MIN_VALUE, Long.MAX_VALUE, false);
+		return StreamSupport.longStream(new Spliterators.AbstractLongSpliterator(Long.MAX_VALUE,
+				Spliterator.ORDERED | Spliterator.NONNULL) {
+
+			@Override
+			public boolean tryAdvance(LongConsumer action) {
+				if (!scanner.hasNext()) {
+					return false;
+				}
+				action.accept(scanner.next());
+				return true;
+			}
+
+		}, false);
+	}
+
+	/**
+	 * This method appends the numbers to the builder as a comma separated list,
+	 * in the format read by {@link #parseLongs(CharSequence)}. Example: [1,2,3] =
+	 * "[1, 2, 3]"
+	 *
+	 * @param builder - Builder to append to, which can be reused across calls
+	 * @param values
+	 * @return The builder
+	 */
+	public static StringBuilder appendCommaSeperated(StringBuilder builder, long[] values) {
+		builder.append('[');
+		for (int index = 0; index < values.length; index++) {
+			if (index > 0) {
+				builder.append(", ");
+			}
+			builder.append(values[index]);
+		}
+		return builder.append(']');
+	}
+
+	/**
+	 * This method appends the ints to the builder as a comma separated list.
+	 *
+	 * @see #appendCommaSeperated(StringBuilder, long[])
+	 *
+	 * @param builder
+	 * @param values
+	 * @return The builder
+	 */
+	public static StringBuilder appendCommaSeperated(StringBuilder builder, int[] values) {
+		builder.append('[');
+		for (int index = 0; index < values.length; index++) {
+			if (index > 0) {
+				builder.append(", ");
+			}
+			builder.append(values[index]);
+		}
+		return builder.append(']');
+	}
+
+	/**
+	 * This method converts the numbers to a comma separated String, through a
+	 * builder reused by the current thread. Example: [1,2,3] = "[1, 2, 3]"
+	 *
+	 * @param values
+	 * @return
+	 */
+	public static String convertToCommaSeperatedString(long[] values) {
+		StringBuilder builder = BUILDERS.get();
+		builder.setLength(0);
+		String result = appendCommaSeperated(builder, values).toString();
+		if (builder.capacity() > MAX_RETAINED_BUILDER_SIZE) {
+			BUILDERS.remove();
+		}
+		return result;
 	}
 
 }
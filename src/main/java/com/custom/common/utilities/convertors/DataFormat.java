@@ -0,0 +1,98 @@
+package com.custom.common.utilities.convertors;
+
+import java.util.Locale;
+
+import org.apache.commons.lang3.StringUtils;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+
+/**
+ * This enum lists the data formats which {@link TypeConversionUtils} can read
+ * and write, with the media type used for them in HTTP bodies.
+ *
+ * @implNote All the formats use the same Jackson data binding, so any class
+ *           which can be converted to JSON can be converted to the binary
+ *           formats. MessagePack needs jackson-dataformat-msgpack on the
+ *           classpath, which is an optional dependency of this library.
+ *
+ * @author Abhijeet
+ *
+ */
+public enum DataFormat {
+
+	// Text JSON, the default for all conversions and requests.
+	JSON("application/json"),
+
+	// Binary JSON of Jackson, for traffic between services of our own.
+	SMILE("application/x-jackson-smile"),
+
+	// Concise Binary Object Representation, RFC 8949.
+	CBOR("application/cbor"),
+
+	// MessagePack, for services outside the JVM.
+	MESSAGE_PACK("application/x-msgpack");
+
+	private static final String MESSAGE_PACK_FACTORY = "org.msgpack.jackson.dataformat.MessagePackFactory";
+
+	private final String mediaType;
+
+	DataFormat(String mediaType) {
+		this.mediaType = mediaType;
+	}
+
+	public String getMediaType() {
+		return mediaType;
+	}
+
+	/**
+	 * This method finds the data format of a Content-Type header value,
+	 * ignoring its parameters.
+	 *
+	 * @param contentType - Value of the Content-Type header, can be null
+	 *
+	 * @return {@link DataFormat}, null if none matches
+	 */
+	public static DataFormat fromContentType(String contentType) {
+		if (StringUtils.isBlank(contentType)) {
+			return null;
+		}
+		String mimeType = StringUtils.substringBefore(contentType, ";").trim().toLowerCase(Locale.ROOT);
+		for (DataFormat dataFormat : values()) {
+			if (dataFormat.mediaType.equals(mimeType)) {
+				return dataFormat;
+			}
+		}
+		// Structured syntax suffix, e.g. application/problem+json.
+		return mimeType.endsWith("+json") ? JSON : null;
+	}
+
+	/**
+	 * This method creates the Jackson factory of the format.
+	 *
+	 * @return {@link JsonFactory}
+	 */
+	JsonFactory createFactory() {
+		switch (this) {
+		case SMILE:
+			return new SmileFactory();
+		case CBOR:
+			return new CBORFactory();
+		case MESSAGE_PACK:
+			return createMessagePackFactory();
+		default:
+			return new JsonFactory();
+		}
+	}
+
+	private static JsonFactory createMessagePackFactory() {
+		try {
+			return (JsonFactory) Class.forName(MESSAGE_PACK_FACTORY).getDeclaredConstructor().newInstance();
+		} catch (ReflectiveOperationException | LinkageError e) {
+			throw new IllegalStateException(
+					"MessagePack needs org.msgpack:jackson-dataformat-msgpack on the classpath", e);
+		}
+	}
+
+}
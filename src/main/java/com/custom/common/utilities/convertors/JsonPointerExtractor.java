@@ -0,0 +1,151 @@
+package com.custom.common.utilities.convertors;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonPointer;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectReader;
+
+/**
+ * This class reads the values at a set of JSON Pointers (RFC 6901) from a JSON
+ * document with the streaming parser, for
+ * {@link TypeConversionUtils#extractValues(String, String...)}.
+ *
+ * @implNote The pointers are merged into a tree of property names. Subtrees
+ *           which no pointer goes through are skipped by the parser without
+ *           being materialized, only the values at the pointers are read, as
+ *           maps, lists and scalars, and parsing stops as soon as every pointer
+ *           is found. Instances hold the state of one extraction.
+ *
+ * @author Abhijeet
+ *
+ */
+final class JsonPointerExtractor {
+
+	private final ObjectReader reader;
+	private final PathNode root = new PathNode();
+	private final Map<String, Object> values = new LinkedHashMap<>();
+	private int remaining;
+
+	/**
+	 * @param reader   - Reader of the values, as Object
+	 * @param pointers - JSON Pointers, e.g. /data/items/0/id
+	 *
+	 * @throws IllegalArgumentException if a pointer is invalid
+	 */
+	JsonPointerExtractor(ObjectReader reader, String... pointers) {
+		this.reader = reader;
+		for (String pointer : pointers) {
+			PathNode node = root;
+			for (JsonPointer path = JsonPointer.compile(pointer); !path.matches(); path = path.tail()) {
+				node = node.children.computeIfAbsent(path.getMatchingProperty(), name -> new PathNode());
+			}
+			if (Objects.isNull(node.pointer)) {
+				node.pointer = pointer;
+				remaining++;
+			}
+		}
+	}
+
+	/**
+	 * This method reads the document of the parser until every pointer is found
+	 * or the document ends.
+	 *
+	 * @param parser {@link JsonParser}, before the first token of the document
+	 *
+	 * @return Values by pointer, in the order found, without the missing ones
+	 *
+	 * @throws IOException
+	 */
+	Map<String, Object> extract(JsonParser parser) throws IOException {
+		if (remaining > 0 && Objects.nonNull(parser.nextToken())) {
+			visit(parser, root);
+		}
+		return values;
+	}
+
+	/**
+	 * This method visits the value at the current token of the parser, leaving
+	 * the parser on its last token.
+	 *
+	 * @return true when every pointer is found
+	 */
+	private boolean visit(JsonParser parser, PathNode node) throws IOException {
+		if (Objects.nonNull(node.pointer)) {
+			Object value = reader.readValue(parser);
+			found(node, value);
+			return remaining == 0;
+		}
+		JsonToken token = parser.currentToken();
+		if (token == JsonToken.START_OBJECT) {
+			while (parser.nextToken() == JsonToken.FIELD_NAME) {
+				PathNode child = node.children.get(parser.currentName());
+				parser.nextToken();
+				if (Objects.isNull(child)) {
+					parser.skipChildren();
+				} else if (visit(parser, child)) {
+					return true;
+				}
+			}
+		} else if (token == JsonToken.START_ARRAY) {
+			int index = 0;
+			while (parser.nextToken() != JsonToken.END_ARRAY) {
+				PathNode child = node.children.get(String.valueOf(index++));
+				if (Objects.isNull(child)) {
+					parser.skipChildren();
+				} else if (visit(parser, child)) {
+					return true;
+				}
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * This method records the value of a pointer, and of the pointers below it
+	 * which are read from the value itself.
+	 */
+	private void found(PathNode node, Object value) {
+		if (Objects.nonNull(node.pointer) && !values.containsKey(node.pointer)) {
+			values.put(node.pointer, value);
+			remaining--;
+		}
+		for (Map.Entry<String, PathNode> entry : node.children.entrySet()) {
+			Object child = null;
+			if (value instanceof Map<?, ?> map) {
+				child = map.get(entry.getKey());
+			} else if (value instanceof List<?> list) {
+				int index = parseIndex(entry.getKey());
+				child = index >= 0 && index < list.size() ? list.get(index) : null;
+			}
+			if (Objects.nonNull(child) || (value instanceof Map<?, ?> map && map.containsKey(entry.getKey()))) {
+				found(entry.getValue(), child);
+			}
+		}
+	}
+
+	private static int parseIndex(String name) {
+		try {
+			return Integer.parseInt(name);
+		} catch (NumberFormatException e) {
+			return -1;
+		}
+	}
+
+	/**
+	 * Property of the merged pointers, with the pointer ending at it if any.
+	 */
+	private static final class PathNode {
+
+		private final Map<String, PathNode> children = new HashMap<>();
+		private String pointer;
+
+	}
+
+}
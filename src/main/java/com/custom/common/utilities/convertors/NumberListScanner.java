@@ -0,0 +1,213 @@
+package com.custom.common.utilities.convertors;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+
+/**
+ * This class reads the numbers of a comma separated list, like "[1, 2, 3]" or
+ * "1,2,3", for {@link CommonConversionUtils}. The brackets, whitespace around
+ * the numbers and empty entries are optional.
+ *
+ * @implNote Numbers are accumulated digit by digit from the characters of a
+ *           {@link CharSequence}, or the ASCII bytes of a {@link ByteBuffer}, so
+ *           no substring nor boxed value is created. In lenient mode, entries
+ *           which are not numbers or out of range are skipped, otherwise a
+ *           {@link NumberFormatException} is thrown with their index. Instances
+ *           are not thread-safe.
+ *
+ * @author Abhijeet
+ *
+ */
+final class NumberListScanner {
+
+	private static final int INITIAL_CAPACITY = 16;
+
+	private final CharSequence text;
+	private final ByteBuffer bytes;
+	private final long min;
+	private final long max;
+	private final boolean lenient;
+	private int position;
+	private int end;
+	private long pending;
+	private boolean hasPending;
+
+	private NumberListScanner(CharSequence text, ByteBuffer bytes, int start, int end, long min, long max,
+			boolean lenient) {
+		this.text = text;
+		this.bytes = bytes;
+		this.min = min;
+		this.max = max;
+		this.lenient = lenient;
+		this.position = start;
+		this.end = end;
+		trim();
+	}
+
+	static NumberListScanner of(CharSequence text, long min, long max, boolean lenient) {
+		return new NumberListScanner(text, null, 0, Objects.isNull(text) ? 0 : text.length(), min, max, lenient);
+	}
+
+	/**
+	 * The bytes between the position and the limit of the buffer are read,
+	 * without moving its position.
+	 */
+	static NumberListScanner of(ByteBuffer bytes, long min, long max, boolean lenient) {
+		return Objects.isNull(bytes) ? of((CharSequence) null, min, max, lenient)
+				: new NumberListScanner(null, bytes, bytes.position(), bytes.limit(), min, max, lenient);
+	}
+
+	/**
+	 * This method reads the next number of the list, skipping empty entries and,
+	 * in lenient mode, invalid ones.
+	 *
+	 * @return true if there is a number left, returned by {@link #next()}
+	 *
+	 * @throws NumberFormatException if an entry is invalid and the scan is not
+	 *                               lenient
+	 */
+	boolean hasNext() {
+		while (!hasPending) {
+			skipWhitespace();
+			if (position >= end) {
+				return false;
+			}
+			if (charAt(position) == ',') {
+				position++;
+				continue;
+			}
+			int start = position;
+			long value = parseEntry();
+			if (position >= 0) {
+				pending = value;
+				hasPending = true;
+			} else if (lenient) {
+				position = start;
+				skipEntry();
+			} else {
+				throw new NumberFormatException("Invalid number at index " + start);
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * This method returns the number read by {@link #hasNext()}.
+	 *
+	 * @return Number
+	 */
+	long next() {
+		if (!hasNext()) {
+			throw new NoSuchElementException();
+		}
+		hasPending = false;
+		return pending;
+	}
+
+	/**
+	 * This method reads all the numbers left.
+	 *
+	 * @return Numbers
+	 */
+	long[] toLongArray() {
+		long[] values = new long[INITIAL_CAPACITY];
+		int count = 0;
+		while (hasNext()) {
+			if (count == values.length) {
+				values = Arrays.copyOf(values, count << 1);
+			}
+			values[count++] = next();
+		}
+		return Arrays.copyOf(values, count);
+	}
+
+	/**
+	 * This method reads all the numbers left as ints, in the range given to the
+	 * scanner.
+	 *
+	 * @return Numbers
+	 */
+	int[] toIntArray() {
+		int[] values = new int[INITIAL_CAPACITY];
+		int count = 0;
+		while (hasNext()) {
+			if (count == values.length) {
+				values = Arrays.copyOf(values, count << 1);
+			}
+			values[count++] = (int) next();
+		}
+		return Arrays.copyOf(values, count);
+	}
+
+	/**
+	 * This method reads the entry at the position, setting the position after
+	 * it, or to -1 if it is not a number in range.
+	 */
+	private long parseEntry() {
+		boolean negative = false;
+		char sign = charAt(position);
+		if (sign == '-' || sign == '+') {
+			negative = sign == '-';
+			position++;
+		}
+		// Accumulated negatively, like Long.parseLong, to reach Long.MIN_VALUE.
+		long value = 0;
+		int digits = 0;
+		while (position < end) {
+			int digit = charAt(position) - '0';
+			if (digit < 0 || digit > 9) {
+				break;
+			}
+			if (value < Long.MIN_VALUE / 10 || value * 10 < Long.MIN_VALUE + digit) {
+				position = -1;
+				return 0;
+			}
+			value = value * 10 - digit;
+			digits++;
+			position++;
+		}
+		skipWhitespace();
+		if (digits == 0 || (position < end && charAt(position) != ',') || (!negative && value == Long.MIN_VALUE)) {
+			position = -1;
+			return 0;
+		}
+		value = negative ? value : -value;
+		if (value < min || value > max) {
+			position = -1;
+			return 0;
+		}
+		return value;
+	}
+
+	private void skipEntry() {
+		while (position < end && charAt(position) != ',') {
+			position++;
+		}
+	}
+
+	private void skipWhitespace() {
+		while (position < end && charAt(position) <= ' ') {
+			position++;
+		}
+	}
+
+	private void trim() {
+		skipWhitespace();
+		while (end > position && charAt(end - 1) <= ' ') {
+			end--;
+		}
+		if (position < end && charAt(position) == '[') {
+			position++;
+		}
+		if (end > position && charAt(end - 1) == ']') {
+			end--;
+		}
+	}
+
+	private char charAt(int index) {
+		return Objects.nonNull(text) ? text.charAt(index) : (char) (bytes.get(index) & 0xFF);
+	}
+
+}
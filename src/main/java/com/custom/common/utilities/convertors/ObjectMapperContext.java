@@ -0,0 +1,157 @@
+package com.custom.common.utilities.convertors;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.fasterxml.jackson.databind.DeserializationConfig;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.MapperFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationConfig;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.introspect.JacksonAnnotationIntrospector;
+
+/**
+ * This class holds the {@link ObjectMapper} used by {@link TypeConversionUtils}
+ * with everything derived from it: the readers and writers with the settings of
+ * this library, the mappers of the binary {@link DataFormat}s and the cached
+ * {@link TypeConverter}s.
+ *
+ * @implNote The settings of this library, lenient reading of unknown
+ *           properties and writing of empty beans, are applied on the readers
+ *           and writers rather than on the mapper, so a mapper shared with
+ *           Spring MVC is not changed and its serializer caches are reused. A
+ *           new context is built when the mapper is replaced, so converters of
+ *           the previous mapper are never mixed with the new one.
+ *
+ * @author Abhijeet
+ *
+ */
+final class ObjectMapperContext {
+
+	// Modules which do not change how beans are converted, only how fast.
+	private static final Set<Object> BEAN_MAPPING_SAFE_MODULES = Set.of(
+			"com.fasterxml.jackson.module.blackbird.BlackbirdModule",
+			"com.fasterxml.jackson.module.afterburner.AfterburnerModule",
+			"com.fasterxml.jackson.datatype.jdk8.Jdk8Module",
+			"com.fasterxml.jackson.datatype.jsr310.JavaTimeModule",
+			"com.fasterxml.jackson.module.paramnames.ParameterNamesModule");
+
+	private static final SerializationConfig DEFAULT_SERIALIZATION_CONFIG = new ObjectMapper()
+			.getSerializationConfig();
+	private static final DeserializationConfig DEFAULT_DESERIALIZATION_CONFIG = new ObjectMapper()
+			.getDeserializationConfig();
+	private static final String DEFAULT_VISIBILITY = DEFAULT_SERIALIZATION_CONFIG.getDefaultVisibilityChecker()
+			.toString();
+
+	// Features set by this library on its readers and writers, so those of the
+	// mapper do not matter.
+	private static final int LIBRARY_SERIALIZATION_FEATURES = SerializationFeature.FAIL_ON_EMPTY_BEANS.getMask();
+	private static final int LIBRARY_DESERIALIZATION_FEATURES = DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES
+			.getMask();
+
+	private final ObjectMapper objectMapper;
+	private final ObjectReader reader;
+	private final ObjectWriter writer;
+	private final boolean beanMapping;
+
+	// Mappers of the binary formats, copies of the JSON one.
+	private final Map<DataFormat, ObjectMapper> formatMappers = new ConcurrentHashMap<>();
+
+	// Converters, by target type and, for generic types, by their type
+	// arguments so that no JavaType is built on lookup.
+	final Map<JavaType, TypeConverter<?>> converters = new ConcurrentHashMap<>();
+	final Map<Class<?>, TypeConverter<?>> listConverters = new ConcurrentHashMap<>();
+	final Map<Class<?>, TypeConverter<?>> valueMapConverters = new ConcurrentHashMap<>();
+	final Map<Class<?>, Map<Class<?>, TypeConverter<?>>> keyValueMapConverters = new ConcurrentHashMap<>();
+
+	ObjectMapperContext(ObjectMapper objectMapper) {
+		this.objectMapper = objectMapper;
+		this.reader = objectMapper.reader().without(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+		this.writer = objectMapper.writer().without(SerializationFeature.FAIL_ON_EMPTY_BEANS);
+		this.beanMapping = isBeanMappingSafe(objectMapper);
+	}
+
+	ObjectMapper getObjectMapper() {
+		return objectMapper;
+	}
+
+	ObjectReader getReader() {
+		return reader;
+	}
+
+	ObjectWriter getWriter() {
+		return writer;
+	}
+
+	@SuppressWarnings("unchecked")
+	<T> TypeConverter<T> converterFor(JavaType javaType) {
+		TypeConverter<?> converter = converters.get(javaType);
+		if (Objects.isNull(converter)) {
+			converter = converters.computeIfAbsent(javaType,
+					type -> new TypeConverter<>(objectMapper, reader, writer, type, beanMapping));
+		}
+		return (TypeConverter<T>) converter;
+	}
+
+	/**
+	 * This method returns the mapper of the format, a copy of the JSON one with
+	 * the factory of the format and the settings of this library.
+	 *
+	 * @param dataFormat - Null for JSON
+	 *
+	 * @return {@link ObjectMapper}
+	 */
+	ObjectMapper getFormatMapper(DataFormat dataFormat) {
+		return formatMappers.computeIfAbsent(dataFormat,
+				format -> objectMapper.copyWith(format.createFactory())
+						.disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+						.disable(SerializationFeature.FAIL_ON_EMPTY_BEANS));
+	}
+
+	/**
+	 * This method tells whether {@link BeanMapper} converts beans the same way as
+	 * the mapper, i.e. the mapper has no mix-ins, no modules which could add
+	 * serializers of beans and otherwise the default settings: visibility of
+	 * properties, inclusion of values, naming, annotation handling and features.
+	 */
+	private static boolean isBeanMappingSafe(ObjectMapper objectMapper) {
+		SerializationConfig serializationConfig = objectMapper.getSerializationConfig();
+		DeserializationConfig deserializationConfig = objectMapper.getDeserializationConfig();
+		return objectMapper.mixInCount() == 0
+				&& BEAN_MAPPING_SAFE_MODULES.containsAll(objectMapper.getRegisteredModuleIds())
+				&& DEFAULT_VISIBILITY.equals(serializationConfig.getDefaultVisibilityChecker().toString())
+				&& DEFAULT_VISIBILITY.equals(deserializationConfig.getDefaultVisibilityChecker().toString())
+				&& DEFAULT_SERIALIZATION_CONFIG.getDefaultPropertyInclusion()
+						.equals(serializationConfig.getDefaultPropertyInclusion())
+				&& Objects.isNull(serializationConfig.getPropertyNamingStrategy())
+				&& Objects.isNull(deserializationConfig.getPropertyNamingStrategy())
+				&& serializationConfig.getAnnotationIntrospector().getClass() == JacksonAnnotationIntrospector.class
+				&& deserializationConfig.getAnnotationIntrospector().getClass() == JacksonAnnotationIntrospector.class
+				&& hasDefaultFeatures(serializationConfig, deserializationConfig);
+	}
+
+	private static boolean hasDefaultFeatures(SerializationConfig serializationConfig,
+			DeserializationConfig deserializationConfig) {
+		if (((serializationConfig.getSerializationFeatures()
+				^ DEFAULT_SERIALIZATION_CONFIG.getSerializationFeatures()) & ~LIBRARY_SERIALIZATION_FEATURES) != 0
+				|| ((deserializationConfig.getDeserializationFeatures()
+						^ DEFAULT_DESERIALIZATION_CONFIG.getDeserializationFeatures())
+						& ~LIBRARY_DESERIALIZATION_FEATURES) != 0) {
+			return false;
+		}
+		for (MapperFeature feature : MapperFeature.values()) {
+			if (serializationConfig.isEnabled(feature) != DEFAULT_SERIALIZATION_CONFIG.isEnabled(feature)
+					|| deserializationConfig.isEnabled(feature) != DEFAULT_DESERIALIZATION_CONFIG.isEnabled(feature)) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+}
@@ -0,0 +1,94 @@
+package com.custom.common.utilities.convertors;
+
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+/**
+ * This class is a growable byte buffer kept per thread, which
+ * {@link TypeConversionUtils} serializes into before copying the exact result
+ * out.
+ *
+ * @implNote The buffer is reused by the next serialization on the same thread,
+ *           so steady-state serialization only allocates the result. A buffer
+ *           grown past {@link #MAX_RETAINED_SIZE} by a large payload is dropped
+ *           on release, so one large payload does not pin memory on every
+ *           thread. A serialization started while the buffer of the thread is in
+ *           use, e.g. from a custom serializer, gets a buffer of its own.
+ *
+ * @author Abhijeet
+ *
+ */
+final class ReusableOutputBuffer extends OutputStream {
+
+	private static final int INITIAL_SIZE = 4 * 1024;
+	private static final int MAX_RETAINED_SIZE = 64 * 1024;
+
+	private static final ThreadLocal<ReusableOutputBuffer> BUFFERS = ThreadLocal
+			.withInitial(ReusableOutputBuffer::new);
+
+	private byte[] buffer = new byte[INITIAL_SIZE];
+	private int count;
+	private boolean inUse;
+
+	private ReusableOutputBuffer() {
+	}
+
+	/**
+	 * This method returns the buffer of the current thread, empty, to be given
+	 * back with {@link #release()}.
+	 *
+	 * @return {@link ReusableOutputBuffer}
+	 */
+	static ReusableOutputBuffer acquire() {
+		ReusableOutputBuffer outputBuffer = BUFFERS.get();
+		if (outputBuffer.inUse) {
+			outputBuffer = new ReusableOutputBuffer();
+		}
+		outputBuffer.inUse = true;
+		outputBuffer.count = 0;
+		return outputBuffer;
+	}
+
+	void release() {
+		inUse = false;
+		if (buffer.length > MAX_RETAINED_SIZE) {
+			buffer = new byte[INITIAL_SIZE];
+		}
+	}
+
+	int size() {
+		return count;
+	}
+
+	byte[] toByteArray() {
+		return Arrays.copyOf(buffer, count);
+	}
+
+	void copyTo(ByteBuffer target) {
+		target.put(buffer, 0, count);
+	}
+
+	@Override
+	public void write(int b) {
+		ensureCapacity(count + 1);
+		buffer[count++] = (byte) b;
+	}
+
+	@Override
+	public void write(byte[] b, int off, int len) {
+		ensureCapacity(count + len);
+		System.arraycopy(b, off, buffer, count, len);
+		count += len;
+	}
+
+	private void ensureCapacity(int capacity) {
+		if (capacity < 0) {
+			throw new OutOfMemoryError("Serialized value is too large");
+		}
+		if (capacity > buffer.length) {
+			buffer = Arrays.copyOf(buffer, Math.max(capacity, buffer.length << 1));
+		}
+	}
+
+}
@@ -0,0 +1,33 @@
+package com.custom.common.utilities.convertors;
+
+import java.util.Objects;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * This class makes {@link TypeConversionUtils} use the {@link ObjectMapper}
+ * bean of the application, the one Spring MVC writes responses with, when the
+ * package of this class is component scanned.
+ * 
+ * @implNote Nothing is changed when there is no single mapper bean, e.g. with
+ *           plain Spring MVC, whose message converter creates its own mapper.
+ *           Such applications can give {@link TypeConversionUtils#getObjectMapper()}
+ *           to the message converter instead.
+ * 
+ * @author Abhijeet
+ *
+ */
+@Component
+public class SharedObjectMapperConfigurer {
+
+	public SharedObjectMapperConfigurer(ObjectProvider<ObjectMapper> objectMappers) {
+		ObjectMapper objectMapper = objectMappers.getIfUnique();
+		if (Objects.nonNull(objectMapper)) {
+			TypeConversionUtils.setObjectMapper(objectMapper);
+		}
+	}
+
+}
@@ -1,24 +1,59 @@
 package com.custom.common.utilities.convertors;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.NoSuchElementException;
 import java.util.Objects;
+import java.util.RandomAccess;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
+import org.apache.commons.lang3.ArrayUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.Module;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.type.TypeFactory;
 
 /**
  * This class is used to convert given objects to a given class. Data can be of
  * type Object or String.
  * 
- * @implNote Uses Object mapper of Jackson Library.
+ * @implNote Uses Object mapper of Jackson Library, its own or the one given to
+ *           {@link #setObjectMapper(ObjectMapper)}, e.g. the mapper of Spring
+ *           MVC so that serializers are only built once per class. Binary
+ *           {@link DataFormat}s use a copy of the same mapper with the factory
+ *           of the format. JSON conversions go through a {@link TypeConverter}
+ *           cached per target type, so readers, writers and types are only
+ *           built once.
  * 
  * @author Abhijeet
  *
@@ -26,9 +61,19 @@ import com.fasterxml.jackson.databind.SerializationFeature;
 public final class TypeConversionUtils {
 
 	private static final Logger LOGGER = LoggerFactory.getLogger(TypeConversionUtils.class);
-	private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper()
-			.disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
-			.disable(SerializationFeature.FAIL_ON_EMPTY_BEANS);
+
+	private static final String[] PERFORMANCE_MODULES = { "com.fasterxml.jackson.module.blackbird.BlackbirdModule",
+			"com.fasterxml.jackson.module.afterburner.AfterburnerModule" };
+
+	private static final JavaType MAP_TYPE = TypeFactory.defaultInstance().constructMapLikeType(Map.class,
+			String.class, Object.class);
+	private static final JavaType STRING_MAP_TYPE = TypeFactory.defaultInstance().constructMapLikeType(Map.class,
+			String.class, String.class);
+	private static final JavaType LIST_OF_MAP_TYPE = TypeFactory.defaultInstance()
+			.constructCollectionLikeType(List.class, MAP_TYPE);
+
+	// Mapper in use with its converters, replaced as a whole with the mapper.
+	private static volatile ObjectMapperContext context = new ObjectMapperContext(createDefaultObjectMapper());
 
 	private TypeConversionUtils() {
 		throw new IllegalStateException("TypeConversionUtils class cannot be instantiated");
@@ -45,11 +90,93 @@ public final class TypeConversionUtils {
 	public static <T> T convertToCustomClass(Object data, Class<T> clazz) {
 		try {
 			if (Objects.nonNull(data) && Objects.nonNull(clazz)) {
-				if (data instanceof String s) {
-					return OBJECT_MAPPER.readValue(s, clazz);
-				} else {
-					return OBJECT_MAPPER.convertValue(data, clazz);
+				return converterFor(clazz).convert(data);
+			}
+		} catch (Exception e) {
+			LOGGER.error("Exception in convertToCustomClass", e);
+		}
+		return null;
+	}
+
+	/**
+	 * This method is used to read JSON from an {@link InputStream} directly into
+	 * the Custom Class provided in the parameters, without building an
+	 * intermediate String.
+	 * 
+	 * @implNote The stream is not closed by this method.
+	 * 
+	 * @param inputStream
+	 * @param clazz
+	 * @return
+	 */
+	public static <T> T convertToCustomClass(InputStream inputStream, Class<T> clazz) {
+		try {
+			if (Objects.nonNull(inputStream) && Objects.nonNull(clazz)) {
+				return converterFor(clazz).read(inputStream);
+			}
+		} catch (Exception e) {
+			LOGGER.error("Exception in convertToCustomClass", e);
+		}
+		return null;
+	}
+
+	/**
+	 * This method is used to read JSON from an {@link InputStream} directly into
+	 * the given {@link JavaType}. Unlike the other methods of this class, failures
+	 * are thrown so that callers can tell them apart from an empty body.
+	 * 
+	 * @implNote The stream is not closed by this method.
+	 * 
+	 * @param inputStream
+	 * @param javaType
+	 * @return
+	 * @throws IOException
+	 */
+	public static <T> T readValue(InputStream inputStream, JavaType javaType) throws IOException {
+		return readValue(inputStream, javaType, DataFormat.JSON);
+	}
+
+	/**
+	 * This method is used to read the given {@link DataFormat} from an
+	 * {@link InputStream} directly into the given {@link JavaType}. Failures are
+	 * thrown.
+	 * 
+	 * @implNote The stream is not closed by this method.
+	 * 
+	 * @param inputStream
+	 * @param javaType
+	 * @param dataFormat
+	 * @return
+	 * @throws IOException
+	 */
+	public static <T> T readValue(InputStream inputStream, JavaType javaType, DataFormat dataFormat)
+			throws IOException {
+		if (Objects.isNull(dataFormat) || dataFormat == DataFormat.JSON) {
+			return TypeConversionUtils.<T>converterFor(javaType).read(inputStream);
+		}
+		ObjectMapper objectMapper = context.getFormatMapper(dataFormat);
+		try (JsonParser parser = objectMapper.createParser(inputStream)) {
+			parser.disable(JsonParser.Feature.AUTO_CLOSE_SOURCE);
+			return objectMapper.readValue(parser, javaType);
+		}
+	}
+
+	/**
+	 * This method is used to convert bytes of the given {@link DataFormat} to the
+	 * Custom Class provided in the parameters.
+	 * 
+	 * @param data
+	 * @param clazz
+	 * @param dataFormat
+	 * @return
+	 */
+	public static <T> T convertToCustomClass(byte[] data, Class<T> clazz, DataFormat dataFormat) {
+		try {
+			if (Objects.nonNull(data) && Objects.nonNull(clazz)) {
+				if (Objects.isNull(dataFormat) || dataFormat == DataFormat.JSON) {
+					return converterFor(clazz).read(data);
 				}
+				return context.getFormatMapper(dataFormat).readValue(data, clazz);
 			}
 		} catch (Exception e) {
 			LOGGER.error("Exception in convertToCustomClass", e);
@@ -57,6 +184,288 @@ public final class TypeConversionUtils {
 		return null;
 	}
 
+	/**
+	 * This method is used to write the given Object as UTF-8 JSON directly to an
+	 * {@link OutputStream}, without building an intermediate String. Failures are
+	 * thrown, as the stream may already hold part of the output.
+	 * 
+	 * @implNote The stream is flushed but not closed by this method.
+	 * 
+	 * @param outputStream
+	 * @param data
+	 * @throws IOException
+	 */
+	public static void writeValue(OutputStream outputStream, Object data) throws IOException {
+		writeValue(outputStream, data, DataFormat.JSON);
+	}
+
+	/**
+	 * This method is used to write the given Object in the given
+	 * {@link DataFormat} directly to an {@link OutputStream}. Failures are thrown.
+	 * 
+	 * @implNote The stream is flushed but not closed by this method.
+	 * 
+	 * @param outputStream
+	 * @param data
+	 * @param dataFormat
+	 * @throws IOException
+	 */
+	public static void writeValue(OutputStream outputStream, Object data, DataFormat dataFormat) throws IOException {
+		ObjectWriter writer = getWriter(dataFormat);
+		try (JsonGenerator generator = writer.createGenerator(outputStream, JsonEncoding.UTF8)) {
+			generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+			writer.writeValue(generator, data);
+		}
+	}
+
+	/**
+	 * This method is used to convert the given Object to UTF-8 JSON bytes.
+	 * Failures are thrown so that callers can tell them apart from an empty
+	 * body.
+	 * 
+	 * @param data
+	 * @return
+	 * @throws IOException
+	 */
+	public static byte[] writeValueAsBytes(Object data) throws IOException {
+		return writeValueAsBytes(data, DataFormat.JSON);
+	}
+
+	/**
+	 * This method is used to convert the given Object to bytes of the given
+	 * {@link DataFormat}. Failures are thrown.
+	 * 
+	 * @implNote The value is serialized into a buffer reused by the thread, so
+	 *           only the returned array is allocated.
+	 * 
+	 * @param data
+	 * @param dataFormat
+	 * @return
+	 * @throws IOException
+	 */
+	public static byte[] writeValueAsBytes(Object data, DataFormat dataFormat) throws IOException {
+		ReusableOutputBuffer outputBuffer = ReusableOutputBuffer.acquire();
+		try {
+			writeValue(outputBuffer, data, dataFormat);
+			return outputBuffer.toByteArray();
+		} finally {
+			outputBuffer.release();
+		}
+	}
+
+	/**
+	 * This method is used to write the given Object as UTF-8 JSON into a
+	 * {@link ByteBuffer}, from its position. Failures are thrown.
+	 * 
+	 * @param target
+	 * @param data
+	 * @return Number of bytes written
+	 * @throws IOException
+	 * @throws BufferOverflowException if the buffer is too small, in which case
+	 *                                 nothing is written
+	 */
+	public static int writeValue(ByteBuffer target, Object data) throws IOException {
+		return writeValue(target, data, DataFormat.JSON);
+	}
+
+	/**
+	 * This method is used to write the given Object in the given
+	 * {@link DataFormat} into a {@link ByteBuffer}, from its position. Failures
+	 * are thrown.
+	 * 
+	 * @implNote The value is serialized into a buffer reused by the thread, then
+	 *           copied into the target once its size is known.
+	 * 
+	 * @param target
+	 * @param data
+	 * @param dataFormat
+	 * @return Number of bytes written
+	 * @throws IOException
+	 * @throws BufferOverflowException if the buffer is too small, in which case
+	 *                                 nothing is written
+	 */
+	public static int writeValue(ByteBuffer target, Object data, DataFormat dataFormat) throws IOException {
+		ReusableOutputBuffer outputBuffer = ReusableOutputBuffer.acquire();
+		try {
+			writeValue(outputBuffer, data, dataFormat);
+			if (outputBuffer.size() > target.remaining()) {
+				throw new BufferOverflowException();
+			}
+			outputBuffer.copyTo(target);
+			return outputBuffer.size();
+		} finally {
+			outputBuffer.release();
+		}
+	}
+
+	/**
+	 * This method returns the converter of the given class, built once and
+	 * cached. Hot loops can hold it to skip the lookup as well.
+	 * 
+	 * @param clazz
+	 * @return {@link TypeConverter}
+	 */
+	public static <T> TypeConverter<T> converterFor(Class<T> clazz) {
+		return converterFor(getTypeFactory().constructType(clazz));
+	}
+
+	/**
+	 * This method returns the converter of the given {@link JavaType}, built once
+	 * and cached, e.g. for generic types.
+	 * 
+	 * @param javaType
+	 * @return {@link TypeConverter}
+	 */
+	public static <T> TypeConverter<T> converterFor(JavaType javaType) {
+		return context.converterFor(javaType);
+	}
+
+	/**
+	 * This method returns the cached {@link ObjectReader} of the given class.
+	 * 
+	 * @param clazz
+	 * @return {@link ObjectReader}
+	 */
+	public static ObjectReader readerFor(Class<?> clazz) {
+		return converterFor(clazz).getReader();
+	}
+
+	/**
+	 * This method returns the cached {@link ObjectReader} of the given
+	 * {@link JavaType}.
+	 * 
+	 * @param javaType
+	 * @return {@link ObjectReader}
+	 */
+	public static ObjectReader readerFor(JavaType javaType) {
+		return converterFor(javaType).getReader();
+	}
+
+	/**
+	 * This method returns the cached {@link ObjectWriter} of the given class.
+	 * 
+	 * @param clazz
+	 * @return {@link ObjectWriter}
+	 */
+	public static ObjectWriter writerFor(Class<?> clazz) {
+		return converterFor(clazz).getWriter();
+	}
+
+	/**
+	 * This method returns the cached {@link ObjectWriter} of the given
+	 * {@link JavaType}.
+	 * 
+	 * @param javaType
+	 * @return {@link ObjectWriter}
+	 */
+	public static ObjectWriter writerFor(JavaType javaType) {
+		return converterFor(javaType).getWriter();
+	}
+
+	/**
+	 * This method returns the {@link TypeFactory} of the mapper used by this
+	 * class, which can be used to build a {@link JavaType} for generic types.
+	 * 
+	 * @return {@link TypeFactory}
+	 */
+	public static TypeFactory getTypeFactory() {
+		return context.getObjectMapper().getTypeFactory();
+	}
+
+	/**
+	 * This method returns the mapper used by this class, e.g. to check at
+	 * startup that it is the mapper of Spring MVC and which modules it has with
+	 * {@link ObjectMapper#getRegisteredModuleIds()}.
+	 *
+	 * @return {@link ObjectMapper}
+	 */
+	public static ObjectMapper getObjectMapper() {
+		return context.getObjectMapper();
+	}
+
+	/**
+	 * This method replaces the mapper used by this class, e.g. with the mapper
+	 * of Spring MVC at startup, so that serializers and deserializers are built
+	 * and cached once for both. See {@link SharedObjectMapperConfigurer}.
+	 *
+	 * @implNote The mapper is not modified. Unknown properties are ignored and
+	 *           empty beans written by the readers and writers of this class
+	 *           whatever its settings. All the cached converters are dropped, so
+	 *           it should be called before the first conversions rather than
+	 *           between them.
+	 *
+	 * @param objectMapper
+	 */
+	public static void setObjectMapper(ObjectMapper objectMapper) {
+		Objects.requireNonNull(objectMapper, "ObjectMapper is required");
+		context = new ObjectMapperContext(objectMapper);
+		LOGGER.info("TypeConversionUtils uses ObjectMapper {} with modules {}", objectMapper,
+				objectMapper.getRegisteredModuleIds());
+	}
+
+	/**
+	 * This method goes back to the own mapper of this class.
+	 */
+	public static void resetObjectMapper() {
+		context = new ObjectMapperContext(createDefaultObjectMapper());
+	}
+
+	/**
+	 * This method switches this class to a copy of its current mapper, own or
+	 * given to {@link #setObjectMapper(ObjectMapper)}, with the performance
+	 * module of {@link #registerPerformanceModule(ObjectMapper)}.
+	 *
+	 * @implNote The copy keeps the settings, modules and mix-ins of the current
+	 *           mapper, which is not changed, but not its serializer caches. A
+	 *           mapper shared with Spring MVC should rather get the module where
+	 *           it is built, and is kept if it cannot be copied.
+	 *
+	 * @return true if the mapper in use has a performance module
+	 */
+	public static boolean enablePerformanceModule() {
+		ObjectMapper current = getObjectMapper();
+		if (!Collections.disjoint(current.getRegisteredModuleIds(), Arrays.asList(PERFORMANCE_MODULES))) {
+			return true;
+		}
+		ObjectMapper objectMapper;
+		try {
+			objectMapper = current.copy();
+		} catch (IllegalStateException e) {
+			LOGGER.warn("ObjectMapper {} cannot be copied, performance module not enabled", current, e);
+			return false;
+		}
+		if (!registerPerformanceModule(objectMapper)) {
+			return false;
+		}
+		setObjectMapper(objectMapper);
+		return true;
+	}
+
+	/**
+	 * This method registers a module generating accessors to replace reflection
+	 * on the given mapper, Blackbird or else Afterburner, if one is on the
+	 * classpath. Both are optional dependencies of this library.
+	 *
+	 * @implNote Modules only apply to serializers built after them, so it should
+	 *           be called before the mapper is used. Blackbird cannot generate
+	 *           accessors for classes of the unnamed package.
+	 *
+	 * @param objectMapper
+	 * @return true if a module was registered
+	 */
+	public static boolean registerPerformanceModule(ObjectMapper objectMapper) {
+		for (String moduleClass : PERFORMANCE_MODULES) {
+			try {
+				objectMapper.registerModule(
+						(Module) Class.forName(moduleClass).getDeclaredConstructor().newInstance());
+				return true;
+			} catch (ReflectiveOperationException | LinkageError e) {
+				LOGGER.debug("Jackson module {} is not available", moduleClass);
+			}
+		}
+		return false;
+	}
+
 	/**
 	 * This method is used to convert Object to List of Custom Class Objects
 	 * provided in the parameters.
@@ -68,12 +477,8 @@ public final class TypeConversionUtils {
 	public static <T> List<T> convertToListOfObjects(Object data, Class<T> clazz) {
 		try {
 			if (Objects.nonNull(data) && Objects.nonNull(clazz)) {
-				JavaType javaType = OBJECT_MAPPER.getTypeFactory().constructCollectionLikeType(List.class, clazz);
-				if (data instanceof String s) {
-					return OBJECT_MAPPER.readValue(s, javaType);
-				} else {
-					return OBJECT_MAPPER.convertValue(data, javaType);
-				}
+				return TypeConversionUtils.<List<T>>getConverter(context.listConverters, clazz,
+						type -> getTypeFactory().constructCollectionLikeType(List.class, type)).convert(data);
 			}
 		} catch (Exception e) {
 			LOGGER.error("Exception in convertToListOfObjects", e);
@@ -81,6 +486,70 @@ public final class TypeConversionUtils {
 		return Collections.emptyList();
 	}
 
+	/**
+	 * This method is used to convert each element of a list, objects or JSON
+	 * Strings, to the Custom Class provided in the parameters, with the default
+	 * {@link BulkConversionConfig}.
+	 *
+	 * @see #convertAll(List, Class, BulkConversionConfig)
+	 *
+	 * @param data
+	 * @param clazz
+	 * @return
+	 */
+	public static <T> BulkConversionResult<T> convertAll(List<?> data, Class<T> clazz) {
+		return convertAll(data, clazz, BulkConversionConfig.builder().build());
+	}
+
+	/**
+	 * This method is used to convert each element of a list, objects or JSON
+	 * Strings, to the Custom Class provided in the parameters. Lists at or above
+	 * the parallel threshold of the config are converted across its fork/join
+	 * pool.
+	 *
+	 * @implNote Unlike {@link #convertToCustomClass(Object, Class)}, the failure
+	 *           of an element is not logged but returned in the result, by index,
+	 *           and does not stop the other elements.
+	 *
+	 * @param data
+	 * @param clazz
+	 * @param config
+	 * @return {@link BulkConversionResult} with the values in the order of the
+	 *         list
+	 */
+	public static <T> BulkConversionResult<T> convertAll(List<?> data, Class<T> clazz, BulkConversionConfig config) {
+		Objects.requireNonNull(clazz, "Class is required");
+		Objects.requireNonNull(config, "Config is required");
+		if (Objects.isNull(data) || data.isEmpty()) {
+			return new BulkConversionResult<>(Collections.emptyList(), Collections.emptyMap());
+		}
+		List<?> elements = data instanceof RandomAccess ? data : new ArrayList<>(data);
+		return BulkConverter.convert(elements, converterFor(clazz), config);
+	}
+
+	/**
+	 * This method is used to convert each element of a stream, e.g. of raw JSON
+	 * documents, to the Custom Class provided in the parameters. The stream is
+	 * consumed first, then converted like a list.
+	 *
+	 * @implNote The whole stream is collected into a list before the first
+	 *           conversion, so all its elements are held in memory at once, next
+	 *           to their converted values. Unbounded or very large streams should
+	 *           be split into pages by the caller.
+	 *
+	 * @see #convertAll(List, Class, BulkConversionConfig)
+	 *
+	 * @param data
+	 * @param clazz
+	 * @param config
+	 * @return {@link BulkConversionResult} with the values in the order of the
+	 *         stream
+	 */
+	public static <T> BulkConversionResult<T> convertAll(Stream<?> data, Class<T> clazz,
+			BulkConversionConfig config) {
+		return convertAll(Objects.isNull(data) ? null : data.toList(), clazz, config);
+	}
+
 	/**
 	 * This method is used to convert Object to Map of Custom Class Objects provided
 	 * in the parameters.
@@ -92,13 +561,8 @@ public final class TypeConversionUtils {
 	public static <T> Map<T, T> convertToCustomValueMap(Object data, Class<T> valueClazz) {
 		try {
 			if (Objects.nonNull(data)) {
-				JavaType javaType = OBJECT_MAPPER.getTypeFactory().constructMapLikeType(Map.class, String.class,
-						valueClazz);
-				if (data instanceof String s) {
-					return OBJECT_MAPPER.readValue(s, javaType);
-				} else {
-					return OBJECT_MAPPER.convertValue(data, javaType);
-				}
+				return TypeConversionUtils.<Map<T, T>>getConverter(context.valueMapConverters, valueClazz,
+						type -> getTypeFactory().constructMapLikeType(Map.class, String.class, type)).convert(data);
 			}
 		} catch (Exception e) {
 			LOGGER.error("Exception in convertToCustomValueMap", e);
@@ -118,13 +582,10 @@ public final class TypeConversionUtils {
 	public static <K, V> Map<K, V> convertToCustomKeyValueMap(Object data, Class<K> keyClass, Class<V> valueClass) {
 		try {
 			if (Objects.nonNull(data)) {
-				JavaType javaType = OBJECT_MAPPER.getTypeFactory().constructMapLikeType(Map.class, keyClass,
-						valueClass);
-				if (data instanceof String s) {
-					return OBJECT_MAPPER.readValue(s, javaType);
-				} else {
-					return OBJECT_MAPPER.convertValue(data, javaType);
-				}
+				Map<Class<?>, TypeConverter<?>> keyConverters = context.keyValueMapConverters.computeIfAbsent(keyClass,
+						key -> new ConcurrentHashMap<>());
+				return TypeConversionUtils.<Map<K, V>>getConverter(keyConverters, valueClass,
+						type -> getTypeFactory().constructMapLikeType(Map.class, keyClass, type)).convert(data);
 			}
 		} catch (Exception e) {
 			LOGGER.error("Exception in convertToCustomValueMap", e);
@@ -141,13 +602,7 @@ public final class TypeConversionUtils {
 	public static Map<String, Object> convertToMap(Object data) {
 		try {
 			if (Objects.nonNull(data)) {
-				JavaType javaType = OBJECT_MAPPER.getTypeFactory().constructMapLikeType(Map.class, String.class,
-						Object.class);
-				if (data instanceof String s) {
-					return OBJECT_MAPPER.readValue(s, javaType);
-				} else {
-					return OBJECT_MAPPER.convertValue(data, javaType);
-				}
+				return TypeConversionUtils.<Map<String, Object>>converterFor(MAP_TYPE).convert(data);
 			}
 		} catch (Exception e) {
 			LOGGER.error("Exception in convertToMap", e);
@@ -164,13 +619,7 @@ public final class TypeConversionUtils {
 	public static Map<String, String> convertToStringkeyValueMap(Object data) {
 		try {
 			if (Objects.nonNull(data)) {
-				JavaType javaType = OBJECT_MAPPER.getTypeFactory().constructMapLikeType(Map.class, String.class,
-						String.class);
-				if (data instanceof String s) {
-					return OBJECT_MAPPER.readValue(s, javaType);
-				} else {
-					return OBJECT_MAPPER.convertValue(data, javaType);
-				}
+				return TypeConversionUtils.<Map<String, String>>converterFor(STRING_MAP_TYPE).convert(data);
 			}
 		} catch (Exception e) {
 			LOGGER.error("Exception in convertToStringkeyValueMap", e);
@@ -187,7 +636,7 @@ public final class TypeConversionUtils {
 	public static String convertObjectToString(Object data) {
 		try {
 			if (Objects.nonNull(data)) {
-				return OBJECT_MAPPER.writeValueAsString(data);
+				return context.getWriter().writeValueAsString(data);
 			}
 		} catch (Exception e) {
 			LOGGER.error("Exception in convertObjectToString", e);
@@ -195,6 +644,24 @@ public final class TypeConversionUtils {
 		return StringUtils.EMPTY;
 	}
 
+	/**
+	 * This method is used to convert JSON objects to UTF-8 bytes, without the
+	 * intermediate String of {@link #convertObjectToString(Object)}.
+	 * 
+	 * @param data
+	 * @return
+	 */
+	public static byte[] convertObjectToBytes(Object data) {
+		try {
+			if (Objects.nonNull(data)) {
+				return writeValueAsBytes(data, DataFormat.JSON);
+			}
+		} catch (Exception e) {
+			LOGGER.error("Exception in convertObjectToBytes", e);
+		}
+		return ArrayUtils.EMPTY_BYTE_ARRAY;
+	}
+
 	/**
 	 * This method is used to convert Object to a list of Map(String, Object).
 	 * 
@@ -204,15 +671,7 @@ public final class TypeConversionUtils {
 	public static List<Map<String, Object>> convertToListOfMap(Object data) {
 		try {
 			if (Objects.nonNull(data)) {
-				JavaType javaMapType = OBJECT_MAPPER.getTypeFactory().constructMapLikeType(Map.class, String.class,
-						Object.class);
-				JavaType javaListType = OBJECT_MAPPER.getTypeFactory().constructCollectionLikeType(List.class,
-						javaMapType);
-				if (data instanceof String s) {
-					return OBJECT_MAPPER.readValue(s, javaListType);
-				} else {
-					return OBJECT_MAPPER.convertValue(data, javaListType);
-				}
+				return TypeConversionUtils.<List<Map<String, Object>>>converterFor(LIST_OF_MAP_TYPE).convert(data);
 			}
 		} catch (Exception e) {
 			LOGGER.error("Exception in convertToListOfMap", e);
@@ -220,4 +679,225 @@ public final class TypeConversionUtils {
 		return Collections.emptyList();
 	}
 
+	/**
+	 * This method is used to read the values at the given JSON Pointers, e.g.
+	 * /status or /data/items/0/id, from JSON text, without converting the whole
+	 * document to a Map.
+	 *
+	 * @implNote The document is read with the streaming parser, subtrees that no
+	 *           pointer goes through are skipped and reading stops once every
+	 *           pointer is found. Values are maps, lists or scalars, as in
+	 *           {@link #convertToMap(Object)}.
+	 *
+	 * @param json
+	 * @param pointers
+	 * @return Values by pointer, without the pointers not found
+	 */
+	public static Map<String, Object> extractValues(String json, String... pointers) {
+		try {
+			if (StringUtils.isNotEmpty(json) && ArrayUtils.isNotEmpty(pointers)) {
+				try (JsonParser parser = context.getReader().createParser(json)) {
+					return new JsonPointerExtractor(readerFor(Object.class), pointers).extract(parser);
+				}
+			}
+		} catch (Exception e) {
+			LOGGER.error("Exception in extractValues", e);
+		}
+		return Collections.emptyMap();
+	}
+
+	/**
+	 * This method is used to read the values at the given JSON Pointers from
+	 * UTF-8 JSON bytes.
+	 *
+	 * @see #extractValues(String, String...)
+	 *
+	 * @param json
+	 * @param pointers
+	 * @return Values by pointer, without the pointers not found
+	 */
+	public static Map<String, Object> extractValues(byte[] json, String... pointers) {
+		try {
+			if (ArrayUtils.isNotEmpty(json) && ArrayUtils.isNotEmpty(pointers)) {
+				try (JsonParser parser = context.getReader().createParser(json)) {
+					return new JsonPointerExtractor(readerFor(Object.class), pointers).extract(parser);
+				}
+			}
+		} catch (Exception e) {
+			LOGGER.error("Exception in extractValues", e);
+		}
+		return Collections.emptyMap();
+	}
+
+	/**
+	 * This method is used to read the values at the given JSON Pointers from an
+	 * {@link InputStream}, reading no further than the last of them.
+	 *
+	 * @see #extractValues(String, String...)
+	 *
+	 * @implNote The stream is not closed by this method.
+	 *
+	 * @param inputStream
+	 * @param pointers
+	 * @return Values by pointer, without the pointers not found
+	 */
+	public static Map<String, Object> extractValues(InputStream inputStream, String... pointers) {
+		try {
+			if (Objects.nonNull(inputStream) && ArrayUtils.isNotEmpty(pointers)) {
+				try (JsonParser parser = context.getReader().createParser(inputStream)) {
+					parser.disable(JsonParser.Feature.AUTO_CLOSE_SOURCE);
+					return new JsonPointerExtractor(readerFor(Object.class), pointers).extract(parser);
+				}
+			}
+		} catch (Exception e) {
+			LOGGER.error("Exception in extractValues", e);
+		}
+		return Collections.emptyMap();
+	}
+
+	/**
+	 * This method is used to read the value at one JSON Pointer from JSON text.
+	 *
+	 * @see #extractValues(String, String...)
+	 *
+	 * @param json
+	 * @param pointer
+	 * @return Value, null if not found
+	 */
+	public static Object extractValue(String json, String pointer) {
+		return extractValues(json, pointer).get(pointer);
+	}
+
+	/**
+	 * This method is used to read a JSON array, or newline-delimited JSON, from
+	 * an {@link InputStream} as a lazy {@link Stream} of the given class. Records
+	 * are read one at a time as the stream is consumed, so memory does not
+	 * depend on the size of the input.
+	 * 
+	 * @implNote The input stream is not closed by this method nor by the
+	 *           returned stream. Invalid records are thrown as
+	 *           {@link com.fasterxml.jackson.databind.RuntimeJsonMappingException}
+	 *           when reached.
+	 * 
+	 * @param inputStream
+	 * @param clazz
+	 * @return
+	 * @throws IOException
+	 */
+	public static <T> Stream<T> streamValues(InputStream inputStream, Class<T> clazz) throws IOException {
+		return toStream(readerFor(clazz).without(JsonParser.Feature.AUTO_CLOSE_SOURCE).readValues(inputStream));
+	}
+
+	/**
+	 * This method is used to read a JSON array, or newline-delimited JSON, from a
+	 * {@link Reader} as a lazy {@link Stream} of the given class.
+	 * 
+	 * @implNote The reader is not closed by this method nor by the returned
+	 *           stream.
+	 * 
+	 * @param reader
+	 * @param clazz
+	 * @return
+	 * @throws IOException
+	 */
+	public static <T> Stream<T> streamValues(Reader reader, Class<T> clazz) throws IOException {
+		return toStream(readerFor(clazz).without(JsonParser.Feature.AUTO_CLOSE_SOURCE).readValues(reader));
+	}
+
+	/**
+	 * This method is used to read a file holding a JSON array, or
+	 * newline-delimited JSON, as a lazy {@link Stream} of the given class.
+	 * 
+	 * @implNote The file is closed when the returned stream is closed, so it
+	 *           should be used with try-with-resources.
+	 * 
+	 * @param path
+	 * @param clazz
+	 * @return
+	 * @throws IOException
+	 */
+	public static <T> Stream<T> streamValues(Path path, Class<T> clazz) throws IOException {
+		InputStream inputStream = Files.newInputStream(path);
+		try {
+			return toStream(readerFor(clazz).readValues(inputStream));
+		} catch (IOException | RuntimeException e) {
+			inputStream.close();
+			throw e;
+		}
+	}
+
+	/**
+	 * This method is used to group a stream into lists of the given size, e.g. to
+	 * feed bulk writes from {@link #streamValues(InputStream, Class)}. The last
+	 * list holds the remaining elements.
+	 * 
+	 * @implNote Closing the returned stream closes the given one.
+	 * 
+	 * @param stream
+	 * @param batchSize
+	 * @return
+	 */
+	public static <T> Stream<List<T>> batch(Stream<T> stream, int batchSize) {
+		if (batchSize < 1) {
+			throw new IllegalArgumentException("Batch size must be positive : " + batchSize);
+		}
+		Iterator<T> iterator = stream.iterator();
+		Iterator<List<T>> batches = new Iterator<>() {
+
+			@Override
+			public boolean hasNext() {
+				return iterator.hasNext();
+			}
+
+			@Override
+			public List<T> next() {
+				if (!iterator.hasNext()) {
+					throw new NoSuchElementException();
+				}
+				List<T> batch = new ArrayList<>(batchSize);
+				while (batch.size() < batchSize && iterator.hasNext()) {
+					batch.add(iterator.next());
+				}
+				return batch;
+			}
+
+		};
+		return StreamSupport.stream(Spliterators.spliteratorUnknownSize(batches, Spliterator.ORDERED), false)
+				.onClose(stream::close);
+	}
+
+	private static <T> Stream<T> toStream(MappingIterator<T> iterator) {
+		return StreamSupport.stream(Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED), false)
+				.onClose(() -> {
+					try {
+						iterator.close();
+					} catch (IOException e) {
+						throw new UncheckedIOException(e);
+					}
+				});
+	}
+
+	@SuppressWarnings("unchecked")
+	private static <T> TypeConverter<T> getConverter(Map<Class<?>, TypeConverter<?>> converters, Class<?> clazz,
+			Function<Class<?>, JavaType> typeFunction) {
+		TypeConverter<?> converter = converters.get(clazz);
+		if (Objects.isNull(converter)) {
+			converter = converters.computeIfAbsent(clazz, key -> converterFor(typeFunction.apply(key)));
+		}
+		return (TypeConverter<T>) converter;
+	}
+
+	private static ObjectWriter getWriter(DataFormat dataFormat) {
+		ObjectMapperContext currentContext = context;
+		if (Objects.isNull(dataFormat) || dataFormat == DataFormat.JSON) {
+			return currentContext.getWriter();
+		}
+		return currentContext.getFormatMapper(dataFormat).writer();
+	}
+
+	private static ObjectMapper createDefaultObjectMapper() {
+		return new ObjectMapper().disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+				.disable(SerializationFeature.FAIL_ON_EMPTY_BEANS);
+	}
+
 }
@@ -0,0 +1,152 @@
+package com.custom.common.utilities.convertors;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Objects;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+
+/**
+ * This class converts JSON and objects to one target type, with the
+ * {@link ObjectReader} and {@link ObjectWriter} of the type prebuilt. It is
+ * returned by {@link TypeConversionUtils#converterFor(Class)} and can be held
+ * by hot loops.
+ *
+ * @implNote Instances are immutable and thread-safe, and cached per type by
+ *           {@link TypeConversionUtils}. Values are written as the type of the
+ *           converter, so properties only declared by subclasses are left out.
+ *           Failures are thrown, unlike the methods of
+ *           {@link TypeConversionUtils}.
+ *
+ * @author Abhijeet
+ *
+ */
+public final class TypeConverter<T> {
+
+	private final ObjectMapper objectMapper;
+	private final JavaType javaType;
+	private final ObjectReader reader;
+	private final ObjectWriter writer;
+	// Writes the runtime type of values to be converted, like convertValue.
+	private final ObjectWriter valueWriter;
+	private final boolean beanMapping;
+
+	TypeConverter(ObjectMapper objectMapper, ObjectReader reader, ObjectWriter writer, JavaType javaType,
+			boolean beanMapping) {
+		this.objectMapper = objectMapper;
+		this.javaType = javaType;
+		this.reader = reader.forType(javaType);
+		this.writer = writer.forType(javaType);
+		this.valueWriter = writer;
+		this.beanMapping = beanMapping;
+	}
+
+	public JavaType getJavaType() {
+		return javaType;
+	}
+
+	public ObjectReader getReader() {
+		return reader;
+	}
+
+	public ObjectWriter getWriter() {
+		return writer;
+	}
+
+	/**
+	 * This method reads the given JSON.
+	 *
+	 * @param content - JSON text
+	 *
+	 * @return Value of the type
+	 *
+	 * @throws IOException
+	 */
+	public T read(String content) throws IOException {
+		return reader.readValue(content);
+	}
+
+	/**
+	 * This method reads the given UTF-8 JSON bytes.
+	 *
+	 * @param content - JSON bytes
+	 *
+	 * @return Value of the type
+	 *
+	 * @throws IOException
+	 */
+	public T read(byte[] content) throws IOException {
+		return reader.readValue(content);
+	}
+
+	/**
+	 * This method reads JSON from the stream, which is not closed.
+	 *
+	 * @param inputStream {@link InputStream}
+	 *
+	 * @return Value of the type
+	 *
+	 * @throws IOException
+	 */
+	public T read(InputStream inputStream) throws IOException {
+		try (JsonParser parser = reader.createParser(inputStream)) {
+			parser.disable(JsonParser.Feature.AUTO_CLOSE_SOURCE);
+			return reader.readValue(parser);
+		}
+	}
+
+	/**
+	 * This method converts the data to the type, reading it as JSON if it is a
+	 * String.
+	 *
+	 * @implNote Beans, and collections of beans, are copied by {@link BeanMapper}
+	 *           when it can map the classes, without going through JSON tokens.
+	 *           Other objects are written to a token buffer and read back, like
+	 *           {@link ObjectMapper#convertValue(Object, JavaType)} but with the
+	 *           settings of the reader and writer of the converter.
+	 *
+	 * @param data - JSON text or object
+	 *
+	 * @return Value of the type
+	 *
+	 * @throws IOException
+	 */
+	@SuppressWarnings("unchecked")
+	public T convert(Object data) throws IOException {
+		if (data instanceof String s) {
+			return read(s);
+		}
+		if (Objects.isNull(data)) {
+			return null;
+		}
+		if (beanMapping) {
+			Object mapped = BeanMapper.map(data, javaType);
+			if (Objects.nonNull(mapped)) {
+				return (T) mapped;
+			}
+		}
+		TokenBuffer buffer = new TokenBuffer(objectMapper, false);
+		if (reader.isEnabled(DeserializationFeature.USE_BIG_DECIMAL_FOR_FLOATS)) {
+			buffer.forceUseOfBigDecimal(true);
+		}
+		valueWriter.writeValue(buffer, data);
+		try (JsonParser parser = buffer.asParser()) {
+			return reader.readValue(parser);
+		}
+	}
+
+	public String writeAsString(T value) throws IOException {
+		return writer.writeValueAsString(value);
+	}
+
+	public byte[] writeAsBytes(T value) throws IOException {
+		return writer.writeValueAsBytes(value);
+	}
+
+}
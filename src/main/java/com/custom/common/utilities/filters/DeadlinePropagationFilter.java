@@ -0,0 +1,59 @@
+package com.custom.common.utilities.filters;
+
+import java.io.IOException;
+
+import org.apache.commons.lang3.math.NumberUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import com.custom.common.utilities.constants.Constants;
+import com.custom.common.utilities.httpclient.RequestDeadline;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * This class is used to take the time budget sent by the caller in the
+ * {@value Constants#DEADLINE_HEADER} header and apply it to the outbound calls
+ * made while processing the request.
+ * 
+ * @implNote It extends {@link OncePerRequestFilter}.
+ * @implSpec The deadline is kept in {@link RequestDeadline} for the request
+ *           thread. A request which arrives with no budget left is answered
+ *           with 504 at once, instead of doing work nobody waits for.
+ * 
+ * @author Abhijeet
+ *
+ */
+@Component
+public class DeadlinePropagationFilter extends OncePerRequestFilter {
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(DeadlinePropagationFilter.class);
+
+	@Override
+	protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+			throws ServletException, IOException {
+		long remainingMillis = NumberUtils.toLong(request.getHeader(Constants.DEADLINE_HEADER), -1L);
+		if (remainingMillis < 0) {
+			filterChain.doFilter(request, response);
+			return;
+		}
+		if (remainingMillis == 0) {
+			LOGGER.info("Request {} arrived after its deadline", request.getRequestURI());
+			response.sendError(HttpServletResponse.SC_GATEWAY_TIMEOUT, "Request deadline exceeded");
+			return;
+		}
+
+		RequestDeadline.set(remainingMillis);
+		try {
+			filterChain.doFilter(request, response);
+		} finally {
+			RequestDeadline.clear();
+		}
+	}
+
+}
@@ -0,0 +1,395 @@
+package com.custom.common.utilities.httpclient;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Future;
+
+import org.apache.commons.collections4.MapUtils;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.http.HttpEntity;
+import org.apache.http.HttpResponse;
+import org.apache.http.client.methods.HttpDelete;
+import org.apache.http.client.methods.HttpGet;
+import org.apache.http.client.methods.HttpPost;
+import org.apache.http.client.methods.HttpPut;
+import org.apache.http.client.methods.HttpUriRequest;
+import org.apache.http.concurrent.FutureCallback;
+import org.apache.http.entity.ContentType;
+import org.apache.http.entity.mime.MultipartEntityBuilder;
+import org.apache.http.impl.nio.client.CloseableHttpAsyncClient;
+import org.apache.http.nio.entity.NByteArrayEntity;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.custom.common.utilities.response.WebserviceResponse;
+
+/**
+ * This class is used to send non-blocking HTTP requests to remote or internal
+ * APIs. It mirrors the methods of {@link HttpUtils} but returns a
+ * {@link CompletableFuture} instead of blocking the calling thread.
+ *
+ * @implNote It uses the shared {@link CloseableHttpAsyncClient} provided by
+ *           {@link HttpClientManager}, which runs on a few NIO dispatcher
+ *           threads.
+ * @implSpec The future completes exceptionally when the call fails. If the
+ *           future is cancelled or completed by the caller before the exchange
+ *           is finished (for example using
+ *           {@link CompletableFuture#orTimeout(long, java.util.concurrent.TimeUnit)}),
+ *           the underlying exchange is aborted. Dependent stages registered
+ *           without an executor run on the dispatcher threads, so blocking work
+ *           should use the async variants of {@link CompletableFuture}.
+ *
+ * @author Abhijeet
+ *
+ */
+public final class AsyncHttpUtils {
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(AsyncHttpUtils.class);
+
+	private AsyncHttpUtils() {
+		throw new IllegalStateException("AsyncHttpUtils class cannot be instantiated");
+	}
+
+	/**
+	 * This method is used to send a GET request to an external URL.
+	 *
+	 * @param url     - Complete URL of API to be called
+	 * @param headers - Map of headers required to be sent
+	 *
+	 * @return {@link CompletableFuture} of {@link WebserviceResponse}
+	 */
+	public static CompletableFuture<WebserviceResponse> sendGetRequest(String url, Map<String, Object> headers) {
+		try {
+			LOGGER.info("ASYNC GET REQUEST: URL - {}", url);
+			HttpGet getRequest = new HttpGet(url);
+
+			// Set Headers
+			if (MapUtils.isNotEmpty(headers)) {
+				getRequest.setHeaders(CommonHttpFunctions.getHeaders(headers));
+			}
+
+			return execute(getRequest, url);
+		} catch (Exception e) {
+			LOGGER.info("Exception in async sendGetRequest : ", e);
+			return CompletableFuture.failedFuture(e);
+		}
+	}
+
+	/**
+	 * This method is used to send a GET request to an external URL with parameters.
+	 *
+	 * @param url     - Complete URL of API to be called
+	 * @param headers - Map of headers required to be sent
+	 * @param params  - List of request parameters to be sent
+	 *
+	 * @return {@link CompletableFuture} of {@link WebserviceResponse}
+	 */
+	public static CompletableFuture<WebserviceResponse> sendGetRequest(String url, Map<String, Object> headers,
+			Map<String, String> params) {
+		try {
+			LOGGER.info("ASYNC GET REQUEST: URL - {}", url);
+
+			// Set Request Parameters
+			HttpGet getRequest = new HttpGet(CommonHttpFunctions.getUriWithParams(url, params));
+
+			// Set Headers
+			if (MapUtils.isNotEmpty(headers)) {
+				getRequest.setHeaders(CommonHttpFunctions.getHeaders(headers));
+			}
+
+			return execute(getRequest, url);
+		} catch (Exception e) {
+			LOGGER.info("Exception in async sendGetRequest : ", e);
+			return CompletableFuture.failedFuture(e);
+		}
+	}
+
+	/**
+	 * This method is used to send a POST request to an external URL.
+	 *
+	 * @param url     - Complete URL of API to be called
+	 * @param headers - Map of headers required to be sent
+	 * @param request - Request body
+	 *
+	 * @return {@link CompletableFuture} of {@link WebserviceResponse}
+	 */
+	public static CompletableFuture<WebserviceResponse> sendPostRequest(String url, Map<String, Object> headers,
+			Object request) {
+		try {
+			LOGGER.info("ASYNC POST REQUEST: URL - {}", url);
+			HttpPost postRequest = new HttpPost(url);
+
+			// Set Request
+			if (Objects.nonNull(request)) {
+				postRequest.setEntity(CommonHttpFunctions.convertRequestToBufferedEntity(request, postRequest.getURI()));
+			}
+
+			// Set Headers
+			if (MapUtils.isNotEmpty(headers)) {
+				postRequest.setHeaders(CommonHttpFunctions.getHeaders(headers));
+			}
+
+			return execute(postRequest, url);
+		} catch (Exception e) {
+			LOGGER.info("Exception in async sendPostRequest : ", e);
+			return CompletableFuture.failedFuture(e);
+		}
+	}
+
+	/**
+	 * This method is used to send a PUT request to an external URL.
+	 *
+	 * @param url     - Complete URL of API to be called
+	 * @param headers - Map of headers required to be sent
+	 * @param request - Request body
+	 *
+	 * @return {@link CompletableFuture} of {@link WebserviceResponse}
+	 */
+	public static CompletableFuture<WebserviceResponse> sendPutRequest(String url, Map<String, Object> headers,
+			Object request) {
+		try {
+			LOGGER.info("ASYNC PUT REQUEST: URL - {}", url);
+			HttpPut putRequest = new HttpPut(url);
+
+			// Set Request Body
+			if (Objects.nonNull(request)) {
+				putRequest.setEntity(CommonHttpFunctions.convertRequestToBufferedEntity(request, putRequest.getURI()));
+			}
+
+			// Set Headers
+			if (MapUtils.isNotEmpty(headers)) {
+				putRequest.setHeaders(CommonHttpFunctions.getHeaders(headers));
+			}
+
+			return execute(putRequest, url);
+		} catch (Exception e) {
+			LOGGER.info("Exception in async sendPutRequest : ", e);
+			return CompletableFuture.failedFuture(e);
+		}
+	}
+
+	/**
+	 * This method is used to send a DELETE request to an external URL.
+	 *
+	 * @param url     - Complete URL of API to be called
+	 * @param headers - Map of headers required to be sent
+	 *
+	 * @return {@link CompletableFuture} of {@link WebserviceResponse}
+	 */
+	public static CompletableFuture<WebserviceResponse> sendDeleteRequest(String url, Map<String, Object> headers) {
+		try {
+			LOGGER.info("ASYNC DELETE REQUEST: URL - {}", url);
+			HttpDelete deleteRequest = new HttpDelete(url);
+
+			// Set Headers
+			if (MapUtils.isNotEmpty(headers)) {
+				deleteRequest.setHeaders(CommonHttpFunctions.getHeaders(headers));
+			}
+
+			return execute(deleteRequest, url);
+		} catch (Exception e) {
+			LOGGER.info("Exception in async sendDeleteRequest : ", e);
+			return CompletableFuture.failedFuture(e);
+		}
+	}
+
+	/**
+	 * This method is used to send a DELETE request to an external URL with request
+	 * parameters.
+	 *
+	 * @param url     - Complete URL of API to be called
+	 * @param headers - Map of headers required to be sent
+	 * @param params  - List of request parameters to be sent
+	 *
+	 * @return {@link CompletableFuture} of {@link WebserviceResponse}
+	 */
+	public static CompletableFuture<WebserviceResponse> sendDeleteRequest(String url, Map<String, Object> headers,
+			Map<String, String> params) {
+		try {
+			LOGGER.info("ASYNC DELETE REQUEST: URL - {}", url);
+
+			// Set Request Parameters
+			HttpDelete deleteRequest = new HttpDelete(CommonHttpFunctions.getUriWithParams(url, params));
+
+			// Set Headers
+			if (MapUtils.isNotEmpty(headers)) {
+				deleteRequest.setHeaders(CommonHttpFunctions.getHeaders(headers));
+			}
+
+			return execute(deleteRequest, url);
+		} catch (Exception e) {
+			LOGGER.info("Exception in async sendDeleteRequest : ", e);
+			return CompletableFuture.failedFuture(e);
+		}
+	}
+
+	/**
+	 * This method is used to send a MULTIPART POST request to an external URL with
+	 * the request body and using FileInputStream.
+	 *
+	 * @implNote The multipart body is buffered in memory before it is handed to
+	 *           the NIO client, so this is meant for small files.
+	 *
+	 * @param url         - Complete URL of API to be called
+	 * @param headers     - Map of headers required to be sent
+	 * @param requestBody - Request body
+	 * @param fileStream  - FileInputStream of the file to be sent
+	 * @param fileName    - Name of the file
+	 *
+	 * @return {@link CompletableFuture} of {@link WebserviceResponse}
+	 */
+	public static CompletableFuture<WebserviceResponse> sendMultipartRequest(String url, Map<String, Object> headers,
+			Map<String, Object> requestBody, FileInputStream fileStream, String fileName) {
+		try {
+			LOGGER.info("ASYNC MULTIPART POST REQUEST: URL - {}", url);
+			HttpPost multipartRequest = new HttpPost(url);
+
+			MultipartEntityBuilder builder = MultipartEntityBuilder.create();
+
+			// Set Filestream
+			if (fileStream != null && StringUtils.isNotBlank(fileName)) {
+				builder.addBinaryBody("file", fileStream, ContentType.DEFAULT_BINARY, fileName);
+			}
+
+			// Set Request Body
+			if (MapUtils.isNotEmpty(requestBody)) {
+				requestBody.forEach((key, value) -> {
+					if (value != null) {
+						builder.addTextBody(key, String.valueOf(value), ContentType.DEFAULT_BINARY);
+					}
+				});
+			}
+
+			multipartRequest.setEntity(bufferEntity(builder.build()));
+
+			// Set Headers
+			if (MapUtils.isNotEmpty(headers)) {
+				multipartRequest.setHeaders(CommonHttpFunctions.getHeaders(headers));
+			}
+
+			return execute(multipartRequest, url);
+		} catch (Exception e) {
+			LOGGER.info("Exception in async sendMultipartRequest : ", e);
+			return CompletableFuture.failedFuture(e);
+		}
+	}
+
+	/**
+	 * This method is used to send a MULTIPART POST request to an external URL with
+	 * the request body and using File.
+	 *
+	 * @implNote The multipart body is buffered in memory before it is handed to
+	 *           the NIO client, so this is meant for small files.
+	 *
+	 * @param url         - Complete URL of API to be called
+	 * @param headers     - Map of headers required to be sent
+	 * @param requestBody - Request body
+	 * @param file        - File to be sent
+	 *
+	 * @return {@link CompletableFuture} of {@link WebserviceResponse}
+	 */
+	public static CompletableFuture<WebserviceResponse> sendMultipartRequest(String url, Map<String, Object> headers,
+			Map<String, String> requestBody, File file) {
+		try {
+			LOGGER.info("ASYNC MULTIPART POST REQUEST: URL - {}", url);
+			HttpPost multipartRequest = new HttpPost(url);
+
+			MultipartEntityBuilder builder = MultipartEntityBuilder.create();
+
+			// Set File
+			if (Objects.nonNull(file)) {
+				builder.addBinaryBody("file", file, ContentType.DEFAULT_BINARY, file.getName());
+			}
+
+			// Set Request Body
+			if (MapUtils.isNotEmpty(requestBody)) {
+				requestBody.forEach((key, value) -> {
+					if (value != null) {
+						builder.addTextBody(key, String.valueOf(value), ContentType.DEFAULT_BINARY);
+					}
+				});
+			}
+
+			multipartRequest.setEntity(bufferEntity(builder.build()));
+
+			// Set Headers
+			if (MapUtils.isNotEmpty(headers)) {
+				multipartRequest.setHeaders(CommonHttpFunctions.getHeaders(headers));
+			}
+
+			return execute(multipartRequest, url);
+		} catch (Exception e) {
+			LOGGER.info("Exception in async sendMultipartRequest : ", e);
+			return CompletableFuture.failedFuture(e);
+		}
+	}
+
+	/**
+	 * This method executes the request on the shared async HTTP client and
+	 * converts the response into {@link WebserviceResponse} using
+	 * {@link CommonHttpFunctions#prepareResponse(HttpResponse, String)}.
+	 *
+	 * @param request {@link HttpUriRequest}
+	 * @param url
+	 *
+	 * @return {@link CompletableFuture} of {@link WebserviceResponse}
+	 */
+	private static CompletableFuture<WebserviceResponse> execute(HttpUriRequest request, String url) {
+		CompletableFuture<WebserviceResponse> result = new CompletableFuture<>();
+		Future<HttpResponse> exchange = HttpClientManager.getHttpAsyncClient().execute(request,
+				new FutureCallback<HttpResponse>() {
+
+					@Override
+					public void completed(HttpResponse httpResponse) {
+						try {
+							result.complete(CommonHttpFunctions.prepareResponse(httpResponse, url));
+						} catch (Exception e) {
+							result.completeExceptionally(e);
+						}
+					}
+
+					@Override
+					public void failed(Exception ex) {
+						LOGGER.info("Exception in async request to URL = {} : ", url, ex);
+						result.completeExceptionally(ex);
+					}
+
+					@Override
+					public void cancelled() {
+						result.cancel(false);
+					}
+				});
+
+		// Abort the exchange when the caller cancels or times out the future.
+		result.whenComplete((response, throwable) -> {
+			if (throwable != null && !exchange.isDone()) {
+				exchange.cancel(true);
+			}
+		});
+		return result;
+	}
+
+	/**
+	 * This method writes the given entity into memory, because the NIO client can
+	 * only stream entities which provide their content directly.
+	 *
+	 * @param entity {@link HttpEntity}
+	 *
+	 * @return {@link NByteArrayEntity} with the same content type
+	 *
+	 * @throws IOException
+	 */
+	private static HttpEntity bufferEntity(HttpEntity entity) throws IOException {
+		ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+		entity.writeTo(outputStream);
+		NByteArrayEntity bufferedEntity = new NByteArrayEntity(outputStream.toByteArray());
+		bufferedEntity.setContentType(entity.getContentType());
+		return bufferedEntity;
+	}
+
+}
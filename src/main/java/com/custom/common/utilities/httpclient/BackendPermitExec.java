@@ -0,0 +1,60 @@
+package com.custom.common.utilities.httpclient;
+
+import java.io.IOException;
+
+import org.apache.http.HttpException;
+import org.apache.http.client.methods.CloseableHttpResponse;
+import org.apache.http.client.methods.HttpExecutionAware;
+import org.apache.http.client.methods.HttpRequestWrapper;
+import org.apache.http.client.protocol.HttpClientContext;
+import org.apache.http.conn.routing.HttpRoute;
+import org.apache.http.impl.execchain.ClientExecChain;
+
+/**
+ * This class takes the permits of the resilience protections of a request,
+ * given in its context by {@link ResilientRequestExecutor}, just before the
+ * request is sent to the host.
+ *
+ * @implNote It sits below the response cache in the execution chain, so
+ *           responses served from the cache take no rate limit, bulkhead nor
+ *           circuit breaker permit and are not counted as calls to the host.
+ *           Requests without a permit in their context, like the background
+ *           revalidations of the cache, are sent as they are.
+ *
+ * @author Abhijeet
+ *
+ */
+final class BackendPermitExec implements ClientExecChain {
+
+	static final String PERMIT_ATTRIBUTE = "com.custom.common.utilities.httpclient.backend-permit";
+
+	private final ClientExecChain backend;
+
+	BackendPermitExec(ClientExecChain backend) {
+		this.backend = backend;
+	}
+
+	@Override
+	public CloseableHttpResponse execute(HttpRoute route, HttpRequestWrapper request, HttpClientContext context,
+			HttpExecutionAware execAware) throws IOException, HttpException {
+		BackendPermit permit = context.getAttribute(PERMIT_ATTRIBUTE, BackendPermit.class);
+		if (permit != null) {
+			permit.acquire();
+		}
+		return backend.execute(route, request, context, execAware);
+	}
+
+	/**
+	 * Permits of a request, taken when it leaves for the host.
+	 */
+	interface BackendPermit {
+
+		/**
+		 * @throws HttpRequestRejectedException if a protection rejects the request
+		 * @throws IOException                  if interrupted while waiting
+		 */
+		void acquire() throws IOException;
+
+	}
+
+}
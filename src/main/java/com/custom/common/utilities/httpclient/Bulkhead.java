@@ -0,0 +1,54 @@
+package com.custom.common.utilities.httpclient;
+
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * This class limits the concurrent calls to a host based on its
+ * {@link BulkheadConfig}.
+ *
+ * @author Abhijeet
+ *
+ */
+final class Bulkhead {
+
+	private final BulkheadConfig config;
+	private final Semaphore permits;
+
+	Bulkhead(BulkheadConfig config) {
+		this.config = config;
+		this.permits = new Semaphore(config.getMaxConcurrentCalls());
+	}
+
+	BulkheadConfig getConfig() {
+		return config;
+	}
+
+	/**
+	 * This method takes a slot, waiting for one up to the configured time.
+	 *
+	 * @param timeoutMillis - Longest wait allowed by the caller, e.g. the time
+	 *                      left until its deadline, if shorter than the
+	 *                      configured one
+	 *
+	 * @return True if the request may be sent
+	 *
+	 * @throws InterruptedException
+	 */
+	boolean tryAcquire(long timeoutMillis) throws InterruptedException {
+		long waitMillis = Math.min(config.getMaxWaitMillis(), timeoutMillis);
+		if (waitMillis <= 0) {
+			return permits.tryAcquire();
+		}
+		return permits.tryAcquire(waitMillis, TimeUnit.MILLISECONDS);
+	}
+
+	void release() {
+		permits.release();
+	}
+
+	int getAvailableSlots() {
+		return permits.availablePermits();
+	}
+
+}
@@ -0,0 +1,32 @@
+package com.custom.common.utilities.httpclient;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * This class holds the bulkhead settings used by {@link HttpUtils} for a
+ * destination host, which limit the number of concurrent calls to it so that a
+ * slow host cannot hold all the threads of the service.
+ *
+ * @implSpec Set using {@link HttpClientManager#setDefaultBulkheadConfig(BulkheadConfig)}
+ *           or {@link HttpClientManager#setBulkheadConfig(String, BulkheadConfig)}.
+ *           The default configuration does not limit calls.
+ *
+ * @author Abhijeet
+ *
+ */
+@Getter
+@Builder
+@ToString
+public class BulkheadConfig {
+
+	// Maximum calls in flight to the host, 0 for no limit.
+	@Builder.Default
+	private final int maxConcurrentCalls = 0;
+
+	// Time a call waits for a free slot before it is rejected.
+	@Builder.Default
+	private final long maxWaitMillis = 0L;
+
+}
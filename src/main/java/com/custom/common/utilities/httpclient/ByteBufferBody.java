@@ -0,0 +1,66 @@
+package com.custom.common.utilities.httpclient;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+
+import org.apache.http.entity.ContentType;
+import org.apache.http.entity.mime.MIME;
+import org.apache.http.entity.mime.content.AbstractContentBody;
+
+/**
+ * This class is a multipart body part backed by a {@link ByteBuffer}, used by
+ * {@link MultipartRequestBuilder}.
+ *
+ * @implNote The remaining bytes of the buffer are written without changing its
+ *           position, so the part can be written again on a retry. Heap
+ *           buffers are written directly from their array, direct buffers
+ *           through a small chunk.
+ *
+ * @author Abhijeet
+ *
+ */
+final class ByteBufferBody extends AbstractContentBody {
+
+	private static final int CHUNK_SIZE = 8 * 1024;
+
+	private final ByteBuffer content;
+	private final String filename;
+
+	ByteBufferBody(ByteBuffer content, ContentType contentType, String filename) {
+		super(contentType);
+		this.content = content;
+		this.filename = filename;
+	}
+
+	@Override
+	public String getFilename() {
+		return filename;
+	}
+
+	@Override
+	public void writeTo(OutputStream out) throws IOException {
+		ByteBuffer buffer = content.duplicate();
+		if (buffer.hasArray()) {
+			out.write(buffer.array(), buffer.arrayOffset() + buffer.position(), buffer.remaining());
+			return;
+		}
+		byte[] chunk = new byte[Math.min(CHUNK_SIZE, buffer.remaining())];
+		while (buffer.hasRemaining()) {
+			int length = Math.min(chunk.length, buffer.remaining());
+			buffer.get(chunk, 0, length);
+			out.write(chunk, 0, length);
+		}
+	}
+
+	@Override
+	public String getTransferEncoding() {
+		return MIME.ENC_BINARY;
+	}
+
+	@Override
+	public long getContentLength() {
+		return content.remaining();
+	}
+
+}
@@ -0,0 +1,275 @@
+package com.custom.common.utilities.httpclient;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * This class is the circuit breaker of a host, based on its
+ * {@link CircuitBreakerConfig}.
+ *
+ * @implNote The breaker is lock-free. Each state is an immutable {@link Phase}
+ *           swapped with compare-and-set, so a transition also replaces the
+ *           sliding window or the half-open trial counters. In closed state,
+ *           calls are counted in per-second buckets of {@link LongAdder}, and
+ *           the rates are only evaluated when a failure or slow call is
+ *           recorded.
+ *
+ * @author Abhijeet
+ *
+ */
+final class CircuitBreaker {
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(CircuitBreaker.class);
+
+	enum State {
+		CLOSED, OPEN, HALF_OPEN
+	}
+
+	private final String host;
+	private final CircuitBreakerConfig config;
+	// Current time in milliseconds, replaced by tests.
+	private final LongSupplier clock;
+	private final AtomicReference<Phase> phase;
+
+	CircuitBreaker(String host, CircuitBreakerConfig config) {
+		this(host, config, System::currentTimeMillis);
+	}
+
+	CircuitBreaker(String host, CircuitBreakerConfig config, LongSupplier clock) {
+		this.host = host;
+		this.config = config;
+		this.clock = clock;
+		this.phase = new AtomicReference<>(closedPhase());
+	}
+
+	CircuitBreakerConfig getConfig() {
+		return config;
+	}
+
+	State getState() {
+		return phase.get().state;
+	}
+
+	/**
+	 * This method tells whether a call would be permitted now, without taking
+	 * the permission, so that a call can be rejected before it waits for other
+	 * permits.
+	 *
+	 * @return False while the circuit is open or the half-open trial calls are
+	 *         taken
+	 */
+	boolean isCallPermitted() {
+		Phase current = phase.get();
+		switch (current.state) {
+		case CLOSED:
+			return true;
+		case OPEN:
+			return clock.getAsLong() - current.openedAtMillis >= config.getWaitDurationInOpenStateMillis();
+		default:
+			return current.trialPermits.get() > 0;
+		}
+	}
+
+	/**
+	 * This method checks whether a call may be sent now.
+	 *
+	 * @return Phase the call belongs to, to be passed to
+	 *         {@link #onResult(Object, boolean, long)}, or null if rejected
+	 */
+	Object tryAcquirePermission() {
+		while (true) {
+			Phase current = phase.get();
+			switch (current.state) {
+			case CLOSED:
+				return current;
+			case OPEN:
+				if (clock.getAsLong() - current.openedAtMillis < config.getWaitDurationInOpenStateMillis()) {
+					return null;
+				}
+				Phase halfOpen = new Phase(State.HALF_OPEN, 0L, null,
+						new AtomicInteger(config.getPermittedCallsInHalfOpenState()));
+				if (phase.compareAndSet(current, halfOpen)) {
+					LOGGER.info("Circuit breaker of {} is half-open", host);
+				}
+				break;
+			default:
+				return current.tryAcquireTrial() ? current : null;
+			}
+		}
+	}
+
+	/**
+	 * This method records the outcome of a call which was permitted.
+	 *
+	 * @param permission     - Value returned by {@link #tryAcquirePermission()}
+	 * @param failed         - True for connection errors and 5xx responses
+	 * @param durationMillis - Duration of the call
+	 */
+	void onResult(Object permission, boolean failed, long durationMillis) {
+		Phase callPhase = (Phase) permission;
+		boolean slow = durationMillis >= config.getSlowCallDurationMillis();
+		if (callPhase.state == State.CLOSED) {
+			callPhase.window.record(failed, slow);
+			if ((failed || slow) && callPhase.window.isThresholdReached(config)) {
+				transition(callPhase, openPhase(), "open");
+			}
+		} else if (callPhase.state == State.HALF_OPEN) {
+			callPhase.trialCalls.increment();
+			if (failed) {
+				callPhase.trialFailures.increment();
+			}
+			if (slow) {
+				callPhase.trialSlowCalls.increment();
+			}
+			long trialCalls = callPhase.trialCalls.sum();
+			if (trialCalls >= config.getPermittedCallsInHalfOpenState()) {
+				boolean reopen = isRateReached(config, trialCalls, callPhase.trialFailures.sum(),
+						callPhase.trialSlowCalls.sum());
+				transition(callPhase, reopen ? openPhase() : closedPhase(), reopen ? "open" : "closed");
+			}
+		}
+	}
+
+	/**
+	 * This method gives back the permission of a call whose outcome says nothing
+	 * about the host, e.g. a call aborted by the caller.
+	 *
+	 * @param permission - Value returned by {@link #tryAcquirePermission()}
+	 */
+	void onIgnored(Object permission) {
+		Phase callPhase = (Phase) permission;
+		if (callPhase.state == State.HALF_OPEN) {
+			callPhase.trialPermits.incrementAndGet();
+		}
+	}
+
+	private void transition(Phase from, Phase to, String stateName) {
+		if (phase.compareAndSet(from, to)) {
+			LOGGER.info("Circuit breaker of {} is {}", host, stateName);
+		}
+	}
+
+	private Phase closedPhase() {
+		return new Phase(State.CLOSED, 0L, new SlidingWindow(config.getSlidingWindowSeconds(), clock), null);
+	}
+
+	private Phase openPhase() {
+		return new Phase(State.OPEN, clock.getAsLong(), null, null);
+	}
+
+	/**
+	 * Tells whether the failure rate or the slow call rate of the calls reaches
+	 * its threshold, each one on its own. A slow call rate threshold of 100 or
+	 * more ignores slow calls.
+	 */
+	private static boolean isRateReached(CircuitBreakerConfig config, long calls, long failures, long slowCalls) {
+		return failures * 100d / calls >= config.getFailureRateThreshold()
+				|| (config.getSlowCallRateThreshold() < 100d
+						&& slowCalls * 100d / calls >= config.getSlowCallRateThreshold());
+	}
+
+	/**
+	 * A state of the breaker with the counters which belong to it.
+	 */
+	private static final class Phase {
+
+		private final State state;
+		private final long openedAtMillis;
+		private final SlidingWindow window;
+		private final AtomicInteger trialPermits;
+		private final LongAdder trialCalls = new LongAdder();
+		private final LongAdder trialFailures = new LongAdder();
+		private final LongAdder trialSlowCalls = new LongAdder();
+
+		private Phase(State state, long openedAtMillis, SlidingWindow window, AtomicInteger trialPermits) {
+			this.state = state;
+			this.openedAtMillis = openedAtMillis;
+			this.window = window;
+			this.trialPermits = trialPermits;
+		}
+
+		private boolean tryAcquireTrial() {
+			while (true) {
+				int permits = trialPermits.get();
+				if (permits <= 0) {
+					return false;
+				}
+				if (trialPermits.compareAndSet(permits, permits - 1)) {
+					return true;
+				}
+			}
+		}
+
+	}
+
+	/**
+	 * Call counts of the last few seconds, kept in one bucket per second.
+	 */
+	private static final class SlidingWindow {
+
+		private final AtomicReferenceArray<Bucket> buckets;
+		private final LongSupplier clock;
+
+		private SlidingWindow(int seconds, LongSupplier clock) {
+			this.buckets = new AtomicReferenceArray<>(Math.max(1, seconds));
+			this.clock = clock;
+		}
+
+		private void record(boolean failed, boolean slow) {
+			long second = clock.getAsLong() / 1_000L;
+			int index = (int) Math.floorMod(second, (long) buckets.length());
+			Bucket bucket = buckets.get(index);
+			if (bucket == null || bucket.second != second) {
+				Bucket newBucket = new Bucket(second);
+				bucket = buckets.compareAndSet(index, bucket, newBucket) ? newBucket : buckets.get(index);
+			}
+			bucket.calls.increment();
+			if (failed) {
+				bucket.failures.increment();
+			}
+			if (slow) {
+				bucket.slowCalls.increment();
+			}
+		}
+
+		private boolean isThresholdReached(CircuitBreakerConfig config) {
+			long oldestSecond = clock.getAsLong() / 1_000L - buckets.length();
+			long calls = 0L;
+			long failures = 0L;
+			long slowCalls = 0L;
+			for (int index = 0; index < buckets.length(); index++) {
+				Bucket bucket = buckets.get(index);
+				if (bucket != null && bucket.second > oldestSecond) {
+					calls += bucket.calls.sum();
+					failures += bucket.failures.sum();
+					slowCalls += bucket.slowCalls.sum();
+				}
+			}
+			if (calls < config.getMinimumNumberOfCalls()) {
+				return false;
+			}
+			return isRateReached(config, calls, failures, slowCalls);
+		}
+
+	}
+
+	private static final class Bucket {
+
+		private final long second;
+		private final LongAdder calls = new LongAdder();
+		private final LongAdder failures = new LongAdder();
+		private final LongAdder slowCalls = new LongAdder();
+
+		private Bucket(long second) {
+			this.second = second;
+		}
+
+	}
+
+}
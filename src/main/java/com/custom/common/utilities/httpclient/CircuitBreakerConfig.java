@@ -0,0 +1,55 @@
+package com.custom.common.utilities.httpclient;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * This class holds the circuit breaker settings used by {@link HttpUtils} for a
+ * destination host.
+ *
+ * @implSpec Set using {@link HttpClientManager#setDefaultCircuitBreakerConfig(CircuitBreakerConfig)}
+ *           or {@link HttpClientManager#setCircuitBreakerConfig(String, CircuitBreakerConfig)}.
+ *           The circuit opens when the failure rate or the slow call rate over
+ *           the sliding window reaches its threshold. Connection errors and 5xx
+ *           responses count as failures. The default configuration is disabled.
+ *
+ * @author Abhijeet
+ *
+ */
+@Getter
+@Builder
+@ToString
+public class CircuitBreakerConfig {
+
+	@Builder.Default
+	private final boolean enabled = false;
+
+	// Percentage of failed calls which opens the circuit.
+	@Builder.Default
+	private final double failureRateThreshold = 50.0d;
+
+	// Percentage of slow calls which opens the circuit, 100 to ignore slow calls.
+	@Builder.Default
+	private final double slowCallRateThreshold = 100.0d;
+
+	@Builder.Default
+	private final long slowCallDurationMillis = 5_000L;
+
+	// Calls in the last slidingWindowSeconds are considered for the rates.
+	@Builder.Default
+	private final int slidingWindowSeconds = 10;
+
+	// Rates are not evaluated until the window has this many calls.
+	@Builder.Default
+	private final int minimumNumberOfCalls = 20;
+
+	// Time the circuit stays open before trial calls are let through.
+	@Builder.Default
+	private final long waitDurationInOpenStateMillis = 30_000L;
+
+	// Trial calls in half-open state which decide whether the circuit closes.
+	@Builder.Default
+	private final int permittedCallsInHalfOpenState = 5;
+
+}
@@ -1,23 +1,33 @@
 package com.custom.common.utilities.httpclient;
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.UnsupportedEncodingException;
+import java.net.URI;
+import java.net.URISyntaxException;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Objects;
 
+import org.apache.commons.collections4.MapUtils;
 import org.apache.http.Header;
+import org.apache.http.HttpEntity;
 import org.apache.http.HttpResponse;
+import org.apache.http.HttpStatus;
+import org.apache.http.client.utils.URIBuilder;
 import org.apache.http.entity.StringEntity;
 import org.apache.http.message.BasicHeader;
 import org.apache.http.util.EntityUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import com.custom.common.utilities.convertors.DataFormat;
 import com.custom.common.utilities.convertors.TypeConversionUtils;
+import com.custom.common.utilities.response.TypedWebserviceResponse;
 import com.custom.common.utilities.response.WebserviceResponse;
+import com.fasterxml.jackson.databind.JavaType;
 
 /**
  * This class contains common functions used by the Http client classes.
@@ -51,6 +61,26 @@ public final class CommonHttpFunctions {
 		return headersList.toArray(new Header[0]);
 	}
 
+	/**
+	 * This method is used to append the request parameters to the given URL.
+	 * 
+	 * @param url    - Complete URL of API to be called
+	 * @param params - Map of request parameters to be sent
+	 * 
+	 * @return {@link URI}
+	 * 
+	 * @throws URISyntaxException
+	 */
+	public static URI getUriWithParams(String url, Map<String, String> params) throws URISyntaxException {
+		URIBuilder builder = new URIBuilder(url);
+		if (MapUtils.isNotEmpty(params)) {
+			for (Entry<String, String> entry : params.entrySet()) {
+				builder.setParameter(entry.getKey(), entry.getValue());
+			}
+		}
+		return builder.build();
+	}
+
 	/**
 	 * This method is used to conver the {@link HttpResponse} into
 	 * {@link WebserviceResponse} which can be consumed by all the services.
@@ -73,10 +103,53 @@ public final class CommonHttpFunctions {
 		return webServiceResponse;
 	}
 
+	/**
+	 * This method is used to convert the {@link HttpResponse} into
+	 * {@link TypedWebserviceResponse}, reading successful responses straight from
+	 * the entity stream into the given type.
+	 * 
+	 * @implNote The body is decoded according to its Content-Type, as JSON when
+	 *           it is not a known {@link DataFormat}.
+	 * 
+	 * @param httpResponse {@link HttpResponse}
+	 * @param url
+	 * @param responseType {@link JavaType} of the response body
+	 * 
+	 * @return {@link TypedWebserviceResponse}
+	 * 
+	 * @throws IOException
+	 */
+	public static <T> TypedWebserviceResponse<T> prepareTypedResponse(HttpResponse httpResponse, String url,
+			JavaType responseType) throws IOException {
+		TypedWebserviceResponse<T> webServiceResponse = new TypedWebserviceResponse<>();
+		int httpStatus = httpResponse.getStatusLine().getStatusCode();
+		webServiceResponse.setHttpStatus(httpStatus);
+
+		HttpEntity entity = httpResponse.getEntity();
+		if (Objects.nonNull(entity)) {
+			if (httpStatus >= HttpStatus.SC_OK && httpStatus < HttpStatus.SC_MULTIPLE_CHOICES) {
+				DataFormat dataFormat = Objects.isNull(entity.getContentType()) ? null
+						: DataFormat.fromContentType(entity.getContentType().getValue());
+				try (InputStream content = entity.getContent()) {
+					webServiceResponse.setResponse(TypeConversionUtils.readValue(content, responseType,
+							Objects.isNull(dataFormat) ? DataFormat.JSON : dataFormat));
+				}
+			} else {
+				webServiceResponse.setErrorResponse(EntityUtils.toString(entity));
+			}
+		}
+
+		LOGGER.info("URL = {} \nHttp Status = {}, Type = {}", url, httpStatus, responseType);
+		return webServiceResponse;
+	}
+
 	/**
 	 * This method converts the request to {@link StringEntity} which is required
 	 * for sending POST, PUT, and DELETE requests.
 	 * 
+	 * @apiNote Builds the whole body as a String first, prefer
+	 *          {@link #convertRequestToJsonEntity(Object)} for large bodies.
+	 * 
 	 * @param request
 	 * 
 	 * @return {@link StringEntity}
@@ -87,4 +160,58 @@ public final class CommonHttpFunctions {
 		return new StringEntity(TypeConversionUtils.convertObjectToString(request));
 	}
 
+	/**
+	 * This method converts the request to a {@link JacksonEntity} which writes it
+	 * as UTF-8 JSON straight to the connection while it is sent.
+	 * 
+	 * @param request
+	 * 
+	 * @return {@link JacksonEntity}
+	 */
+	public static JacksonEntity convertRequestToJsonEntity(Object request) {
+		return JacksonEntity.streaming(request);
+	}
+
+	/**
+	 * This method converts the request to an entity in the {@link DataFormat}
+	 * set for the host of the URI on {@link HttpClientManager}. The body is
+	 * serialized upfront and sent with a Content-Length, unless streamed bodies
+	 * are enabled for the host.
+	 * 
+	 * @implNote A request which already is an {@link HttpEntity}, e.g.
+	 *           {@link JacksonEntity#streaming(Object)} to stream a single call,
+	 *           is sent as it is.
+	 * 
+	 * @param request
+	 * @param uri     - URI the request is sent to
+	 * 
+	 * @return {@link HttpEntity}
+	 * 
+	 * @throws IOException if the request cannot be serialized
+	 */
+	public static HttpEntity convertRequestToEntity(Object request, URI uri) throws IOException {
+		if (request instanceof HttpEntity entity) {
+			return entity;
+		}
+		DataFormat dataFormat = HttpClientManager.getDataFormat(uri.getHost());
+		return HttpClientManager.isStreamedBodies(uri.getHost()) ? JacksonEntity.streaming(request, dataFormat)
+				: JacksonEntity.buffered(request, dataFormat);
+	}
+
+	/**
+	 * This method converts the request to a {@link JacksonEntity} holding the
+	 * bytes in the {@link DataFormat} set for the host of the URI, for clients
+	 * which read the body instead of writing it.
+	 * 
+	 * @param request
+	 * @param uri     - URI the request is sent to
+	 * 
+	 * @return {@link JacksonEntity}
+	 * 
+	 * @throws IOException
+	 */
+	public static JacksonEntity convertRequestToBufferedEntity(Object request, URI uri) throws IOException {
+		return JacksonEntity.buffered(request, HttpClientManager.getDataFormat(uri.getHost()));
+	}
+
 }
@@ -0,0 +1,50 @@
+package com.custom.common.utilities.httpclient;
+
+import org.apache.http.HttpEntity;
+import org.apache.http.HttpEntityEnclosingRequest;
+import org.apache.http.HttpHeaders;
+import org.apache.http.HttpHost;
+import org.apache.http.HttpRequest;
+import org.apache.http.HttpRequestInterceptor;
+import org.apache.http.client.entity.GzipCompressingEntity;
+import org.apache.http.client.protocol.HttpClientContext;
+import org.apache.http.protocol.HttpContext;
+
+/**
+ * This class applies the {@link HttpCompressionConfig} of the destination host
+ * to outgoing requests.
+ *
+ * @implNote It must run before the standard content interceptor, which copies
+ *           the Content-Encoding of the gzip entity into the request headers.
+ *           The compressing entity streams, so the body is never held in
+ *           memory in compressed form.
+ *
+ * @author Abhijeet
+ *
+ */
+final class CompressionRequestInterceptor implements HttpRequestInterceptor {
+
+	static final String ACCEPT_ENCODING_VALUE = "gzip, deflate";
+
+	@Override
+	public void process(HttpRequest request, HttpContext context) {
+		HttpHost targetHost = HttpClientContext.adapt(context).getTargetHost();
+		HttpCompressionConfig compressionConfig = HttpClientManager
+				.getCompressionConfig(targetHost == null ? null : targetHost.getHostName());
+
+		if (compressionConfig.isAcceptCompressedResponses() && !request.containsHeader(HttpHeaders.ACCEPT_ENCODING)) {
+			request.addHeader(HttpHeaders.ACCEPT_ENCODING, ACCEPT_ENCODING_VALUE);
+		}
+
+		if (compressionConfig.isCompressRequests() && request instanceof HttpEntityEnclosingRequest enclosingRequest) {
+			HttpEntity entity = enclosingRequest.getEntity();
+			if (entity != null && entity.getContentEncoding() == null
+					&& !request.containsHeader(HttpHeaders.CONTENT_ENCODING)
+					&& (entity.getContentLength() < 0
+							|| entity.getContentLength() >= compressionConfig.getRequestCompressionThresholdBytes())) {
+				enclosingRequest.setEntity(new GzipCompressingEntity(entity));
+			}
+		}
+	}
+
+}
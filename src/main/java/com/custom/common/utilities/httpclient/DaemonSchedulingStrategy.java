@@ -0,0 +1,42 @@
+package com.custom.common.utilities.httpclient;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.http.impl.client.cache.AsynchronousValidationRequest;
+import org.apache.http.impl.client.cache.SchedulingStrategy;
+
+/**
+ * This class runs the background revalidations of the response cache on daemon
+ * threads, so that they never keep the JVM alive.
+ *
+ * @implNote The default strategy of the cache module uses non-daemon threads.
+ *           Revalidations beyond the queue size are rejected, and the cache then
+ *           simply revalidates on a later request.
+ *
+ * @author Abhijeet
+ *
+ */
+final class DaemonSchedulingStrategy implements SchedulingStrategy {
+
+	private final ThreadPoolExecutor executor;
+
+	DaemonSchedulingStrategy(int threads, int queueSize) {
+		this.executor = new ThreadPoolExecutor(threads, threads, 60L, TimeUnit.SECONDS,
+				new ArrayBlockingQueue<>(Math.max(1, queueSize)),
+				HttpClientManager.daemonThreadFactory("http-cache-revalidator"));
+		this.executor.allowCoreThreadTimeOut(true);
+	}
+
+	@Override
+	public void schedule(AsynchronousValidationRequest revalidationRequest) {
+		executor.execute(revalidationRequest);
+	}
+
+	@Override
+	public void close() {
+		executor.shutdownNow();
+	}
+
+}
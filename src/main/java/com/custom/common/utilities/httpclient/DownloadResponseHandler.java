@@ -0,0 +1,225 @@
+package com.custom.common.utilities.httpclient;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Objects;
+
+import org.apache.commons.codec.binary.Hex;
+import org.apache.http.Header;
+import org.apache.http.HttpEntity;
+import org.apache.http.HttpHeaders;
+import org.apache.http.HttpResponse;
+import org.apache.http.HttpStatus;
+import org.apache.http.client.ResponseHandler;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * This class writes the response entity of a download to a file or channel.
+ *
+ * @implNote The body is copied through a single buffer of fixed size, so the
+ *           heap used does not depend on the size of the download. The
+ *           checksum is computed on the same buffer while copying.
+ *
+ * @author Abhijeet
+ *
+ */
+final class DownloadResponseHandler implements ResponseHandler<HttpDownloadResult> {
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(DownloadResponseHandler.class);
+
+	private final String url;
+	private final Path targetFile;
+	private final WritableByteChannel targetChannel;
+	private final long resumeOffset;
+	private final HttpDownloadOptions options;
+	private final long startTime;
+
+	private DownloadResponseHandler(String url, Path targetFile, WritableByteChannel targetChannel, long resumeOffset,
+			HttpDownloadOptions options) {
+		this.url = url;
+		this.targetFile = targetFile;
+		this.targetChannel = targetChannel;
+		this.resumeOffset = resumeOffset;
+		this.options = options;
+		this.startTime = System.currentTimeMillis();
+	}
+
+	static DownloadResponseHandler forFile(String url, Path targetFile, long resumeOffset,
+			HttpDownloadOptions options) {
+		return new DownloadResponseHandler(url, targetFile, null, resumeOffset, options);
+	}
+
+	static DownloadResponseHandler forChannel(String url, WritableByteChannel targetChannel,
+			HttpDownloadOptions options) {
+		return new DownloadResponseHandler(url, null, targetChannel, 0L, options);
+	}
+
+	@Override
+	public HttpDownloadResult handleResponse(HttpResponse httpResponse) throws IOException {
+		int httpStatus = httpResponse.getStatusLine().getStatusCode();
+		HttpEntity entity = httpResponse.getEntity();
+
+		if (httpStatus == HttpStatus.SC_REQUESTED_RANGE_NOT_SATISFIABLE && resumeOffset > 0) {
+			// The partial file already holds the whole body.
+			LOGGER.info("URL = {} \nDownload already complete at {} bytes", url, resumeOffset);
+			return new HttpDownloadResult(httpStatus, 0L, resumeOffset, true, checksumOfExistingFile(),
+					System.currentTimeMillis() - startTime, null);
+		}
+		if (httpStatus < HttpStatus.SC_OK || httpStatus >= HttpStatus.SC_MULTIPLE_CHOICES || entity == null) {
+			LOGGER.info("URL = {} \nDownload failed with Http Status = {}", url, httpStatus);
+			return new HttpDownloadResult(httpStatus, 0L, 0L, false, null, System.currentTimeMillis() - startTime,
+					null);
+		}
+
+		boolean resumed = httpStatus == HttpStatus.SC_PARTIAL_CONTENT && resumeOffset > 0;
+		if (resumed && !isExpectedContentRange(httpResponse)) {
+			abort(httpResponse);
+			throw new IOException("Unexpected Content-Range for resumed download : "
+					+ httpResponse.getFirstHeader(HttpHeaders.CONTENT_RANGE));
+		}
+		if (options.getMaxSizeBytes() >= 0 && entity.getContentLength() > options.getMaxSizeBytes()) {
+			abort(httpResponse);
+			checkMaxSize(entity.getContentLength());
+		}
+
+		MessageDigest digest = createDigest();
+		ByteBuffer buffer = ByteBuffer.allocate(options.getBufferSize());
+		long bytesWritten;
+		if (Objects.nonNull(targetFile)) {
+			try (FileChannel fileChannel = openTargetFile(resumed)) {
+				if (resumed && Objects.nonNull(digest)) {
+					updateDigest(fileChannel, digest, buffer);
+				} else if (resumed) {
+					fileChannel.position(resumeOffset);
+				}
+				bytesWritten = copy(httpResponse, fileChannel, digest, buffer);
+			}
+		} else {
+			bytesWritten = copy(httpResponse, targetChannel, digest, buffer);
+		}
+
+		long totalBytes = resumed ? resumeOffset + bytesWritten : bytesWritten;
+		String checksum = Objects.nonNull(digest) ? Hex.encodeHexString(digest.digest()) : null;
+		long timeTaken = System.currentTimeMillis() - startTime;
+		LOGGER.info("URL = {} \nDownloaded {} bytes in {} ms, Http Status = {}", url, bytesWritten, timeTaken,
+				httpStatus);
+		return new HttpDownloadResult(httpStatus, bytesWritten, totalBytes, resumed, checksum, timeTaken, null);
+	}
+
+	/**
+	 * This method copies the entity into the target channel through the given
+	 * buffer, enforcing the maximum size.
+	 *
+	 * @implNote On failure the connection is closed instead of being released,
+	 *           otherwise the rest of an oversized body would be read to drain
+	 *           it.
+	 *
+	 * @return Number of bytes copied
+	 */
+	private long copy(HttpResponse httpResponse, WritableByteChannel target, MessageDigest digest, ByteBuffer buffer)
+			throws IOException {
+		long bytesWritten = 0L;
+		InputStream content = httpResponse.getEntity().getContent();
+		try {
+			ReadableByteChannel source = Channels.newChannel(content);
+			buffer.clear();
+			while (source.read(buffer) != -1) {
+				buffer.flip();
+				bytesWritten += buffer.remaining();
+				checkMaxSize(bytesWritten);
+				if (Objects.nonNull(digest)) {
+					digest.update(buffer.array(), buffer.arrayOffset() + buffer.position(), buffer.remaining());
+				}
+				while (buffer.hasRemaining()) {
+					target.write(buffer);
+				}
+				buffer.clear();
+			}
+		} catch (IOException | RuntimeException e) {
+			abort(httpResponse);
+			throw e;
+		} finally {
+			content.close();
+		}
+		return bytesWritten;
+	}
+
+	private void abort(HttpResponse httpResponse) {
+		if (httpResponse instanceof Closeable closeable) {
+			try {
+				closeable.close();
+			} catch (IOException e) {
+				LOGGER.info("Exception in closing download connection : ", e);
+			}
+		}
+	}
+
+	private FileChannel openTargetFile(boolean resumed) throws IOException {
+		if (resumed) {
+			FileChannel fileChannel = FileChannel.open(targetFile, StandardOpenOption.READ, StandardOpenOption.WRITE);
+			fileChannel.truncate(resumeOffset);
+			fileChannel.position(0L);
+			return fileChannel;
+		}
+		return FileChannel.open(targetFile, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+				StandardOpenOption.TRUNCATE_EXISTING);
+	}
+
+	/**
+	 * This method adds the bytes already present in the file to the digest, which
+	 * leaves the channel positioned at the end of the file.
+	 */
+	private void updateDigest(FileChannel fileChannel, MessageDigest digest, ByteBuffer buffer) throws IOException {
+		buffer.clear();
+		while (fileChannel.read(buffer) != -1) {
+			buffer.flip();
+			digest.update(buffer.array(), buffer.arrayOffset() + buffer.position(), buffer.remaining());
+			buffer.clear();
+		}
+	}
+
+	private String checksumOfExistingFile() throws IOException {
+		MessageDigest digest = createDigest();
+		if (Objects.isNull(digest)) {
+			return null;
+		}
+		try (FileChannel fileChannel = FileChannel.open(targetFile, StandardOpenOption.READ)) {
+			updateDigest(fileChannel, digest, ByteBuffer.allocate(options.getBufferSize()));
+		}
+		return Hex.encodeHexString(digest.digest());
+	}
+
+	private boolean isExpectedContentRange(HttpResponse httpResponse) {
+		Header contentRange = httpResponse.getFirstHeader(HttpHeaders.CONTENT_RANGE);
+		return contentRange != null && contentRange.getValue().startsWith("bytes " + resumeOffset + "-");
+	}
+
+	private void checkMaxSize(long size) throws IOException {
+		if (options.getMaxSizeBytes() >= 0 && size > options.getMaxSizeBytes()) {
+			throw new IOException("Download exceeds the maximum size of " + options.getMaxSizeBytes() + " bytes");
+		}
+	}
+
+	private MessageDigest createDigest() throws IOException {
+		if (Objects.isNull(options.getChecksumAlgorithm())) {
+			return null;
+		}
+		try {
+			return MessageDigest.getInstance(options.getChecksumAlgorithm());
+		} catch (NoSuchAlgorithmException e) {
+			throw new IOException("Unsupported checksum algorithm " + options.getChecksumAlgorithm(), e);
+		}
+	}
+
+}
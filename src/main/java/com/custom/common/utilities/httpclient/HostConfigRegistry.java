@@ -0,0 +1,51 @@
+package com.custom.common.utilities.httpclient;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * This class holds a default configuration and optional overrides per
+ * destination host, used for the per-host settings of
+ * {@link HttpClientManager}.
+ *
+ * @implNote Hosts are matched on their lower-case name, the port is ignored.
+ *           Lookups are lock-free so they can be made on every request.
+ *
+ * @author Abhijeet
+ *
+ */
+final class HostConfigRegistry<T> {
+
+	private final Map<String, T> hostConfigs = new ConcurrentHashMap<>();
+	private volatile T defaultConfig;
+
+	HostConfigRegistry(T defaultConfig) {
+		this.defaultConfig = defaultConfig;
+	}
+
+	T get(String host) {
+		if (Objects.nonNull(host)) {
+			T hostConfig = hostConfigs.get(host.toLowerCase(Locale.ROOT));
+			if (Objects.nonNull(hostConfig)) {
+				return hostConfig;
+			}
+		}
+		return defaultConfig;
+	}
+
+	void put(String host, T config) {
+		Objects.requireNonNull(host, "Host cannot be null");
+		if (Objects.isNull(config)) {
+			hostConfigs.remove(host.toLowerCase(Locale.ROOT));
+		} else {
+			hostConfigs.put(host.toLowerCase(Locale.ROOT), config);
+		}
+	}
+
+	void setDefault(T config) {
+		this.defaultConfig = config;
+	}
+
+}
@@ -0,0 +1,245 @@
+package com.custom.common.utilities.httpclient;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.io.PipedInputStream;
+import java.io.PipedOutputStream;
+import java.io.UncheckedIOException;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpRequest.BodyPublisher;
+import java.net.http.HttpRequest.BodyPublishers;
+import java.net.http.HttpResponse.BodyHandlers;
+import java.time.Duration;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+
+import org.apache.http.Header;
+import org.apache.http.HttpEntity;
+import org.apache.http.HttpEntityEnclosingRequest;
+import org.apache.http.HttpException;
+import org.apache.http.HttpHeaders;
+import org.apache.http.HttpResponse;
+import org.apache.http.HttpVersion;
+import org.apache.http.ProtocolVersion;
+import org.apache.http.client.ResponseHandler;
+import org.apache.http.client.methods.Configurable;
+import org.apache.http.client.methods.CloseableHttpResponse;
+import org.apache.http.client.methods.HttpRequestBase;
+import org.apache.http.client.methods.HttpRequestWrapper;
+import org.apache.http.client.methods.HttpUriRequest;
+import org.apache.http.client.protocol.HttpClientContext;
+import org.apache.http.client.protocol.ResponseContentEncoding;
+import org.apache.http.client.utils.URIUtils;
+import org.apache.http.entity.BasicHttpEntity;
+import org.apache.http.impl.execchain.RequestAbortedException;
+import org.apache.http.message.BasicHttpResponse;
+import org.apache.http.message.BasicStatusLine;
+import org.apache.http.protocol.HttpCoreContext;
+
+/**
+ * This class sends the requests of hosts using {@link HttpTransport#HTTP_2}
+ * through the shared JDK {@link HttpClient}.
+ *
+ * @implNote The Apache request is converted into a JDK request and the JDK
+ *           response back into an Apache {@link HttpResponse}, so the response
+ *           handlers of {@link HttpUtils} and the retry, circuit breaker and
+ *           bulkhead handling work the same on both transports. The request
+ *           body and the response body are streamed, never buffered. The
+ *           compression settings of the host are applied with the same
+ *           interceptors as the Apache client. The response cache only applies
+ *           to the Apache transport. The socket timeout of the request bounds
+ *           the wait for the response headers.
+ *
+ * @author Abhijeet
+ *
+ */
+final class Http2Transport {
+
+	// Connection-specific headers, which the JDK client sets itself or rejects.
+	private static final Set<String> SKIPPED_HEADERS = Set.of("connection", "content-length", "expect", "host",
+			"upgrade", "keep-alive", "proxy-connection", "transfer-encoding", "te");
+
+	private static final int PIPE_SIZE = 64 * 1024;
+
+	private static final ProtocolVersion HTTP_2_0 = new ProtocolVersion("HTTP", 2, 0);
+
+	private static final CompressionRequestInterceptor COMPRESSION_INTERCEPTOR = new CompressionRequestInterceptor();
+	private static final ResponseContentEncoding CONTENT_DECODER = new ResponseContentEncoding();
+
+	private Http2Transport() {
+		throw new IllegalStateException("Http2Transport class cannot be instantiated");
+	}
+
+	/**
+	 * This method sends the request over the JDK client and passes the response
+	 * to the handler.
+	 *
+	 * @param request         {@link HttpUriRequest}
+	 * @param responseHandler {@link ResponseHandler}
+	 *
+	 * @return Result of the response handler
+	 *
+	 * @throws IOException
+	 */
+	static <R> R execute(HttpUriRequest request, ResponseHandler<R> responseHandler) throws IOException {
+		HttpClientContext context = HttpClientContext.create();
+		context.setAttribute(HttpCoreContext.HTTP_TARGET_HOST, URIUtils.extractHost(request.getURI()));
+
+		// Interceptors work on a copy, so that a retry starts from the original.
+		HttpRequestWrapper requestCopy = HttpRequestWrapper.wrap(request);
+		COMPRESSION_INTERCEPTOR.process(requestCopy, context);
+
+		CompletableFuture<java.net.http.HttpResponse<InputStream>> responseFuture = HttpClientManager
+				.getHttp2Client().sendAsync(toJdkRequest(request, requestCopy), BodyHandlers.ofInputStream());
+		if (request instanceof HttpRequestBase requestBase) {
+			requestBase.setCancellable(() -> {
+				responseFuture.cancel(true);
+				return true;
+			});
+		}
+
+		Http2Response httpResponse = toApacheResponse(await(request, responseFuture));
+		try {
+			CONTENT_DECODER.process(httpResponse, context);
+			return responseHandler.handleResponse(httpResponse);
+		} catch (HttpException e) {
+			throw new IOException(e);
+		} finally {
+			httpResponse.close();
+		}
+	}
+
+	private static HttpRequest toJdkRequest(HttpUriRequest request, HttpRequestWrapper requestCopy) {
+		HttpRequest.Builder builder = HttpRequest.newBuilder(request.getURI());
+		for (Header header : requestCopy.getAllHeaders()) {
+			if (!SKIPPED_HEADERS.contains(header.getName().toLowerCase(Locale.ROOT))) {
+				builder.header(header.getName(), header.getValue());
+			}
+		}
+
+		BodyPublisher bodyPublisher = BodyPublishers.noBody();
+		if (requestCopy instanceof HttpEntityEnclosingRequest enclosingRequest
+				&& Objects.nonNull(enclosingRequest.getEntity())) {
+			HttpEntity entity = enclosingRequest.getEntity();
+			setEntityHeader(builder, requestCopy, entity.getContentType());
+			setEntityHeader(builder, requestCopy, entity.getContentEncoding());
+			bodyPublisher = toBodyPublisher(entity);
+		}
+		if (request instanceof Configurable configurable && Objects.nonNull(configurable.getConfig())
+				&& configurable.getConfig().getSocketTimeout() > 0) {
+			builder.timeout(Duration.ofMillis(configurable.getConfig().getSocketTimeout()));
+		}
+		return builder.method(request.getMethod(), bodyPublisher).build();
+	}
+
+	private static void setEntityHeader(HttpRequest.Builder builder, HttpRequestWrapper requestCopy, Header header) {
+		if (Objects.nonNull(header) && !requestCopy.containsHeader(header.getName())) {
+			builder.header(header.getName(), header.getValue());
+		}
+	}
+
+	/**
+	 * This method streams the entity into the request body. The entity writes
+	 * into a pipe which the JDK client reads from on its own threads.
+	 *
+	 * @param entity {@link HttpEntity}
+	 *
+	 * @return {@link BodyPublisher}
+	 */
+	private static BodyPublisher toBodyPublisher(HttpEntity entity) {
+		BodyPublisher streamPublisher = BodyPublishers.ofInputStream(() -> {
+			try {
+				PipedInputStream input = new PipedInputStream(PIPE_SIZE);
+				PipedOutputStream output = new PipedOutputStream(input);
+				HttpClientManager.getTaskExecutor().execute(() -> {
+					try (output) {
+						entity.writeTo(output);
+					} catch (IOException e) {
+						// Fails the read side too, so the body is not sent truncated.
+						closeQuietly(input);
+					}
+				});
+				return input;
+			} catch (IOException e) {
+				throw new UncheckedIOException(e);
+			}
+		});
+		long contentLength = entity.getContentLength();
+		return contentLength < 0 ? streamPublisher : BodyPublishers.fromPublisher(streamPublisher, contentLength);
+	}
+
+	private static Http2Response toApacheResponse(java.net.http.HttpResponse<InputStream> jdkResponse) {
+		ProtocolVersion version = jdkResponse.version() == HttpClient.Version.HTTP_2 ? HTTP_2_0 : HttpVersion.HTTP_1_1;
+		Http2Response httpResponse = new Http2Response(
+				new BasicStatusLine(version, jdkResponse.statusCode(), null), jdkResponse.body());
+		for (Map.Entry<String, List<String>> header : jdkResponse.headers().map().entrySet()) {
+			if (!header.getKey().startsWith(":")) {
+				for (String value : header.getValue()) {
+					httpResponse.addHeader(header.getKey(), value);
+				}
+			}
+		}
+
+		BasicHttpEntity entity = new BasicHttpEntity();
+		entity.setContent(jdkResponse.body());
+		entity.setContentLength(jdkResponse.headers().firstValueAsLong(HttpHeaders.CONTENT_LENGTH).orElse(-1L));
+		entity.setContentType(httpResponse.getFirstHeader(HttpHeaders.CONTENT_TYPE));
+		entity.setContentEncoding(httpResponse.getFirstHeader(HttpHeaders.CONTENT_ENCODING));
+		httpResponse.setEntity(entity);
+		return httpResponse;
+	}
+
+	private static void closeQuietly(InputStream input) {
+		try {
+			input.close();
+		} catch (IOException e) {
+			// Nothing more to release.
+		}
+	}
+
+	private static <T> T await(HttpUriRequest request, CompletableFuture<T> future) throws IOException {
+		try {
+			return future.get();
+		} catch (InterruptedException e) {
+			future.cancel(true);
+			Thread.currentThread().interrupt();
+			throw new InterruptedIOException("Interrupted while waiting for HTTP/2 response");
+		} catch (ExecutionException e) {
+			if (e.getCause() instanceof IOException ioException) {
+				throw ioException;
+			}
+			throw new IOException("HTTP/2 request to " + request.getURI() + " failed", e.getCause());
+		} catch (CancellationException e) {
+			throw new RequestAbortedException("Request aborted");
+		}
+	}
+
+	/**
+	 * Response bridged from the JDK client. Closing it closes the body stream,
+	 * which resets only this stream of the shared connection.
+	 */
+	private static final class Http2Response extends BasicHttpResponse implements CloseableHttpResponse {
+
+		private final InputStream body;
+
+		private Http2Response(BasicStatusLine statusLine, InputStream body) {
+			super(statusLine);
+			this.body = body;
+		}
+
+		@Override
+		public void close() throws IOException {
+			body.close();
+		}
+
+	}
+
+}
@@ -0,0 +1,173 @@
+package com.custom.common.utilities.httpclient;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import org.apache.http.client.methods.HttpUriRequest;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.custom.common.utilities.response.WebserviceResponse;
+
+/**
+ * This class runs the requests of a batch concurrently for
+ * {@link HttpUtils#sendBatchRequests(List, int, Duration)}.
+ *
+ * @implNote A window of as many workers as the concurrency runs on virtual
+ *           threads when the runtime supports them (Java 21+), otherwise on a
+ *           shared pool of daemon threads. Each worker takes the next request
+ *           of the batch until none is left, so no thread waits for a turn.
+ *           Calls still running at the deadline are aborted.
+ *
+ * @author Abhijeet
+ *
+ */
+final class HttpBatchExecutor {
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(HttpBatchExecutor.class);
+
+	private HttpBatchExecutor() {
+		throw new IllegalStateException("HttpBatchExecutor class cannot be instantiated");
+	}
+
+	/**
+	 * This method sends all the requests concurrently and waits for them to
+	 * finish or for the deadline to pass, whichever is first.
+	 *
+	 * @param requests       - Requests to be sent
+	 * @param maxConcurrency - Maximum number of requests in flight at a time
+	 * @param deadline       - Overall time limit for the batch, null for none
+	 *
+	 * @return List of {@link HttpBatchResult} in the order of the requests
+	 */
+	static List<HttpBatchResult> execute(List<HttpBatchRequest> requests, int maxConcurrency, Duration deadline) {
+		if (Objects.isNull(requests) || requests.isEmpty()) {
+			return Collections.emptyList();
+		}
+
+		long deadlineNanos = Objects.isNull(deadline) ? Long.MAX_VALUE : System.nanoTime() + deadline.toNanos();
+		int size = requests.size();
+		AtomicReferenceArray<HttpBatchResult> results = new AtomicReferenceArray<>(size);
+		AtomicReferenceArray<HttpUriRequest> startedRequests = new AtomicReferenceArray<>(size);
+		List<HttpUriRequest> httpRequests = new ArrayList<>(size);
+		for (int index = 0; index < size; index++) {
+			HttpBatchRequest request = requests.get(index);
+			HttpUriRequest httpRequest = null;
+			try {
+				httpRequest = request.toHttpRequest();
+			} catch (Exception e) {
+				results.set(index, new HttpBatchResult(index, request, null, e, 0L));
+			}
+			httpRequests.add(httpRequest);
+		}
+
+		AtomicInteger nextIndex = new AtomicInteger();
+		AtomicBoolean stopped = new AtomicBoolean();
+		int workerCount = Math.min(size, Math.max(1, maxConcurrency));
+		List<CompletableFuture<Void>> workers = new ArrayList<>(workerCount);
+		for (int worker = 0; worker < workerCount; worker++) {
+			workers.add(CompletableFuture.runAsync(() -> {
+				int index;
+				while (!stopped.get() && (index = nextIndex.getAndIncrement()) < size) {
+					HttpUriRequest httpRequest = httpRequests.get(index);
+					if (Objects.nonNull(httpRequest)
+							&& (deadlineNanos == Long.MAX_VALUE || deadlineNanos - System.nanoTime() > 0)) {
+						startedRequests.set(index, httpRequest);
+						executeRequest(index, requests.get(index), httpRequest, results);
+					}
+				}
+			}, HttpClientManager.getTaskExecutor()));
+		}
+
+		Exception incompleteCause = awaitAll(workers, deadlineNanos);
+		stopped.set(true);
+
+		List<HttpBatchResult> batchResults = new ArrayList<>(size);
+		for (int index = 0; index < size; index++) {
+			HttpBatchResult result = results.get(index);
+			if (Objects.isNull(result)) {
+				// Abort the straggler so that it does not hold a connection or a thread.
+				HttpUriRequest startedRequest = startedRequests.get(index);
+				Exception cause;
+				if (Objects.nonNull(startedRequest)) {
+					startedRequest.abort();
+					cause = Objects.nonNull(incompleteCause) ? incompleteCause
+							: new TimeoutException("Batch deadline exceeded");
+				} else {
+					cause = Objects.nonNull(incompleteCause) ? incompleteCause
+							: new TimeoutException("Batch deadline exceeded before request was sent");
+				}
+				// A call finishing at this very moment keeps its own result.
+				results.compareAndSet(index, null, new HttpBatchResult(index, requests.get(index), null, cause, 0L));
+				result = results.get(index);
+			}
+			batchResults.add(result);
+		}
+		workers.forEach(worker -> worker.cancel(true));
+		return batchResults;
+	}
+
+	/**
+	 * This method sends a single request of the batch and records its result.
+	 * An error thrown by the call is recorded before being thrown again, so the
+	 * request is not reported as timed out.
+	 */
+	private static void executeRequest(int index, HttpBatchRequest request, HttpUriRequest httpRequest,
+			AtomicReferenceArray<HttpBatchResult> results) {
+		long startTime = System.currentTimeMillis();
+		try {
+			WebserviceResponse response = HttpUtils.execute(httpRequest, request.getUrl());
+			results.compareAndSet(index, null,
+					new HttpBatchResult(index, request, response, null, System.currentTimeMillis() - startTime));
+		} catch (Exception e) {
+			LOGGER.info("Exception in batch request {} to URL = {} : ", index, request.getUrl(), e);
+			results.compareAndSet(index, null,
+					new HttpBatchResult(index, request, null, e, System.currentTimeMillis() - startTime));
+		} catch (Error e) {
+			results.compareAndSet(index, null, new HttpBatchResult(index, request, null, new ExecutionException(e),
+					System.currentTimeMillis() - startTime));
+			throw e;
+		}
+	}
+
+	/**
+	 * This method waits for all the workers to complete until the deadline.
+	 *
+	 * @param workers
+	 * @param deadlineNanos
+	 *
+	 * @return Cause of the requests left without a result, null for the
+	 *         deadline or when all the workers completed
+	 */
+	private static Exception awaitAll(List<CompletableFuture<Void>> workers, long deadlineNanos) {
+		CompletableFuture<Void> all = CompletableFuture.allOf(workers.toArray(new CompletableFuture<?>[0]));
+		try {
+			if (deadlineNanos == Long.MAX_VALUE) {
+				all.get();
+			} else {
+				all.get(Math.max(0L, deadlineNanos - System.nanoTime()), TimeUnit.NANOSECONDS);
+			}
+		} catch (TimeoutException e) {
+			LOGGER.info("Batch deadline exceeded, aborting pending requests");
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			LOGGER.info("Batch interrupted, aborting pending requests");
+			return e;
+		} catch (ExecutionException e) {
+			LOGGER.info("Exception in batch execution : ", e);
+			return e;
+		}
+		return null;
+	}
+
+}
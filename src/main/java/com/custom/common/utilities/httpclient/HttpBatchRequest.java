@@ -0,0 +1,73 @@
+package com.custom.common.utilities.httpclient;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.util.Map;
+import java.util.Objects;
+
+import org.apache.commons.collections4.MapUtils;
+import org.apache.http.Header;
+import org.apache.http.client.methods.HttpUriRequest;
+import org.apache.http.client.methods.RequestBuilder;
+import org.springframework.http.HttpMethod;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * This class describes a single request of a batch sent using
+ * {@link HttpUtils#sendBatchRequests(java.util.List, int, java.time.Duration)}.
+ *
+ * @implSpec Only the URL is mandatory. The method defaults to GET, the
+ *           parameters are appended to the URL and the body is sent as JSON,
+ *           the same way as the single request methods of {@link HttpUtils}.
+ *
+ * @author Abhijeet
+ *
+ */
+@Getter
+@Builder
+@ToString
+public class HttpBatchRequest {
+
+	@Builder.Default
+	private final HttpMethod method = HttpMethod.GET;
+
+	private final String url;
+
+	private final Map<String, Object> headers;
+
+	private final Map<String, String> params;
+
+	private final Object body;
+
+	/**
+	 * This method converts the descriptor into an {@link HttpUriRequest} which can
+	 * be executed, and aborted, by the batch executor.
+	 *
+	 * @return {@link HttpUriRequest}
+	 *
+	 * @throws URISyntaxException
+	 * @throws IOException        if the body cannot be serialized
+	 */
+	HttpUriRequest toHttpRequest() throws URISyntaxException, IOException {
+		URI uri = CommonHttpFunctions.getUriWithParams(url, params);
+		RequestBuilder requestBuilder = RequestBuilder.create(method.name()).setUri(uri);
+
+		// Set Request Body
+		if (Objects.nonNull(body)) {
+			requestBuilder.setEntity(CommonHttpFunctions.convertRequestToEntity(body, uri));
+		}
+
+		// Set Headers
+		if (MapUtils.isNotEmpty(headers)) {
+			for (Header header : CommonHttpFunctions.getHeaders(headers)) {
+				requestBuilder.addHeader(header);
+			}
+		}
+		return requestBuilder.build();
+	}
+
+}
@@ -0,0 +1,40 @@
+package com.custom.common.utilities.httpclient;
+
+import java.util.Objects;
+
+import com.custom.common.utilities.response.WebserviceResponse;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * This class holds the outcome of a single {@link HttpBatchRequest}. Results
+ * are returned in the same order as the requests of the batch.
+ *
+ * @implSpec Exactly one of response and exception is set. The time taken
+ *           covers only the call itself, not the wait for a concurrency permit.
+ *
+ * @author Abhijeet
+ *
+ */
+@Getter
+@ToString
+@AllArgsConstructor
+public class HttpBatchResult {
+
+	private final int index;
+
+	private final HttpBatchRequest request;
+
+	private final WebserviceResponse response;
+
+	private final Exception exception;
+
+	private final long timeTakenMillis;
+
+	public boolean isSuccess() {
+		return Objects.isNull(exception);
+	}
+
+}
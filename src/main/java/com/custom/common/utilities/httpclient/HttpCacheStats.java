@@ -0,0 +1,31 @@
+package com.custom.common.utilities.httpclient;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * This class is a snapshot of the counters of the client-side response cache,
+ * returned by {@link HttpClientManager#getCacheStats()}.
+ *
+ * @author Abhijeet
+ *
+ */
+@Getter
+@ToString
+@AllArgsConstructor
+public class HttpCacheStats {
+
+	// Responses served from the cache without contacting the server.
+	private final long hits;
+
+	// Responses fetched from the server.
+	private final long misses;
+
+	// Cached responses served after a conditional request, e.g. a 304.
+	private final long revalidations;
+
+	// Responses generated by the cache itself, e.g. 504 for only-if-cached.
+	private final long cacheModuleResponses;
+
+}
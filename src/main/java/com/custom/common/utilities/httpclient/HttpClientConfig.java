@@ -0,0 +1,64 @@
+package com.custom.common.utilities.httpclient;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * This class holds the settings of the shared HTTP client which is used by
+ * {@link HttpUtils}.
+ *
+ * @implSpec Instances are created using the builder and passed to
+ *           {@link HttpClientManager#configure(HttpClientConfig)}. Every
+ *           setting has a default, so only the values which need to be changed
+ *           have to be provided.
+ *
+ * @author Abhijeet
+ *
+ */
+@Getter
+@Builder
+@ToString
+public class HttpClientConfig {
+
+	// Maximum number of connections in the pool across all the routes.
+	@Builder.Default
+	private final int maxTotalConnections = 200;
+
+	// Maximum number of connections in the pool for a single route (host).
+	@Builder.Default
+	private final int maxConnectionsPerRoute = 20;
+
+	// Keep-alive used when the server does not send a Keep-Alive header.
+	@Builder.Default
+	private final long defaultKeepAliveMillis = 30_000L;
+
+	// Upper bound for the keep-alive value sent by the server.
+	@Builder.Default
+	private final long maxKeepAliveMillis = 120_000L;
+
+	// Total life of a pooled connection, so that DNS changes are picked up.
+	@Builder.Default
+	private final long connectionTimeToLiveMillis = 300_000L;
+
+	// Connections idle for longer than this are closed by the evictor thread.
+	@Builder.Default
+	private final long maxIdleMillis = 60_000L;
+
+	// Idle connections are re-validated before reuse after this period.
+	@Builder.Default
+	private final int validateAfterInactivityMillis = 2_000;
+
+	// Number of NIO dispatcher threads used by the async client.
+	@Builder.Default
+	private final int asyncIoThreadCount = Runtime.getRuntime().availableProcessors();
+
+	// Closes the shared clients when the JVM shuts down.
+	@Builder.Default
+	private final boolean registerShutdownHook = true;
+
+	// Client-side cache for GET responses of the synchronous client, null to
+	// disable it.
+	private final HttpResponseCacheConfig responseCache;
+
+}
@@ -0,0 +1,830 @@
+package com.custom.common.utilities.httpclient;
+
+import java.io.IOException;
+import java.lang.reflect.Method;
+import java.net.http.HttpClient;
+import java.security.KeyManagementException;
+import java.security.KeyStoreException;
+import java.security.NoSuchAlgorithmException;
+import java.util.Objects;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+import javax.net.ssl.SSLContext;
+
+import org.apache.http.client.cache.CacheResponseStatus;
+import org.apache.http.client.protocol.ResponseContentEncoding;
+import org.apache.http.config.Registry;
+import org.apache.http.config.RegistryBuilder;
+import org.apache.http.conn.ConnectionKeepAliveStrategy;
+import org.apache.http.conn.socket.ConnectionSocketFactory;
+import org.apache.http.conn.socket.PlainConnectionSocketFactory;
+import org.apache.http.conn.ssl.SSLConnectionSocketFactory;
+import org.apache.http.conn.ssl.TrustSelfSignedStrategy;
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.impl.client.DefaultConnectionKeepAliveStrategy;
+import org.apache.http.impl.client.HttpClientBuilder;
+import org.apache.http.impl.client.cache.CacheConfig;
+import org.apache.http.impl.client.cache.CachingHttpClientBuilder;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.apache.http.impl.execchain.ClientExecChain;
+import org.apache.http.impl.nio.client.CloseableHttpAsyncClient;
+import org.apache.http.impl.nio.client.HttpAsyncClients;
+import org.apache.http.impl.nio.conn.PoolingNHttpClientConnectionManager;
+import org.apache.http.impl.nio.reactor.DefaultConnectingIOReactor;
+import org.apache.http.impl.nio.reactor.IOReactorConfig;
+import org.apache.http.nio.conn.NoopIOSessionStrategy;
+import org.apache.http.nio.conn.SchemeIOSessionStrategy;
+import org.apache.http.nio.conn.ssl.SSLIOSessionStrategy;
+import org.apache.http.nio.reactor.IOReactorException;
+import org.apache.http.pool.PoolStats;
+import org.apache.http.ssl.SSLContextBuilder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.custom.common.utilities.convertors.DataFormat;
+
+/**
+ * This class owns the long-lived HTTP clients which are shared by all the calls
+ * made through {@link HttpUtils} and {@link AsyncHttpUtils}.
+ *
+ * @implNote The client is backed by a {@link PoolingHttpClientConnectionManager}
+ *           so that TCP and TLS connections are reused across calls. Idle and
+ *           expired connections are closed by a background evictor thread. The
+ *           asynchronous client runs on a small number of NIO dispatcher
+ *           threads backed by a {@link PoolingNHttpClientConnectionManager}.
+ *           When a response cache is configured, the synchronous client is
+ *           built by a {@link CachingHttpClientBuilder}. Hosts using the
+ *           {@link HttpTransport#HTTP_2} transport are reached through a shared
+ *           JDK {@link HttpClient} instead.
+ * @implSpec The clients are created lazily with the default
+ *           {@link HttpClientConfig}. Applications can call
+ *           {@link #configure(HttpClientConfig)} once at startup to change the
+ *           pool settings.
+ *
+ * @author Abhijeet
+ *
+ */
+public final class HttpClientManager {
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(HttpClientManager.class);
+
+	private static final Object LOCK = new Object();
+
+	private static HttpClientConfig clientConfig = HttpClientConfig.builder().build();
+	private static volatile CloseableHttpClient httpClient;
+	private static PoolingHttpClientConnectionManager connectionManager;
+	private static volatile CloseableHttpAsyncClient httpAsyncClient;
+	private static volatile HttpClient http2Client;
+	private static PoolingNHttpClientConnectionManager asyncConnectionManager;
+	private static ScheduledExecutorService asyncConnectionEvictor;
+	private static Thread shutdownHook;
+
+	private static final LongAdder CACHE_HITS = new LongAdder();
+	private static final LongAdder CACHE_MISSES = new LongAdder();
+	private static final LongAdder CACHE_REVALIDATIONS = new LongAdder();
+	private static final LongAdder CACHE_MODULE_RESPONSES = new LongAdder();
+
+	private static final HostConfigRegistry<HttpTransport> TRANSPORTS = new HostConfigRegistry<>(
+			HttpTransport.HTTP_1_1);
+	private static final HostConfigRegistry<DataFormat> DATA_FORMATS = new HostConfigRegistry<>(DataFormat.JSON);
+	private static final HostConfigRegistry<Boolean> STREAMED_BODIES = new HostConfigRegistry<>(Boolean.FALSE);
+	private static final HostConfigRegistry<HttpCompressionConfig> COMPRESSION_CONFIGS = new HostConfigRegistry<>(
+			HttpCompressionConfig.builder().build());
+	private static final HostConfigRegistry<RetryPolicy> RETRY_POLICIES = new HostConfigRegistry<>(
+			RetryPolicy.builder().build());
+	private static final HostConfigRegistry<HttpCoalescingConfig> COALESCING_CONFIGS = new HostConfigRegistry<>(
+			HttpCoalescingConfig.builder().build());
+	private static final HostConfigRegistry<CircuitBreakerConfig> CIRCUIT_BREAKER_CONFIGS = new HostConfigRegistry<>(
+			CircuitBreakerConfig.builder().build());
+	private static final HostConfigRegistry<RateLimiterConfig> RATE_LIMITER_CONFIGS = new HostConfigRegistry<>(
+			RateLimiterConfig.builder().build());
+	private static final HostConfigRegistry<BulkheadConfig> BULKHEAD_CONFIGS = new HostConfigRegistry<>(
+			BulkheadConfig.builder().build());
+	private static final HostConfigRegistry<HttpTimeoutConfig> TIMEOUT_CONFIGS = new HostConfigRegistry<>(
+			HttpTimeoutConfig.builder().build());
+
+	private HttpClientManager() {
+		throw new IllegalStateException("HttpClientManager class cannot be instantiated");
+	}
+
+	/**
+	 * This method replaces the configuration of the shared clients. The current
+	 * clients, if any, are closed and new ones are created on the next call.
+	 *
+	 * @apiNote Requests which are in flight on the old client will fail, so this
+	 *          should be called during application startup.
+	 *
+	 * @param config {@link HttpClientConfig}
+	 */
+	public static void configure(HttpClientConfig config) {
+		Objects.requireNonNull(config, "HttpClientConfig cannot be null");
+		synchronized (LOCK) {
+			closeClients();
+			clientConfig = config;
+		}
+		LOGGER.info("Shared HTTP client configured : {}", config);
+	}
+
+	/**
+	 * This method returns the shared HTTP client, creating it on first use.
+	 *
+	 * @return {@link CloseableHttpClient}
+	 */
+	public static CloseableHttpClient getHttpClient() {
+		CloseableHttpClient client = httpClient;
+		if (client == null) {
+			synchronized (LOCK) {
+				client = httpClient;
+				if (client == null) {
+					client = createHttpClient(clientConfig);
+					httpClient = client;
+				}
+			}
+		}
+		return client;
+	}
+
+	/**
+	 * This method returns the shared asynchronous HTTP client, creating and
+	 * starting it on first use.
+	 *
+	 * @return {@link CloseableHttpAsyncClient}
+	 */
+	public static CloseableHttpAsyncClient getHttpAsyncClient() {
+		CloseableHttpAsyncClient client = httpAsyncClient;
+		if (client == null) {
+			synchronized (LOCK) {
+				client = httpAsyncClient;
+				if (client == null) {
+					client = createHttpAsyncClient(clientConfig);
+					httpAsyncClient = client;
+				}
+			}
+		}
+		return client;
+	}
+
+	/**
+	 * This method returns the shared JDK HTTP client used for hosts with the
+	 * {@link HttpTransport#HTTP_2} transport, creating it on first use.
+	 *
+	 * @return {@link HttpClient}
+	 */
+	static HttpClient getHttp2Client() {
+		HttpClient client = http2Client;
+		if (client == null) {
+			synchronized (LOCK) {
+				client = http2Client;
+				if (client == null) {
+					client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_2).sslContext(createSslContext())
+							.followRedirects(HttpClient.Redirect.NORMAL).build();
+					http2Client = client;
+					LOGGER.info("Shared HTTP/2 client created");
+				}
+			}
+		}
+		return client;
+	}
+
+	/**
+	 * This method sets the transport used for hosts without their own transport.
+	 *
+	 * @param transport {@link HttpTransport}
+	 */
+	public static void setDefaultTransport(HttpTransport transport) {
+		TRANSPORTS.setDefault(Objects.requireNonNull(transport, "HttpTransport cannot be null"));
+	}
+
+	/**
+	 * This method sets the transport used to reach a destination host, e.g.
+	 * {@link HttpTransport#HTTP_2} for internal services which support it.
+	 *
+	 * @param host      - Host name, without scheme or port
+	 * @param transport - {@link HttpTransport}, null to use the default again
+	 */
+	public static void setTransport(String host, HttpTransport transport) {
+		TRANSPORTS.put(host, transport);
+	}
+
+	static HttpTransport getTransport(String host) {
+		return TRANSPORTS.get(host);
+	}
+
+	/**
+	 * This method sets the data format used for hosts without their own format.
+	 *
+	 * @param dataFormat {@link DataFormat}
+	 */
+	public static void setDefaultDataFormat(DataFormat dataFormat) {
+		DATA_FORMATS.setDefault(Objects.requireNonNull(dataFormat, "DataFormat cannot be null"));
+	}
+
+	/**
+	 * This method sets the data format of the request bodies sent to a
+	 * destination host, e.g. {@link DataFormat#SMILE} for internal services. The
+	 * typed methods of {@link HttpUtils} also ask the host for it with the Accept
+	 * header, falling back to JSON.
+	 *
+	 * @param host       - Host name, without scheme or port
+	 * @param dataFormat - {@link DataFormat}, null to use the default again
+	 */
+	public static void setDataFormat(String host, DataFormat dataFormat) {
+		DATA_FORMATS.put(host, dataFormat);
+	}
+
+	static DataFormat getDataFormat(String host) {
+		return DATA_FORMATS.get(host);
+	}
+
+	/**
+	 * This method sets whether request bodies are streamed to hosts without
+	 * their own setting. Bodies are buffered by default.
+	 *
+	 * @param streamed - True to stream the bodies
+	 */
+	public static void setDefaultStreamedBodies(boolean streamed) {
+		STREAMED_BODIES.setDefault(streamed);
+	}
+
+	/**
+	 * This method sets whether the request bodies of {@link HttpUtils} sent to a
+	 * destination host are serialized while they are sent, with chunked transfer
+	 * encoding, instead of upfront with a Content-Length. Only enable it for hosts,
+	 * and proxies in front of them, which accept chunked requests.
+	 *
+	 * @see JacksonEntity
+	 *
+	 * @param host     - Host name, without scheme or port
+	 * @param streamed - True to stream the bodies, null to use the default again
+	 */
+	public static void setStreamedBodies(String host, Boolean streamed) {
+		STREAMED_BODIES.put(host, streamed);
+	}
+
+	static boolean isStreamedBodies(String host) {
+		return STREAMED_BODIES.get(host);
+	}
+
+	/**
+	 * This method sets the compression settings used for hosts without their own
+	 * settings.
+	 *
+	 * @param config {@link HttpCompressionConfig}
+	 */
+	public static void setDefaultCompressionConfig(HttpCompressionConfig config) {
+		COMPRESSION_CONFIGS.setDefault(Objects.requireNonNull(config, "HttpCompressionConfig cannot be null"));
+	}
+
+	/**
+	 * This method sets the compression settings for a destination host. The
+	 * change applies to the next request, the client is not recreated.
+	 *
+	 * @param host   - Host name, without scheme or port
+	 * @param config - {@link HttpCompressionConfig}, null to use the default again
+	 */
+	public static void setCompressionConfig(String host, HttpCompressionConfig config) {
+		COMPRESSION_CONFIGS.put(host, config);
+	}
+
+	static HttpCompressionConfig getCompressionConfig(String host) {
+		return COMPRESSION_CONFIGS.get(host);
+	}
+
+	/**
+	 * This method sets the retry and hedging policy used for hosts without their
+	 * own policy.
+	 *
+	 * @param policy {@link RetryPolicy}
+	 */
+	public static void setDefaultRetryPolicy(RetryPolicy policy) {
+		RETRY_POLICIES.setDefault(Objects.requireNonNull(policy, "RetryPolicy cannot be null"));
+	}
+
+	/**
+	 * This method sets the retry and hedging policy for a destination host.
+	 *
+	 * @param host   - Host name, without scheme or port
+	 * @param policy - {@link RetryPolicy}, null to use the default again
+	 */
+	public static void setRetryPolicy(String host, RetryPolicy policy) {
+		RETRY_POLICIES.put(host, policy);
+	}
+
+	static RetryPolicy getRetryPolicy(String host) {
+		return RETRY_POLICIES.get(host);
+	}
+
+	/**
+	 * This method sets the request coalescing settings used for hosts without
+	 * their own settings.
+	 *
+	 * @param config {@link HttpCoalescingConfig}
+	 */
+	public static void setDefaultCoalescingConfig(HttpCoalescingConfig config) {
+		COALESCING_CONFIGS.setDefault(Objects.requireNonNull(config, "HttpCoalescingConfig cannot be null"));
+	}
+
+	/**
+	 * This method sets the request coalescing settings for a destination host.
+	 *
+	 * @param host   - Host name, without scheme or port
+	 * @param config - {@link HttpCoalescingConfig}, null to use the default again
+	 */
+	public static void setCoalescingConfig(String host, HttpCoalescingConfig config) {
+		COALESCING_CONFIGS.put(host, config);
+	}
+
+	static HttpCoalescingConfig getCoalescingConfig(String host) {
+		return COALESCING_CONFIGS.get(host);
+	}
+
+	/**
+	 * This method sets the circuit breaker settings used for hosts without their
+	 * own settings.
+	 *
+	 * @param config {@link CircuitBreakerConfig}
+	 */
+	public static void setDefaultCircuitBreakerConfig(CircuitBreakerConfig config) {
+		CIRCUIT_BREAKER_CONFIGS.setDefault(Objects.requireNonNull(config, "CircuitBreakerConfig cannot be null"));
+	}
+
+	/**
+	 * This method sets the circuit breaker settings for a destination host. A
+	 * change of settings also resets the state of the breaker.
+	 *
+	 * @param host   - Host name, without scheme or port
+	 * @param config - {@link CircuitBreakerConfig}, null to use the default again
+	 */
+	public static void setCircuitBreakerConfig(String host, CircuitBreakerConfig config) {
+		CIRCUIT_BREAKER_CONFIGS.put(host, config);
+	}
+
+	static CircuitBreakerConfig getCircuitBreakerConfig(String host) {
+		return CIRCUIT_BREAKER_CONFIGS.get(host);
+	}
+
+	/**
+	 * This method sets the rate limit used for hosts without their own limit.
+	 * Without a key, each host gets its own bucket.
+	 *
+	 * @param config {@link RateLimiterConfig}
+	 */
+	public static void setDefaultRateLimiterConfig(RateLimiterConfig config) {
+		RATE_LIMITER_CONFIGS.setDefault(Objects.requireNonNull(config, "RateLimiterConfig cannot be null"));
+	}
+
+	/**
+	 * This method sets the rate limit for a destination host. A change of
+	 * settings starts a new bucket.
+	 *
+	 * @param host   - Host name, without scheme or port
+	 * @param config - {@link RateLimiterConfig}, null to use the default again
+	 */
+	public static void setRateLimiterConfig(String host, RateLimiterConfig config) {
+		RATE_LIMITER_CONFIGS.put(host, config);
+	}
+
+	static RateLimiterConfig getRateLimiterConfig(String host) {
+		return RATE_LIMITER_CONFIGS.get(host);
+	}
+
+	/**
+	 * This method sets the bulkhead settings used for hosts without their own
+	 * settings. Each host gets its own limit.
+	 *
+	 * @param config {@link BulkheadConfig}
+	 */
+	public static void setDefaultBulkheadConfig(BulkheadConfig config) {
+		BULKHEAD_CONFIGS.setDefault(Objects.requireNonNull(config, "BulkheadConfig cannot be null"));
+	}
+
+	/**
+	 * This method sets the bulkhead settings for a destination host.
+	 *
+	 * @param host   - Host name, without scheme or port
+	 * @param config - {@link BulkheadConfig}, null to use the default again
+	 */
+	public static void setBulkheadConfig(String host, BulkheadConfig config) {
+		BULKHEAD_CONFIGS.put(host, config);
+	}
+
+	static BulkheadConfig getBulkheadConfig(String host) {
+		return BULKHEAD_CONFIGS.get(host);
+	}
+
+	/**
+	 * This method sets the timeouts used for hosts without their own timeouts.
+	 * They override the timeouts of {@link HttpClientConfig} for every call.
+	 *
+	 * @param config {@link HttpTimeoutConfig}
+	 */
+	public static void setDefaultTimeoutConfig(HttpTimeoutConfig config) {
+		TIMEOUT_CONFIGS.setDefault(Objects.requireNonNull(config, "HttpTimeoutConfig cannot be null"));
+	}
+
+	/**
+	 * This method sets the timeouts for a destination host.
+	 *
+	 * @param host   - Host name, without scheme or port
+	 * @param config - {@link HttpTimeoutConfig}, null to use the default again
+	 */
+	public static void setTimeoutConfig(String host, HttpTimeoutConfig config) {
+		TIMEOUT_CONFIGS.put(host, config);
+	}
+
+	static HttpTimeoutConfig getTimeoutConfig(String host) {
+		return TIMEOUT_CONFIGS.get(host);
+	}
+
+	/**
+	 * This method returns the retry, hedging and circuit breaker counters of a
+	 * destination host, covering the calls made through {@link HttpUtils}.
+	 *
+	 * @param host - Host name, without scheme or port
+	 *
+	 * @return {@link ResilienceMetrics}
+	 */
+	public static ResilienceMetrics getResilienceMetrics(String host) {
+		return ResilientRequestExecutor.getMetrics(host);
+	}
+
+	/**
+	 * This method returns the counters of the response cache, covering the calls
+	 * made through {@link HttpUtils} since the class was loaded.
+	 *
+	 * @return {@link HttpCacheStats}
+	 */
+	public static HttpCacheStats getCacheStats() {
+		return new HttpCacheStats(CACHE_HITS.sum(), CACHE_MISSES.sum(), CACHE_REVALIDATIONS.sum(),
+				CACHE_MODULE_RESPONSES.sum());
+	}
+
+	/**
+	 * This method counts the cache outcome of a request, as reported by the
+	 * caching client in the request context.
+	 *
+	 * @param status {@link CacheResponseStatus}, null when the cache is disabled
+	 */
+	static void recordCacheResponse(CacheResponseStatus status) {
+		if (Objects.isNull(status)) {
+			return;
+		}
+		switch (status) {
+		case CACHE_HIT:
+			CACHE_HITS.increment();
+			break;
+		case CACHE_MISS:
+			CACHE_MISSES.increment();
+			break;
+		case VALIDATED:
+			CACHE_REVALIDATIONS.increment();
+			break;
+		default:
+			CACHE_MODULE_RESPONSES.increment();
+			break;
+		}
+	}
+
+	/**
+	 * This method returns the statistics of the connection pool, like leased,
+	 * available and pending connections.
+	 *
+	 * @return {@link PoolStats}, or null if the client has not been created yet
+	 */
+	public static PoolStats getPoolStats() {
+		synchronized (LOCK) {
+			return connectionManager == null ? null : connectionManager.getTotalStats();
+		}
+	}
+
+	/**
+	 * This method returns the statistics of the asynchronous connection pool.
+	 *
+	 * @return {@link PoolStats}, or null if the client has not been created yet
+	 */
+	public static PoolStats getAsyncPoolStats() {
+		synchronized (LOCK) {
+			return asyncConnectionManager == null ? null : asyncConnectionManager.getTotalStats();
+		}
+	}
+
+	/**
+	 * This method closes the shared clients and all the pooled connections. New
+	 * clients are created if {@link HttpUtils} or {@link AsyncHttpUtils} is used
+	 * again afterwards.
+	 */
+	public static void shutdown() {
+		synchronized (LOCK) {
+			closeClients();
+		}
+	}
+
+	/**
+	 * This method creates the HTTP client with SSL context and a pooling
+	 * connection manager based on the given configuration.
+	 *
+	 * @param config {@link HttpClientConfig}
+	 *
+	 * @return {@link CloseableHttpClient}
+	 */
+	private static CloseableHttpClient createHttpClient(HttpClientConfig config) {
+		PoolingHttpClientConnectionManager poolingManager = new PoolingHttpClientConnectionManager(
+				getSocketFactoryRegistry(), null, null, null, config.getConnectionTimeToLiveMillis(),
+				TimeUnit.MILLISECONDS);
+		poolingManager.setMaxTotal(config.getMaxTotalConnections());
+		poolingManager.setDefaultMaxPerRoute(config.getMaxConnectionsPerRoute());
+		poolingManager.setValidateAfterInactivity(config.getValidateAfterInactivityMillis());
+
+		// Compression is negotiated per host, responses are always decompressed. Retries
+		// are left to the retry policy of the executor, the client sends each attempt once.
+		CloseableHttpClient client = createHttpClientBuilder(config).setConnectionManager(poolingManager)
+				.setKeepAliveStrategy(getKeepAliveStrategy(config)).evictExpiredConnections()
+				.evictIdleConnections(config.getMaxIdleMillis(), TimeUnit.MILLISECONDS).disableContentCompression()
+				.disableAutomaticRetries()
+				.addInterceptorFirst(new CompressionRequestInterceptor())
+				.addInterceptorLast(new ResponseContentEncoding()).build();
+
+		connectionManager = poolingManager;
+		registerShutdownHook(config);
+
+		LOGGER.info("Shared HTTP client created with maxTotal = {}, maxPerRoute = {}",
+				config.getMaxTotalConnections(), config.getMaxConnectionsPerRoute());
+		return client;
+	}
+
+	/**
+	 * This method returns the client builder, which adds the response cache to the
+	 * client when it is configured and the {@link BackendPermitExec} in front of
+	 * the host.
+	 *
+	 * @param config {@link HttpClientConfig}
+	 *
+	 * @return {@link HttpClientBuilder}
+	 */
+	private static HttpClientBuilder createHttpClientBuilder(HttpClientConfig config) {
+		HttpResponseCacheConfig cacheConfig = config.getResponseCache();
+		if (Objects.isNull(cacheConfig)) {
+			return new HttpClientBuilder() {
+
+				@Override
+				protected ClientExecChain decorateMainExec(ClientExecChain mainExec) {
+					return new BackendPermitExec(mainExec);
+				}
+
+			};
+		}
+
+		CacheConfig responseCacheConfig = CacheConfig.custom().setMaxCacheEntries(cacheConfig.getMaxCacheEntries())
+				.setMaxObjectSize(cacheConfig.getMaxObjectSizeBytes()).setSharedCache(cacheConfig.isSharedCache())
+				.setHeuristicCachingEnabled(cacheConfig.isHeuristicCachingEnabled())
+				.setAsynchronousWorkersCore(cacheConfig.getRevalidationThreads())
+				.setAsynchronousWorkersMax(cacheConfig.getRevalidationThreads())
+				.setRevalidationQueueSize(cacheConfig.getRevalidationQueueSize()).build();
+		// Permits are taken below the cache, only by requests sent to the host.
+		CachingHttpClientBuilder builder = new CachingHttpClientBuilder() {
+
+			@Override
+			protected ClientExecChain decorateMainExec(ClientExecChain mainExec) {
+				return super.decorateMainExec(new BackendPermitExec(mainExec));
+			}
+
+		};
+		builder.setCacheConfig(responseCacheConfig);
+		if (Objects.nonNull(cacheConfig.getStorage())) {
+			builder.setHttpCacheStorage(cacheConfig.getStorage());
+		}
+		if (cacheConfig.getRevalidationThreads() > 0) {
+			builder.setSchedulingStrategy(new DaemonSchedulingStrategy(cacheConfig.getRevalidationThreads(),
+					cacheConfig.getRevalidationQueueSize()));
+		}
+		LOGGER.info("Response cache enabled : {}", cacheConfig);
+		return builder;
+	}
+
+	/**
+	 * This method creates and starts the asynchronous HTTP client with SSL context
+	 * and a pooling NIO connection manager based on the given configuration.
+	 *
+	 * @implNote HttpAsyncClient has no built-in evictor, so a single daemon thread
+	 *           closes the expired and idle connections periodically.
+	 *
+	 * @param config {@link HttpClientConfig}
+	 *
+	 * @return {@link CloseableHttpAsyncClient}
+	 */
+	private static CloseableHttpAsyncClient createHttpAsyncClient(HttpClientConfig config) {
+		PoolingNHttpClientConnectionManager poolingManager;
+		try {
+			IOReactorConfig ioReactorConfig = IOReactorConfig.custom()
+					.setIoThreadCount(config.getAsyncIoThreadCount()).build();
+			Registry<SchemeIOSessionStrategy> sessionStrategyRegistry = RegistryBuilder
+					.<SchemeIOSessionStrategy>create().register("http", NoopIOSessionStrategy.INSTANCE)
+					.register("https", new SSLIOSessionStrategy(createSslContext())).build();
+			poolingManager = new PoolingNHttpClientConnectionManager(
+					new DefaultConnectingIOReactor(ioReactorConfig, daemonThreadFactory("http-async-dispatcher")), null,
+					sessionStrategyRegistry, null, null, config.getConnectionTimeToLiveMillis(), TimeUnit.MILLISECONDS);
+		} catch (IOReactorException e) {
+			throw new IllegalStateException("Unable to create IO reactor for async HTTP client", e);
+		}
+		poolingManager.setMaxTotal(config.getMaxTotalConnections());
+		poolingManager.setDefaultMaxPerRoute(config.getMaxConnectionsPerRoute());
+
+		CloseableHttpAsyncClient client = HttpAsyncClients.custom().setConnectionManager(poolingManager)
+				.setKeepAliveStrategy(getKeepAliveStrategy(config))
+				.setThreadFactory(daemonThreadFactory("http-async-reactor")).build();
+		client.start();
+
+		ScheduledExecutorService evictor = Executors
+				.newSingleThreadScheduledExecutor(daemonThreadFactory("http-async-connection-evictor"));
+		long evictionPeriod = Math.max(config.getMaxIdleMillis() / 2, 1_000L);
+		evictor.scheduleWithFixedDelay(() -> {
+			poolingManager.closeExpiredConnections();
+			poolingManager.closeIdleConnections(config.getMaxIdleMillis(), TimeUnit.MILLISECONDS);
+		}, evictionPeriod, evictionPeriod, TimeUnit.MILLISECONDS);
+
+		asyncConnectionManager = poolingManager;
+		asyncConnectionEvictor = evictor;
+		registerShutdownHook(config);
+
+		LOGGER.info("Shared async HTTP client created with ioThreads = {}, maxTotal = {}, maxPerRoute = {}",
+				config.getAsyncIoThreadCount(), config.getMaxTotalConnections(), config.getMaxConnectionsPerRoute());
+		return client;
+	}
+
+	/**
+	 * This method returns a thread factory which creates daemon threads, so that
+	 * the client threads never keep the JVM alive on their own.
+	 *
+	 * @param namePrefix
+	 *
+	 * @return {@link ThreadFactory}
+	 */
+	static ThreadFactory daemonThreadFactory(String namePrefix) {
+		AtomicInteger threadCount = new AtomicInteger();
+		return runnable -> {
+			Thread thread = new Thread(runnable, namePrefix + "-" + threadCount.incrementAndGet());
+			thread.setDaemon(true);
+			return thread;
+		};
+	}
+
+	/**
+	 * This method returns the executor used to run blocking calls in the
+	 * background, like batch requests and hedged requests.
+	 *
+	 * @return {@link ExecutorService}
+	 */
+	static ExecutorService getTaskExecutor() {
+		return TaskExecutorHolder.TASK_EXECUTOR;
+	}
+
+	/**
+	 * This method returns the single thread scheduler which aborts the requests
+	 * still running at their deadline.
+	 *
+	 * @return {@link ScheduledExecutorService}
+	 */
+	static ScheduledExecutorService getScheduler() {
+		return TaskExecutorHolder.SCHEDULER;
+	}
+
+	/**
+	 * This method registers the JVM shutdown hook which closes the shared clients,
+	 * if enabled and not registered already. Must be called while holding the
+	 * lock.
+	 *
+	 * @param config {@link HttpClientConfig}
+	 */
+	private static void registerShutdownHook(HttpClientConfig config) {
+		if (config.isRegisterShutdownHook() && shutdownHook == null) {
+			shutdownHook = new Thread(HttpClientManager::shutdown, "http-client-shutdown");
+			Runtime.getRuntime().addShutdownHook(shutdownHook);
+		}
+	}
+
+	/**
+	 * This method creates the socket factories for HTTP and HTTPS, the latter
+	 * trusting self signed certificates.
+	 *
+	 * @return {@link Registry} of {@link ConnectionSocketFactory}
+	 */
+	private static Registry<ConnectionSocketFactory> getSocketFactoryRegistry() {
+		return RegistryBuilder.<ConnectionSocketFactory>create()
+				.register("http", PlainConnectionSocketFactory.getSocketFactory())
+				.register("https", new SSLConnectionSocketFactory(createSslContext())).build();
+	}
+
+	/**
+	 * This method creates the SSL context which trusts self signed certificates.
+	 *
+	 * @return {@link SSLContext}
+	 */
+	private static SSLContext createSslContext() {
+		try {
+			return SSLContextBuilder.create().loadTrustMaterial(new TrustSelfSignedStrategy()).build();
+		} catch (KeyManagementException | NoSuchAlgorithmException | KeyStoreException e) {
+			throw new IllegalStateException("Unable to create SSL context for HTTP client", e);
+		}
+	}
+
+	/**
+	 * This method returns the keep-alive strategy, which honours the Keep-Alive
+	 * header sent by the server up to the configured maximum and falls back to
+	 * the configured default when the header is absent.
+	 *
+	 * @param config {@link HttpClientConfig}
+	 *
+	 * @return {@link ConnectionKeepAliveStrategy}
+	 */
+	private static ConnectionKeepAliveStrategy getKeepAliveStrategy(HttpClientConfig config) {
+		return (response, context) -> {
+			long keepAlive = DefaultConnectionKeepAliveStrategy.INSTANCE.getKeepAliveDuration(response, context);
+			if (keepAlive <= 0) {
+				return config.getDefaultKeepAliveMillis();
+			}
+			return Math.min(keepAlive, config.getMaxKeepAliveMillis());
+		};
+	}
+
+	/**
+	 * This method creates the executor for background calls. Virtual threads are
+	 * looked up reflectively so the library still runs on older runtimes.
+	 *
+	 * @return {@link ExecutorService}
+	 */
+	private static ExecutorService createTaskExecutor() {
+		try {
+			Method virtualExecutor = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+			LOGGER.info("Background HTTP requests will run on virtual threads");
+			return (ExecutorService) virtualExecutor.invoke(null);
+		} catch (ReflectiveOperationException e) {
+			LOGGER.info("Virtual threads not available, background HTTP requests will run on a thread pool");
+			return Executors.newCachedThreadPool(daemonThreadFactory("http-task"));
+		}
+	}
+
+	/**
+	 * This method closes the current clients, which also shuts down the connection
+	 * pools and the evictor threads. Must be called while holding the lock.
+	 */
+	private static void closeClients() {
+		CloseableHttpClient client = httpClient;
+		httpClient = null;
+		connectionManager = null;
+		if (client != null) {
+			try {
+				client.close();
+				LOGGER.info("Shared HTTP client closed");
+			} catch (IOException e) {
+				LOGGER.error("Exception in closing shared HTTP client", e);
+			}
+		}
+
+		// The JDK client has no close method before Java 21, its idle connections
+		// are closed once it is garbage collected.
+		http2Client = null;
+
+		CloseableHttpAsyncClient asyncClient = httpAsyncClient;
+		httpAsyncClient = null;
+		asyncConnectionManager = null;
+		if (asyncConnectionEvictor != null) {
+			asyncConnectionEvictor.shutdownNow();
+			asyncConnectionEvictor = null;
+		}
+		if (asyncClient != null) {
+			try {
+				asyncClient.close();
+				LOGGER.info("Shared async HTTP client closed");
+			} catch (IOException e) {
+				LOGGER.error("Exception in closing shared async HTTP client", e);
+			}
+		}
+	}
+
+	/**
+	 * Creates the task executor and the scheduler on first use.
+	 */
+	private static final class TaskExecutorHolder {
+
+		private static final ExecutorService TASK_EXECUTOR = createTaskExecutor();
+
+		private static final ScheduledExecutorService SCHEDULER = createScheduler();
+
+		private static ScheduledExecutorService createScheduler() {
+			ScheduledThreadPoolExecutor scheduler = new ScheduledThreadPoolExecutor(1,
+					daemonThreadFactory("http-deadline"));
+			// Cancelled aborts are the common case, so they must not pile up.
+			scheduler.setRemoveOnCancelPolicy(true);
+			return scheduler;
+		}
+
+	}
+
+}
@@ -0,0 +1,36 @@
+package com.custom.common.utilities.httpclient;
+
+import java.util.Set;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * This class holds the request coalescing settings used by {@link HttpUtils}
+ * for a destination host.
+ *
+ * @implSpec Set using {@link HttpClientManager#setDefaultCoalescingConfig(HttpCoalescingConfig)}
+ *           or {@link HttpClientManager#setCoalescingConfig(String, HttpCoalescingConfig)}.
+ *           When enabled, concurrent identical GET requests are sent once and
+ *           all the callers get a copy of the same response. Requests are
+ *           identical when the method, the normalized URI and the values of the
+ *           key headers match.
+ *
+ * @author Abhijeet
+ *
+ */
+@Getter
+@Builder
+@ToString
+public class HttpCoalescingConfig {
+
+	@Builder.Default
+	private final boolean enabled = false;
+
+	// Headers which must match as well, so callers never share a response meant
+	// for a different user or representation.
+	@Builder.Default
+	private final Set<String> keyHeaders = Set.of("Authorization", "Cookie", "Accept");
+
+}
@@ -0,0 +1,37 @@
+package com.custom.common.utilities.httpclient;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * This class holds the compression settings used by {@link HttpUtils} for a
+ * destination host.
+ *
+ * @implSpec Set using {@link HttpClientManager#setDefaultCompressionConfig(HttpCompressionConfig)}
+ *           or {@link HttpClientManager#setCompressionConfig(String, HttpCompressionConfig)}.
+ *           Compressed responses are always decompressed, whatever the
+ *           configuration.
+ *
+ * @author Abhijeet
+ *
+ */
+@Getter
+@Builder
+@ToString
+public class HttpCompressionConfig {
+
+	// Sends Accept-Encoding: gzip, deflate so the server may compress responses.
+	@Builder.Default
+	private final boolean acceptCompressedResponses = true;
+
+	// Compresses request bodies with gzip, which the server must support.
+	@Builder.Default
+	private final boolean compressRequests = false;
+
+	// Request bodies smaller than this are sent uncompressed. Bodies of unknown
+	// length are always compressed.
+	@Builder.Default
+	private final long requestCompressionThresholdBytes = 1024L;
+
+}
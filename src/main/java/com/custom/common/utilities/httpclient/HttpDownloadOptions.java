@@ -0,0 +1,38 @@
+package com.custom.common.utilities.httpclient;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * This class holds the options of a download made using the download methods
+ * of {@link HttpUtils}.
+ *
+ * @implSpec Every option has a default, so {@code HttpDownloadOptions.builder().build()}
+ *           downloads the whole body with a SHA-256 checksum and no size limit.
+ *
+ * @author Abhijeet
+ *
+ */
+@Getter
+@Builder
+@ToString
+public class HttpDownloadOptions {
+
+	// Maximum number of bytes accepted for the body, -1 for no limit.
+	@Builder.Default
+	private final long maxSizeBytes = -1L;
+
+	// Continues a partial file using a Range request, only used for file targets.
+	@Builder.Default
+	private final boolean resume = false;
+
+	// MessageDigest algorithm for the checksum, null to skip the checksum.
+	@Builder.Default
+	private final String checksumAlgorithm = "SHA-256";
+
+	// Size of the single buffer used to copy the body.
+	@Builder.Default
+	private final int bufferSize = 64 * 1024;
+
+}
@@ -0,0 +1,45 @@
+package com.custom.common.utilities.httpclient;
+
+import java.util.Objects;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * This class holds the outcome of a download made using the download methods
+ * of {@link HttpUtils}.
+ *
+ * @implSpec The body is written only for successful (2xx) responses. For a
+ *           resumed download, bytesWritten counts only this call while
+ *           totalBytes and the checksum cover the whole file. When the
+ *           download is rejected by the client without being sent, only the
+ *           rejection reason is set.
+ *
+ * @author Abhijeet
+ *
+ */
+@Getter
+@ToString
+@AllArgsConstructor
+public class HttpDownloadResult {
+
+	private final int httpStatus;
+
+	private final long bytesWritten;
+
+	private final long totalBytes;
+
+	private final boolean resumed;
+
+	private final String checksum;
+
+	private final long timeTakenMillis;
+
+	private final RejectionReason rejectionReason;
+
+	public boolean isRejected() {
+		return Objects.nonNull(rejectionReason);
+	}
+
+}
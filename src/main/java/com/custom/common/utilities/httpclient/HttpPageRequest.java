@@ -0,0 +1,52 @@
+package com.custom.common.utilities.httpclient;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.function.Function;
+
+import com.fasterxml.jackson.databind.JavaType;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * This class describes a paginated API walked using
+ * {@link HttpUtils#streamPages(HttpPageRequest)} or
+ * {@link HttpUtils#iteratePages(HttpPageRequest)}.
+ *
+ * @implSpec Every page is requested with GET on the same URL and headers. The
+ *           parameters are those of the first page, the following ones are
+ *           given by the cursor extractor. The items extractor returns the
+ *           items of a page, in order.
+ *
+ * @author Abhijeet
+ *
+ */
+@Getter
+@Builder
+@ToString
+public class HttpPageRequest<P, T> {
+
+	private final String url;
+
+	private final Map<String, Object> headers;
+
+	private final Map<String, String> params;
+
+	// Type of the body of a page, e.g. from TypeConversionUtils.getTypeFactory().
+	private final JavaType pageType;
+
+	private final Function<P, ? extends Collection<T>> itemsExtractor;
+
+	private final PageCursorExtractor<P> cursorExtractor;
+
+	// Number of pages fetched ahead of the one being consumed.
+	@Builder.Default
+	private final int prefetchPages = 2;
+
+	// Maximum number of pages fetched, 0 for no limit.
+	@Builder.Default
+	private final int maxPages = 0;
+
+}
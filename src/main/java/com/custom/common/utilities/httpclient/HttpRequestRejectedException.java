@@ -0,0 +1,29 @@
+package com.custom.common.utilities.httpclient;
+
+import java.io.IOException;
+
+/**
+ * This exception is thrown when a request is rejected by the client before it
+ * is sent, e.g. by an open circuit breaker, or cut off at its deadline. The public methods of
+ * {@link HttpUtils} return a response with the {@link RejectionReason} instead
+ * of throwing it.
+ *
+ * @author Abhijeet
+ *
+ */
+public class HttpRequestRejectedException extends IOException {
+
+	private static final long serialVersionUID = 4385127603339126474L;
+
+	private final RejectionReason reason;
+
+	public HttpRequestRejectedException(RejectionReason reason, String host) {
+		super("Request to " + host + " rejected : " + reason);
+		this.reason = reason;
+	}
+
+	public RejectionReason getReason() {
+		return reason;
+	}
+
+}
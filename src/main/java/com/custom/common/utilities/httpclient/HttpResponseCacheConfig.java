@@ -0,0 +1,56 @@
+package com.custom.common.utilities.httpclient;
+
+import org.apache.http.client.cache.HttpCacheStorage;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * This class holds the settings of the client-side response cache, set on
+ * {@link HttpClientConfig#getResponseCache()}.
+ *
+ * @implSpec Only GET and HEAD responses are cached, following Cache-Control,
+ *           Expires, ETag and Last-Modified. Stale entries are revalidated
+ *           with conditional requests, and served while being revalidated in
+ *           the background when the response allows stale-while-revalidate.
+ *           Entries are kept in a size-bounded in-memory LRU store unless a
+ *           different {@link HttpCacheStorage} is given.
+ *
+ * @author Abhijeet
+ *
+ */
+@Getter
+@Builder
+@ToString
+public class HttpResponseCacheConfig {
+
+	// Maximum number of responses kept by the default in-memory store.
+	@Builder.Default
+	private final int maxCacheEntries = 1_000;
+
+	// Larger response bodies are not cached.
+	@Builder.Default
+	private final long maxObjectSizeBytes = 1_048_576L;
+
+	// Shared caches do not store private or authorized responses. A private
+	// cache replays them to any caller of the process-wide client, so it is only
+	// safe when all the requests are made on behalf of a single principal.
+	@Builder.Default
+	private final boolean sharedCache = true;
+
+	// Caches responses without explicit freshness, based on Last-Modified.
+	@Builder.Default
+	private final boolean heuristicCachingEnabled = false;
+
+	// Background threads for stale-while-revalidate, 0 to revalidate inline.
+	@Builder.Default
+	private final int revalidationThreads = 1;
+
+	@Builder.Default
+	private final int revalidationQueueSize = 100;
+
+	// Store with its own eviction policy, null for the in-memory LRU store.
+	private final HttpCacheStorage storage;
+
+}
@@ -0,0 +1,47 @@
+package com.custom.common.utilities.httpclient;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * This class holds the timeouts used by {@link HttpUtils} for a destination
+ * host or a single call.
+ *
+ * @implSpec Set using {@link HttpClientManager#setDefaultTimeoutConfig(HttpTimeoutConfig)},
+ *           {@link HttpClientManager#setTimeoutConfig(String, HttpTimeoutConfig)}
+ *           or, for the calls made inside a block,
+ *           {@link HttpUtils#withTimeouts(HttpTimeoutConfig, java.util.function.Supplier)}.
+ *           The total timeout covers all the attempts of a call, including
+ *           retries and backoff. When a {@link RequestDeadline} is set for the
+ *           current thread, the earlier of the two applies.
+ *
+ * @author Abhijeet
+ *
+ */
+@Getter
+@Builder
+@ToString
+public class HttpTimeoutConfig {
+
+	// Time to establish the TCP and TLS connection.
+	@Builder.Default
+	private final int connectTimeoutMillis = 10_000;
+
+	// Time to wait for a free connection from the pool.
+	@Builder.Default
+	private final int connectionRequestTimeoutMillis = 10_000;
+
+	// Longest inactivity between two packets of the response.
+	@Builder.Default
+	private final int socketTimeoutMillis = 30_000;
+
+	// Overall time limit of a call, 0 for none.
+	@Builder.Default
+	private final long totalTimeoutMillis = 0L;
+
+	// Sends the remaining time budget to the host in the deadline header.
+	@Builder.Default
+	private final boolean propagateDeadline = false;
+
+}
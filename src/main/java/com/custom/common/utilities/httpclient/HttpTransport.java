@@ -0,0 +1,21 @@
+package com.custom.common.utilities.httpclient;
+
+/**
+ * This enum lists the transports which {@link HttpUtils} can use to reach a
+ * destination host, set using
+ * {@link HttpClientManager#setTransport(String, HttpTransport)}.
+ *
+ * @author Abhijeet
+ *
+ */
+public enum HttpTransport {
+
+	// Apache HttpClient with pooled HTTP/1.1 connections.
+	HTTP_1_1,
+
+	// JDK HttpClient which negotiates HTTP/2 with ALPN, or h2c upgrade for plain
+	// HTTP, and multiplexes concurrent requests over one connection. Falls back
+	// to HTTP/1.1 when the server does not support HTTP/2.
+	HTTP_2
+
+}
@@ -2,40 +2,49 @@ package com.custom.common.utilities.httpclient;
 
 import java.io.File;
 import java.io.FileInputStream;
-import java.security.KeyManagementException;
-import java.security.KeyStoreException;
-import java.security.NoSuchAlgorithmException;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
 import java.util.Map;
-import java.util.Map.Entry;
 import java.util.Objects;
-
-import javax.net.ssl.SSLContext;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
 
 import org.apache.commons.collections4.MapUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.http.HttpEntity;
-import org.apache.http.HttpResponse;
+import org.apache.http.HttpHeaders;
+import org.apache.http.client.ResponseHandler;
 import org.apache.http.client.methods.HttpDelete;
 import org.apache.http.client.methods.HttpGet;
 import org.apache.http.client.methods.HttpPost;
 import org.apache.http.client.methods.HttpPut;
-import org.apache.http.client.utils.URIBuilder;
-import org.apache.http.conn.ssl.SSLConnectionSocketFactory;
-import org.apache.http.conn.ssl.TrustSelfSignedStrategy;
+import org.apache.http.client.methods.HttpUriRequest;
 import org.apache.http.entity.ContentType;
 import org.apache.http.entity.mime.MultipartEntityBuilder;
 import org.apache.http.impl.client.CloseableHttpClient;
-import org.apache.http.impl.client.HttpClients;
-import org.apache.http.ssl.SSLContextBuilder;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import com.custom.common.utilities.convertors.DataFormat;
+import com.custom.common.utilities.convertors.TypeConversionUtils;
+import com.custom.common.utilities.response.TypedWebserviceResponse;
 import com.custom.common.utilities.response.WebserviceResponse;
+import com.fasterxml.jackson.databind.JavaType;
 
 /**
  * This class is used to send HTTP requests to remote or internal APIs.
  * 
- * @implNote It uses {@link CloseableHttpClient}
+ * @implNote It uses the shared {@link CloseableHttpClient} provided by
+ *           {@link HttpClientManager}, so connections are pooled and reused
+ *           across calls. Retries, hedging, circuit breakers, bulkheads and the
+ *           {@link DataFormat} of the bodies are configured per host on
+ *           {@link HttpClientManager}.
  * 
  * @author Abhijeet
  *
@@ -48,24 +57,6 @@ public final class HttpUtils {
 		throw new IllegalStateException("HttpUtils class cannot be instantiated");
 	}
 
-	/**
-	 * This method is used to create a HTTP client with SSL context.
-	 * 
-	 * @return {@link CloseableHttpClient}
-	 * 
-	 * @throws KeyManagementException
-	 * @throws NoSuchAlgorithmException
-	 * @throws KeyStoreException
-	 */
-	private static CloseableHttpClient getHttpsClient()
-			throws KeyManagementException, NoSuchAlgorithmException, KeyStoreException {
-
-		SSLContext sslContext = SSLContextBuilder.create().loadTrustMaterial(new TrustSelfSignedStrategy()).build();
-
-		SSLConnectionSocketFactory sslConnectionSocketFactory = new SSLConnectionSocketFactory(sslContext);
-		return HttpClients.custom().setSSLSocketFactory(sslConnectionSocketFactory).build();
-	}
-
 	/**
 	 * This method is used to send a GET request to an external URL.
 	 * 
@@ -76,7 +67,7 @@ public final class HttpUtils {
 	 */
 	public static WebserviceResponse sendGetRequest(String url, Map<String, Object> headers) {
 		WebserviceResponse webServiceResponse = null;
-		try (CloseableHttpClient httpClient = getHttpsClient()) {
+		try {
 			LOGGER.info("GET REQUEST: URL - {}", url);
 			HttpGet getRequest = new HttpGet(url);
 
@@ -85,8 +76,7 @@ public final class HttpUtils {
 				getRequest.setHeaders(CommonHttpFunctions.getHeaders(headers));
 			}
 
-			HttpResponse httpResponse = httpClient.execute(getRequest);
-			webServiceResponse = CommonHttpFunctions.prepareResponse(httpResponse, url);
+			webServiceResponse = execute(getRequest, url);
 
 		} catch (Exception e) {
 			LOGGER.info("Exception in sendGetRequest : ", e);
@@ -106,26 +96,18 @@ public final class HttpUtils {
 	public static WebserviceResponse sendGetRequest(String url, Map<String, Object> headers,
 			Map<String, String> params) {
 		WebserviceResponse webServiceResponse = null;
-		try (CloseableHttpClient httpClient = getHttpsClient()) {
+		try {
 			LOGGER.info("GET REQUEST: URL - {}", url);
 
 			// Set Request Parameters
-			URIBuilder builder = new URIBuilder(url);
-			if (MapUtils.isNotEmpty(params)) {
-				for (Entry<String, String> entry : params.entrySet()) {
-					builder.setParameter(entry.getKey(), entry.getValue());
-				}
-			}
-
-			HttpGet getRequest = new HttpGet(builder.build());
+			HttpGet getRequest = new HttpGet(CommonHttpFunctions.getUriWithParams(url, params));
 
 			// Set Headers
 			if (MapUtils.isNotEmpty(headers)) {
 				getRequest.setHeaders(CommonHttpFunctions.getHeaders(headers));
 			}
 
-			HttpResponse httpResponse = httpClient.execute(getRequest);
-			webServiceResponse = CommonHttpFunctions.prepareResponse(httpResponse, url);
+			webServiceResponse = execute(getRequest, url);
 
 		} catch (Exception e) {
 			LOGGER.info("Exception in sendGetRequest : ", e);
@@ -144,13 +126,13 @@ public final class HttpUtils {
 	 */
 	public static WebserviceResponse sendPostRequest(String url, Map<String, Object> headers, Object request) {
 		WebserviceResponse webServiceResponse = null;
-		try (CloseableHttpClient httpClient = getHttpsClient()) {
+		try {
 			LOGGER.info("POST REQUEST: URL - {}", url);
 			HttpPost postRequest = new HttpPost(url);
 
 			// Set Request
 			if (Objects.nonNull(request)) {
-				postRequest.setEntity(CommonHttpFunctions.convertRequestToStringEntity(request));
+				postRequest.setEntity(CommonHttpFunctions.convertRequestToEntity(request, postRequest.getURI()));
 			}
 
 			// Set Headers
@@ -158,8 +140,7 @@ public final class HttpUtils {
 				postRequest.setHeaders(CommonHttpFunctions.getHeaders(headers));
 			}
 
-			HttpResponse httpResponse = httpClient.execute(postRequest);
-			webServiceResponse = CommonHttpFunctions.prepareResponse(httpResponse, url);
+			webServiceResponse = execute(postRequest, url);
 
 		} catch (Exception e) {
 			LOGGER.info("Exception in sendPostRequest : ", e);
@@ -178,13 +159,13 @@ public final class HttpUtils {
 	 */
 	public static WebserviceResponse sendPutRequest(String url, Map<String, Object> headers, Object request) {
 		WebserviceResponse webServiceResponse = null;
-		try (CloseableHttpClient httpClient = getHttpsClient()) {
+		try {
 			LOGGER.info("PUT REQUEST: URL - {}", url);
 			HttpPut putRequest = new HttpPut(url);
 
 			// Set Request Body
 			if (Objects.nonNull(request)) {
-				putRequest.setEntity(CommonHttpFunctions.convertRequestToStringEntity(request));
+				putRequest.setEntity(CommonHttpFunctions.convertRequestToEntity(request, putRequest.getURI()));
 			}
 
 			// Set Headers
@@ -192,8 +173,7 @@ public final class HttpUtils {
 				putRequest.setHeaders(CommonHttpFunctions.getHeaders(headers));
 			}
 
-			HttpResponse httpResponse = httpClient.execute(putRequest);
-			webServiceResponse = CommonHttpFunctions.prepareResponse(httpResponse, url);
+			webServiceResponse = execute(putRequest, url);
 
 		} catch (Exception e) {
 			LOGGER.info("Exception in sendPutRequest : ", e);
@@ -211,7 +191,7 @@ public final class HttpUtils {
 	 */
 	public static WebserviceResponse sendDeleteRequest(String url, Map<String, Object> headers) {
 		WebserviceResponse webServiceResponse = null;
-		try (CloseableHttpClient httpClient = getHttpsClient()) {
+		try {
 			LOGGER.info("DELETE REQUEST: URL - {}", url);
 			HttpDelete deleteRequest = new HttpDelete(url);
 
@@ -220,8 +200,7 @@ public final class HttpUtils {
 				deleteRequest.setHeaders(CommonHttpFunctions.getHeaders(headers));
 			}
 
-			HttpResponse httpResponse = httpClient.execute(deleteRequest);
-			webServiceResponse = CommonHttpFunctions.prepareResponse(httpResponse, url);
+			webServiceResponse = execute(deleteRequest, url);
 
 		} catch (Exception e) {
 			LOGGER.info("Exception in sendDeleteRequest : ", e);
@@ -242,26 +221,18 @@ public final class HttpUtils {
 	public static WebserviceResponse sendDeleteRequest(String url, Map<String, Object> headers,
 			Map<String, String> params) {
 		WebserviceResponse webServiceResponse = null;
-		try (CloseableHttpClient httpClient = getHttpsClient()) {
+		try {
 			LOGGER.info("DELETE REQUEST: URL - {}", url);
 
 			// Set Request Parameters
-			URIBuilder builder = new URIBuilder(url);
-			if (MapUtils.isNotEmpty(params)) {
-				for (Entry<String, String> entry : params.entrySet()) {
-					builder.setParameter(entry.getKey(), entry.getValue());
-				}
-			}
-
-			HttpDelete deleteRequest = new HttpDelete(builder.build());
+			HttpDelete deleteRequest = new HttpDelete(CommonHttpFunctions.getUriWithParams(url, params));
 
 			// Set Headers
 			if (MapUtils.isNotEmpty(headers)) {
 				deleteRequest.setHeaders(CommonHttpFunctions.getHeaders(headers));
 			}
 
-			HttpResponse httpResponse = httpClient.execute(deleteRequest);
-			webServiceResponse = CommonHttpFunctions.prepareResponse(httpResponse, url);
+			webServiceResponse = execute(deleteRequest, url);
 
 		} catch (Exception e) {
 			LOGGER.info("Exception in sendDeleteRequest : ", e);
@@ -284,7 +255,7 @@ public final class HttpUtils {
 	public static WebserviceResponse sendMultipartRequest(String url, Map<String, Object> headers,
 			Map<String, Object> requestBody, FileInputStream fileStream, String fileName) {
 		WebserviceResponse webServiceResponse = null;
-		try (CloseableHttpClient httpClient = getHttpsClient()) {
+		try {
 			LOGGER.info("MULTIPART POST REQUEST: URL - {}", url);
 			HttpPost multipartRequest = new HttpPost(url);
 
@@ -311,10 +282,8 @@ public final class HttpUtils {
 			if (MapUtils.isNotEmpty(headers)) {
 				multipartRequest.setHeaders(CommonHttpFunctions.getHeaders(headers));
 			}
-			multipartRequest.setHeader("Content-Type", ContentType.MULTIPART_FORM_DATA.toString());
 
-			HttpResponse httpResponse = httpClient.execute(multipartRequest);
-			webServiceResponse = CommonHttpFunctions.prepareResponse(httpResponse, url);
+			webServiceResponse = execute(multipartRequest, url);
 
 		} catch (Exception e) {
 			LOGGER.info("Exception in sendMultipartRequest : ", e);
@@ -336,7 +305,7 @@ public final class HttpUtils {
 	public static WebserviceResponse sendMultipartRequest(String url, Map<String, Object> headers,
 			Map<String, String> requestBody, File file) {
 		WebserviceResponse webServiceResponse = null;
-		try (CloseableHttpClient httpClient = getHttpsClient()) {
+		try {
 			LOGGER.info("MULTIPART POST REQUEST: URL - {}", url);
 			HttpPost multipartRequest = new HttpPost(url);
 
@@ -363,14 +332,552 @@ public final class HttpUtils {
 			if (MapUtils.isNotEmpty(headers)) {
 				multipartRequest.setHeaders(CommonHttpFunctions.getHeaders(headers));
 			}
-			multipartRequest.setHeader("Content-Type", ContentType.MULTIPART_FORM_DATA.toString());
 
-			HttpResponse httpResponse = httpClient.execute(multipartRequest);
-			webServiceResponse = CommonHttpFunctions.prepareResponse(httpResponse, url);
+			webServiceResponse = execute(multipartRequest, url);
 		} catch (Exception e) {
 			LOGGER.info("Exception in sendMultipartRequest : ", e);
 		}
 		return webServiceResponse;
 	}
 
+	/**
+	 * This method is used to send a MULTIPART POST request to an external URL with
+	 * the parts added to the {@link MultipartRequestBuilder}.
+	 * 
+	 * @implNote The parts are streamed to the connection, so memory use does not
+	 *           depend on the size of the files.
+	 * 
+	 * @param url       - Complete URL of API to be called
+	 * @param headers   - Map of headers required to be sent
+	 * @param multipart - {@link MultipartRequestBuilder} with the parts to be sent
+	 * 
+	 * @return {@link WebserviceResponse}
+	 */
+	public static WebserviceResponse sendMultipartRequest(String url, Map<String, Object> headers,
+			MultipartRequestBuilder multipart) {
+		WebserviceResponse webServiceResponse = null;
+		try {
+			LOGGER.info("MULTIPART POST REQUEST: URL - {}", url);
+			HttpPost multipartRequest = new HttpPost(url);
+
+			// Set Request Body
+			multipartRequest.setEntity(multipart.build());
+
+			// Set Headers
+			if (MapUtils.isNotEmpty(headers)) {
+				multipartRequest.setHeaders(CommonHttpFunctions.getHeaders(headers));
+			}
+
+			webServiceResponse = execute(multipartRequest, url);
+		} catch (Exception e) {
+			LOGGER.info("Exception in sendMultipartRequest : ", e);
+		}
+		return webServiceResponse;
+	}
+
+	/**
+	 * This method is used to send a GET request to an external URL with parameters
+	 * and read the response body directly into the given class.
+	 * 
+	 * @param url          - Complete URL of API to be called
+	 * @param headers      - Map of headers required to be sent
+	 * @param params       - List of request parameters to be sent, can be null
+	 * @param responseType - Class of the response body
+	 * 
+	 * @return {@link TypedWebserviceResponse}
+	 */
+	public static <T> TypedWebserviceResponse<T> sendGetRequest(String url, Map<String, Object> headers,
+			Map<String, String> params, Class<T> responseType) {
+		return sendGetRequest(url, headers, params, TypeConversionUtils.getTypeFactory().constructType(responseType));
+	}
+
+	/**
+	 * This method is used to send a GET request to an external URL with parameters
+	 * and read the response body directly into the given {@link JavaType}.
+	 * 
+	 * @param url          - Complete URL of API to be called
+	 * @param headers      - Map of headers required to be sent
+	 * @param params       - List of request parameters to be sent, can be null
+	 * @param responseType - {@link JavaType} of the response body
+	 * 
+	 * @return {@link TypedWebserviceResponse}
+	 */
+	public static <T> TypedWebserviceResponse<T> sendGetRequest(String url, Map<String, Object> headers,
+			Map<String, String> params, JavaType responseType) {
+		TypedWebserviceResponse<T> webServiceResponse = null;
+		try {
+			LOGGER.info("GET REQUEST: URL - {}", url);
+
+			// Set Request Parameters
+			HttpGet getRequest = new HttpGet(CommonHttpFunctions.getUriWithParams(url, params));
+
+			// Set Headers
+			if (MapUtils.isNotEmpty(headers)) {
+				getRequest.setHeaders(CommonHttpFunctions.getHeaders(headers));
+			}
+
+			webServiceResponse = execute(getRequest, url, responseType);
+
+		} catch (Exception e) {
+			LOGGER.info("Exception in sendGetRequest : ", e);
+		}
+		return webServiceResponse;
+	}
+
+	/**
+	 * This method is used to send a POST request to an external URL and read the
+	 * response body directly into the given class.
+	 * 
+	 * @param url          - Complete URL of API to be called
+	 * @param headers      - Map of headers required to be sent
+	 * @param request      - Request body
+	 * @param responseType - Class of the response body
+	 * 
+	 * @return {@link TypedWebserviceResponse}
+	 */
+	public static <T> TypedWebserviceResponse<T> sendPostRequest(String url, Map<String, Object> headers,
+			Object request, Class<T> responseType) {
+		return sendPostRequest(url, headers, request, TypeConversionUtils.getTypeFactory().constructType(responseType));
+	}
+
+	/**
+	 * This method is used to send a POST request to an external URL and read the
+	 * response body directly into the given {@link JavaType}.
+	 * 
+	 * @param url          - Complete URL of API to be called
+	 * @param headers      - Map of headers required to be sent
+	 * @param request      - Request body
+	 * @param responseType - {@link JavaType} of the response body
+	 * 
+	 * @return {@link TypedWebserviceResponse}
+	 */
+	public static <T> TypedWebserviceResponse<T> sendPostRequest(String url, Map<String, Object> headers,
+			Object request, JavaType responseType) {
+		TypedWebserviceResponse<T> webServiceResponse = null;
+		try {
+			LOGGER.info("POST REQUEST: URL - {}", url);
+			HttpPost postRequest = new HttpPost(url);
+
+			// Set Request
+			if (Objects.nonNull(request)) {
+				postRequest.setEntity(CommonHttpFunctions.convertRequestToEntity(request, postRequest.getURI()));
+			}
+
+			// Set Headers
+			if (MapUtils.isNotEmpty(headers)) {
+				postRequest.setHeaders(CommonHttpFunctions.getHeaders(headers));
+			}
+
+			webServiceResponse = execute(postRequest, url, responseType);
+
+		} catch (Exception e) {
+			LOGGER.info("Exception in sendPostRequest : ", e);
+		}
+		return webServiceResponse;
+	}
+
+	/**
+	 * This method is used to send a PUT request to an external URL and read the
+	 * response body directly into the given class.
+	 * 
+	 * @param url          - Complete URL of API to be called
+	 * @param headers      - Map of headers required to be sent
+	 * @param request      - Request body
+	 * @param responseType - Class of the response body
+	 * 
+	 * @return {@link TypedWebserviceResponse}
+	 */
+	public static <T> TypedWebserviceResponse<T> sendPutRequest(String url, Map<String, Object> headers,
+			Object request, Class<T> responseType) {
+		return sendPutRequest(url, headers, request, TypeConversionUtils.getTypeFactory().constructType(responseType));
+	}
+
+	/**
+	 * This method is used to send a PUT request to an external URL and read the
+	 * response body directly into the given {@link JavaType}.
+	 * 
+	 * @param url          - Complete URL of API to be called
+	 * @param headers      - Map of headers required to be sent
+	 * @param request      - Request body
+	 * @param responseType - {@link JavaType} of the response body
+	 * 
+	 * @return {@link TypedWebserviceResponse}
+	 */
+	public static <T> TypedWebserviceResponse<T> sendPutRequest(String url, Map<String, Object> headers,
+			Object request, JavaType responseType) {
+		TypedWebserviceResponse<T> webServiceResponse = null;
+		try {
+			LOGGER.info("PUT REQUEST: URL - {}", url);
+			HttpPut putRequest = new HttpPut(url);
+
+			// Set Request Body
+			if (Objects.nonNull(request)) {
+				putRequest.setEntity(CommonHttpFunctions.convertRequestToEntity(request, putRequest.getURI()));
+			}
+
+			// Set Headers
+			if (MapUtils.isNotEmpty(headers)) {
+				putRequest.setHeaders(CommonHttpFunctions.getHeaders(headers));
+			}
+
+			webServiceResponse = execute(putRequest, url, responseType);
+
+		} catch (Exception e) {
+			LOGGER.info("Exception in sendPutRequest : ", e);
+		}
+		return webServiceResponse;
+	}
+
+	/**
+	 * This method is used to send a DELETE request to an external URL with request
+	 * parameters and read the response body directly into the given class.
+	 * 
+	 * @param url          - Complete URL of API to be called
+	 * @param headers      - Map of headers required to be sent
+	 * @param params       - List of request parameters to be sent, can be null
+	 * @param responseType - Class of the response body
+	 * 
+	 * @return {@link TypedWebserviceResponse}
+	 */
+	public static <T> TypedWebserviceResponse<T> sendDeleteRequest(String url, Map<String, Object> headers,
+			Map<String, String> params, Class<T> responseType) {
+		return sendDeleteRequest(url, headers, params,
+				TypeConversionUtils.getTypeFactory().constructType(responseType));
+	}
+
+	/**
+	 * This method is used to send a DELETE request to an external URL with request
+	 * parameters and read the response body directly into the given
+	 * {@link JavaType}.
+	 * 
+	 * @param url          - Complete URL of API to be called
+	 * @param headers      - Map of headers required to be sent
+	 * @param params       - List of request parameters to be sent, can be null
+	 * @param responseType - {@link JavaType} of the response body
+	 * 
+	 * @return {@link TypedWebserviceResponse}
+	 */
+	public static <T> TypedWebserviceResponse<T> sendDeleteRequest(String url, Map<String, Object> headers,
+			Map<String, String> params, JavaType responseType) {
+		TypedWebserviceResponse<T> webServiceResponse = null;
+		try {
+			LOGGER.info("DELETE REQUEST: URL - {}", url);
+
+			// Set Request Parameters
+			HttpDelete deleteRequest = new HttpDelete(CommonHttpFunctions.getUriWithParams(url, params));
+
+			// Set Headers
+			if (MapUtils.isNotEmpty(headers)) {
+				deleteRequest.setHeaders(CommonHttpFunctions.getHeaders(headers));
+			}
+
+			webServiceResponse = execute(deleteRequest, url, responseType);
+
+		} catch (Exception e) {
+			LOGGER.info("Exception in sendDeleteRequest : ", e);
+		}
+		return webServiceResponse;
+	}
+
+	/**
+	 * This method is used to download the response body of a GET request into a
+	 * file, without holding the body in memory.
+	 * 
+	 * @implSpec When resume is enabled in the options and the file already has
+	 *           content, a Range request is sent for the remaining bytes. If the
+	 *           server ignores the range the file is downloaded again from the
+	 *           start.
+	 * 
+	 * @param url        - Complete URL of API to be called
+	 * @param headers    - Map of headers required to be sent
+	 * @param targetFile - File the body is written to
+	 * @param options    - {@link HttpDownloadOptions}, null for the defaults
+	 * 
+	 * @return {@link HttpDownloadResult}
+	 */
+	public static HttpDownloadResult downloadToFile(String url, Map<String, Object> headers, Path targetFile,
+			HttpDownloadOptions options) {
+		HttpDownloadResult downloadResult = null;
+		try {
+			LOGGER.info("DOWNLOAD REQUEST: URL - {}, File - {}", url, targetFile);
+			HttpDownloadOptions downloadOptions = getDownloadOptions(options);
+			HttpGet getRequest = new HttpGet(url);
+
+			// Set Headers
+			if (MapUtils.isNotEmpty(headers)) {
+				getRequest.setHeaders(CommonHttpFunctions.getHeaders(headers));
+			}
+
+			// Set Range for resuming a partial file
+			long resumeOffset = 0L;
+			if (downloadOptions.isResume() && Files.exists(targetFile)) {
+				resumeOffset = Files.size(targetFile);
+				if (resumeOffset > 0) {
+					// Ranges apply to the encoded body, so ask for the identity encoding.
+					getRequest.setHeader(HttpHeaders.RANGE, "bytes=" + resumeOffset + "-");
+					getRequest.setHeader(HttpHeaders.ACCEPT_ENCODING, "identity");
+				}
+			}
+
+			downloadResult = download(getRequest,
+					DownloadResponseHandler.forFile(url, targetFile, resumeOffset, downloadOptions));
+
+		} catch (Exception e) {
+			LOGGER.info("Exception in downloadToFile : ", e);
+		}
+		return downloadResult;
+	}
+
+	/**
+	 * This method is used to download the response body of a GET request into a
+	 * channel, without holding the body in memory.
+	 * 
+	 * @apiNote The channel is not closed by this method.
+	 * 
+	 * @param url           - Complete URL of API to be called
+	 * @param headers       - Map of headers required to be sent
+	 * @param targetChannel - Channel the body is written to
+	 * @param options       - {@link HttpDownloadOptions}, null for the defaults
+	 * 
+	 * @return {@link HttpDownloadResult}
+	 */
+	public static HttpDownloadResult downloadToChannel(String url, Map<String, Object> headers,
+			WritableByteChannel targetChannel, HttpDownloadOptions options) {
+		HttpDownloadResult downloadResult = null;
+		try {
+			LOGGER.info("DOWNLOAD REQUEST: URL - {}", url);
+			HttpGet getRequest = new HttpGet(url);
+
+			// Set Headers
+			if (MapUtils.isNotEmpty(headers)) {
+				getRequest.setHeaders(CommonHttpFunctions.getHeaders(headers));
+			}
+
+			downloadResult = download(getRequest,
+					DownloadResponseHandler.forChannel(url, targetChannel, getDownloadOptions(options)));
+
+		} catch (Exception e) {
+			LOGGER.info("Exception in downloadToChannel : ", e);
+		}
+		return downloadResult;
+	}
+
+	/**
+	 * This method is used to download the response body of a GET request into an
+	 * output stream, without holding the body in memory.
+	 * 
+	 * @apiNote The stream is not closed by this method.
+	 * 
+	 * @param url          - Complete URL of API to be called
+	 * @param headers      - Map of headers required to be sent
+	 * @param outputStream - Stream the body is written to
+	 * @param options      - {@link HttpDownloadOptions}, null for the defaults
+	 * 
+	 * @return {@link HttpDownloadResult}
+	 */
+	public static HttpDownloadResult downloadToStream(String url, Map<String, Object> headers,
+			OutputStream outputStream, HttpDownloadOptions options) {
+		return downloadToChannel(url, headers, Channels.newChannel(outputStream), options);
+	}
+
+	/**
+	 * This method is used to send a batch of requests concurrently, for example to
+	 * aggregate the responses of many downstream APIs.
+	 * 
+	 * @implNote Requests are run by {@link HttpBatchExecutor}, on virtual threads
+	 *           when available.
+	 * 
+	 * @param requests       - List of {@link HttpBatchRequest} to be sent
+	 * @param maxConcurrency - Maximum number of requests in flight at a time
+	 * @param deadline       - Overall time limit for the batch, requests still
+	 *                       running after it are aborted. Null for no limit.
+	 * 
+	 * @return List of {@link HttpBatchResult} in the order of the requests
+	 */
+	public static List<HttpBatchResult> sendBatchRequests(List<HttpBatchRequest> requests, int maxConcurrency,
+			Duration deadline) {
+		LOGGER.info("BATCH REQUEST: Size - {}, Max Concurrency - {}, Deadline - {}",
+				requests == null ? 0 : requests.size(), maxConcurrency, deadline);
+		return HttpBatchExecutor.execute(requests, maxConcurrency, deadline);
+	}
+
+	/**
+	 * This method is used to walk a paginated API as a stream of its items. The
+	 * next pages are fetched in the background while the current one is
+	 * consumed.
+	 * 
+	 * @apiNote The stream must be closed, e.g. with try-with-resources, when it
+	 *          is not consumed to the end. A page which cannot be fetched is
+	 *          thrown as an {@link java.io.UncheckedIOException} when reached.
+	 * 
+	 * @param pageRequest - {@link HttpPageRequest} describing the API
+	 * 
+	 * @return {@link Stream} of the items of all the pages
+	 */
+	public static <P, T> Stream<T> streamPages(HttpPageRequest<P, T> pageRequest) {
+		return iteratePages(pageRequest).stream();
+	}
+
+	/**
+	 * This method is used to walk a paginated API with an iterator over its
+	 * items. The next pages are fetched in the background while the current one
+	 * is consumed.
+	 * 
+	 * @apiNote The iterator must be closed when it is not consumed to the end.
+	 * 
+	 * @param pageRequest - {@link HttpPageRequest} describing the API
+	 * 
+	 * @return {@link PaginatedIterator} over the items of all the pages
+	 */
+	public static <P, T> PaginatedIterator<T> iteratePages(HttpPageRequest<P, T> pageRequest) {
+		Objects.requireNonNull(pageRequest, "HttpPageRequest cannot be null");
+		Objects.requireNonNull(pageRequest.getUrl(), "URL cannot be null");
+		Objects.requireNonNull(pageRequest.getPageType(), "Page type cannot be null");
+		Objects.requireNonNull(pageRequest.getItemsExtractor(), "Items extractor cannot be null");
+		Objects.requireNonNull(pageRequest.getCursorExtractor(), "Cursor extractor cannot be null");
+		LOGGER.info("PAGINATED REQUEST: URL - {}, Prefetch Pages - {}", pageRequest.getUrl(),
+				pageRequest.getPrefetchPages());
+		return PaginatedIterator.start(pageRequest);
+	}
+
+	/**
+	 * This method is used to apply a retry and hedging policy to the requests sent
+	 * by the given code, instead of the policy configured for their hosts.
+	 * 
+	 * @apiNote The policy only applies to requests sent from the calling thread,
+	 *          it is not used by {@link #sendBatchRequests(List, int, Duration)}.
+	 * 
+	 * @param policy   - {@link RetryPolicy} to be applied
+	 * @param supplier - Code sending the requests, e.g.
+	 *                 {@code () -> HttpUtils.sendGetRequest(url, headers)}
+	 * 
+	 * @return Result of the supplier
+	 */
+	public static <T> T withRetryPolicy(RetryPolicy policy, Supplier<T> supplier) {
+		return ResilientRequestExecutor.withPolicy(Objects.requireNonNull(policy, "RetryPolicy cannot be null"),
+				supplier);
+	}
+
+	/**
+	 * This method is used to apply timeouts to the requests sent by the given
+	 * code, instead of the timeouts configured for their hosts.
+	 * 
+	 * @apiNote The timeouts only apply to requests sent from the calling thread.
+	 *          With a total timeout, all the retries of a request share one
+	 *          deadline, and requests cut off by it return a response rejected
+	 *          with {@link RejectionReason#DEADLINE_EXCEEDED}.
+	 * 
+	 * @param timeoutConfig - {@link HttpTimeoutConfig} to be applied
+	 * @param supplier      - Code sending the requests, e.g.
+	 *                      {@code () -> HttpUtils.sendGetRequest(url, headers)}
+	 * 
+	 * @return Result of the supplier
+	 */
+	public static <T> T withTimeouts(HttpTimeoutConfig timeoutConfig, Supplier<T> supplier) {
+		return ResilientRequestExecutor.withTimeouts(
+				Objects.requireNonNull(timeoutConfig, "HttpTimeoutConfig cannot be null"), supplier);
+	}
+
+	/**
+	 * This method executes the request on the shared HTTP client and converts the
+	 * response into {@link WebserviceResponse}.
+	 * 
+	 * @implNote The response entity is fully consumed by the response handler, so
+	 *           the connection is released back to the pool after every call. A
+	 *           request rejected by the circuit breaker or the bulkhead of the host
+	 *           returns a response with only the rejection reason set. Identical
+	 *           concurrent GETs are coalesced when enabled for the host.
+	 * 
+	 * @param request {@link HttpUriRequest}
+	 * @param url
+	 * 
+	 * @return {@link WebserviceResponse}
+	 * 
+	 * @throws IOException
+	 */
+	static WebserviceResponse execute(HttpUriRequest request, String url) throws IOException {
+		try {
+			return RequestCoalescer.execute(request,
+					() -> execute(request, httpResponse -> CommonHttpFunctions.prepareResponse(httpResponse, url)));
+		} catch (HttpRequestRejectedException e) {
+			LOGGER.info("URL = {} \n{}", url, e.getMessage());
+			WebserviceResponse webServiceResponse = new WebserviceResponse();
+			webServiceResponse.setRejectionReason(e.getReason());
+			return webServiceResponse;
+		}
+	}
+
+	/**
+	 * This method executes the request on the shared HTTP client and reads the
+	 * response body straight from the entity stream into the given type. Unless
+	 * the caller set it, the Accept header asks for the {@link DataFormat} of the
+	 * host, with JSON as the fallback.
+	 * 
+	 * @param request      {@link HttpUriRequest}
+	 * @param url
+	 * @param responseType {@link JavaType} of the response body
+	 * 
+	 * @return {@link TypedWebserviceResponse}
+	 * 
+	 * @throws IOException
+	 */
+	static <T> TypedWebserviceResponse<T> execute(HttpUriRequest request, String url, JavaType responseType)
+			throws IOException {
+		DataFormat dataFormat = HttpClientManager.getDataFormat(request.getURI().getHost());
+		if (dataFormat != DataFormat.JSON && !request.containsHeader(HttpHeaders.ACCEPT)) {
+			request.setHeader(HttpHeaders.ACCEPT,
+					dataFormat.getMediaType() + ", " + ContentType.APPLICATION_JSON.getMimeType() + ";q=0.9");
+		}
+		try {
+			return execute(request,
+					httpResponse -> CommonHttpFunctions.<T>prepareTypedResponse(httpResponse, url, responseType));
+		} catch (HttpRequestRejectedException e) {
+			LOGGER.info("URL = {} \n{}", url, e.getMessage());
+			TypedWebserviceResponse<T> webServiceResponse = new TypedWebserviceResponse<>();
+			webServiceResponse.setRejectionReason(e.getReason());
+			return webServiceResponse;
+		}
+	}
+
+	private static HttpDownloadOptions getDownloadOptions(HttpDownloadOptions options) {
+		return Objects.nonNull(options) ? options : HttpDownloadOptions.builder().build();
+	}
+
+	/**
+	 * This method executes the request on the shared HTTP client with the given
+	 * response handler, applying the {@link RetryPolicy} of the host.
+	 * 
+	 * @param request         {@link HttpUriRequest}
+	 * @param responseHandler {@link ResponseHandler}
+	 * 
+	 * @return Result of the response handler
+	 * 
+	 * @throws IOException
+	 */
+	private static <R> R execute(HttpUriRequest request, ResponseHandler<? extends R> responseHandler)
+			throws IOException {
+		return ResilientRequestExecutor.execute(request, responseHandler, true);
+	}
+
+	/**
+	 * This method executes a download on the shared HTTP client. The request is
+	 * not hedged, and not retried once the body has started to be written.
+	 * 
+	 * @param request         {@link HttpUriRequest}
+	 * @param responseHandler {@link DownloadResponseHandler}
+	 * 
+	 * @return {@link HttpDownloadResult}
+	 * 
+	 * @throws IOException
+	 */
+	private static HttpDownloadResult download(HttpUriRequest request, DownloadResponseHandler responseHandler)
+			throws IOException {
+		try {
+			return ResilientRequestExecutor.execute(request, responseHandler, false);
+		} catch (HttpRequestRejectedException e) {
+			LOGGER.info("URL = {} \n{}", request.getURI(), e.getMessage());
+			return new HttpDownloadResult(0, 0L, 0L, false, null, 0L, e.getReason());
+		}
+	}
+
 }
@@ -0,0 +1,144 @@
+package com.custom.common.utilities.httpclient;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Objects;
+
+import org.apache.http.entity.AbstractHttpEntity;
+import org.apache.http.entity.ContentType;
+
+import com.custom.common.utilities.convertors.DataFormat;
+import com.custom.common.utilities.convertors.TypeConversionUtils;
+
+/**
+ * This class is a request entity which sends an object as UTF-8 JSON, or in a
+ * binary {@link DataFormat}, written by Jackson straight to the connection.
+ *
+ * @implNote A streaming entity serializes the object while it is sent, with
+ *           chunked transfer encoding as the length is not known upfront, so no
+ *           String or byte array of the whole body is ever built. It is written
+ *           again on a retry, so the object must not change while the request
+ *           is in flight. A buffered entity serializes the object once into a
+ *           byte array, for hosts which need a Content-Length and for bodies
+ *           which have to be sent exactly the same on every attempt. The bodies
+ *           of {@link HttpUtils} are buffered unless streaming is enabled for
+ *           the host with {@link HttpClientManager#setStreamedBodies(String, Boolean)},
+ *           or a streaming entity is passed as the body of the call.
+ *
+ * @author Abhijeet
+ *
+ */
+public final class JacksonEntity extends AbstractHttpEntity {
+
+	private final Object value;
+	private final DataFormat dataFormat;
+	private final byte[] content;
+
+	private JacksonEntity(Object value, DataFormat dataFormat, byte[] content) {
+		this.value = value;
+		this.dataFormat = dataFormat;
+		this.content = content;
+		setContentType(dataFormat == DataFormat.JSON ? ContentType.APPLICATION_JSON.toString()
+				: dataFormat.getMediaType());
+		setChunked(content == null);
+	}
+
+	/**
+	 * This method creates an entity which serializes the value as JSON while it
+	 * is sent.
+	 *
+	 * @param value - Object to be sent as JSON
+	 *
+	 * @return {@link JacksonEntity}
+	 */
+	public static JacksonEntity streaming(Object value) {
+		return streaming(value, DataFormat.JSON);
+	}
+
+	/**
+	 * This method creates an entity which serializes the value in the given
+	 * format while it is sent.
+	 *
+	 * @param value      - Object to be sent
+	 * @param dataFormat {@link DataFormat} of the body
+	 *
+	 * @return {@link JacksonEntity}
+	 */
+	public static JacksonEntity streaming(Object value, DataFormat dataFormat) {
+		return new JacksonEntity(value, Objects.requireNonNull(dataFormat, "DataFormat cannot be null"), null);
+	}
+
+	/**
+	 * This method creates an entity holding the value serialized upfront as
+	 * JSON.
+	 *
+	 * @param value - Object to be sent as JSON
+	 *
+	 * @return {@link JacksonEntity}
+	 *
+	 * @throws IOException if the value cannot be serialized
+	 */
+	public static JacksonEntity buffered(Object value) throws IOException {
+		return buffered(value, DataFormat.JSON);
+	}
+
+	/**
+	 * This method creates an entity holding the value serialized upfront in the
+	 * given format.
+	 *
+	 * @param value      - Object to be sent
+	 * @param dataFormat {@link DataFormat} of the body
+	 *
+	 * @return {@link JacksonEntity}
+	 *
+	 * @throws IOException if the value cannot be serialized
+	 */
+	public static JacksonEntity buffered(Object value, DataFormat dataFormat) throws IOException {
+		Objects.requireNonNull(dataFormat, "DataFormat cannot be null");
+		return new JacksonEntity(value, dataFormat, TypeConversionUtils.writeValueAsBytes(value, dataFormat));
+	}
+
+	public Object getValue() {
+		return value;
+	}
+
+	public DataFormat getDataFormat() {
+		return dataFormat;
+	}
+
+	@Override
+	public boolean isRepeatable() {
+		return true;
+	}
+
+	@Override
+	public long getContentLength() {
+		return content == null ? -1L : content.length;
+	}
+
+	/**
+	 * Only used when the body has to be read instead of written, e.g. by a
+	 * caching layer, so a streaming entity serializes the value here.
+	 */
+	@Override
+	public InputStream getContent() throws IOException {
+		return new ByteArrayInputStream(content == null ? TypeConversionUtils.writeValueAsBytes(value, dataFormat) : content);
+	}
+
+	@Override
+	public void writeTo(OutputStream outStream) throws IOException {
+		if (content == null) {
+			TypeConversionUtils.writeValue(outStream, value, dataFormat);
+		} else {
+			outStream.write(content);
+		}
+	}
+
+	@Override
+	public boolean isStreaming() {
+		return false;
+	}
+
+}
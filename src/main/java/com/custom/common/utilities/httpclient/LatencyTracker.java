@@ -0,0 +1,54 @@
+package com.custom.common.utilities.httpclient;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * This class keeps the latencies of the most recent requests to a host and
+ * estimates their 95th percentile, used as the hedge delay.
+ *
+ * @implNote Samples are written to a ring buffer without locking. The
+ *           percentile is recomputed from a copy of the buffer once every
+ *           {@value #RECOMPUTE_INTERVAL} samples and cached in between.
+ *
+ * @author Abhijeet
+ *
+ */
+final class LatencyTracker {
+
+	private static final int SAMPLE_SIZE = 256;
+	private static final int MIN_SAMPLES = 20;
+	private static final int RECOMPUTE_INTERVAL = 32;
+
+	private final AtomicLongArray samples = new AtomicLongArray(SAMPLE_SIZE);
+	private final AtomicInteger sampleCount = new AtomicInteger();
+	private volatile long p95Millis = -1L;
+
+	void record(long latencyMillis) {
+		int count = sampleCount.incrementAndGet();
+		samples.set(Math.floorMod(count - 1, SAMPLE_SIZE), latencyMillis);
+		if (count == MIN_SAMPLES || (count > MIN_SAMPLES && count % RECOMPUTE_INTERVAL == 0)) {
+			p95Millis = computeP95(Math.min(count, SAMPLE_SIZE));
+		}
+	}
+
+	/**
+	 * This method returns the 95th percentile latency.
+	 *
+	 * @return Latency in milliseconds, -1 until enough samples are recorded
+	 */
+	long getP95Millis() {
+		return p95Millis;
+	}
+
+	private long computeP95(int size) {
+		long[] copy = new long[size];
+		for (int index = 0; index < size; index++) {
+			copy[index] = samples.get(index);
+		}
+		Arrays.sort(copy);
+		return copy[Math.min(size - 1, (int) Math.ceil(size * 0.95d) - 1)];
+	}
+
+}
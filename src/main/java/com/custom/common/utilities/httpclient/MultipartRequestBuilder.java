@@ -0,0 +1,165 @@
+package com.custom.common.utilities.httpclient;
+
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.Objects;
+
+import org.apache.http.HttpEntity;
+import org.apache.http.entity.ContentType;
+import org.apache.http.entity.mime.MultipartEntityBuilder;
+import org.apache.http.entity.mime.content.FileBody;
+import org.apache.http.entity.mime.content.InputStreamBody;
+
+/**
+ * This class is used to build the body of a multipart request sent using
+ * {@link HttpUtils#sendMultipartRequest(String, java.util.Map, MultipartRequestBuilder)}.
+ *
+ * @implNote Parts are streamed to the connection when the request is sent,
+ *           nothing is buffered in memory. The Content-Type header, including
+ *           the boundary, is taken from the generated entity.
+ * @implSpec The body is sent with chunked transfer encoding by default, since
+ *           the length of stream parts is not known up front. It can be turned
+ *           off when every part has a known length.
+ *
+ * @author Abhijeet
+ *
+ */
+public final class MultipartRequestBuilder {
+
+	private static final long DEFAULT_PROGRESS_INTERVAL_BYTES = 1024L * 1024L;
+
+	private final MultipartEntityBuilder entityBuilder = MultipartEntityBuilder.create();
+	private boolean chunked = true;
+	private UploadProgressListener progressListener;
+	private long progressIntervalBytes = DEFAULT_PROGRESS_INTERVAL_BYTES;
+
+	private MultipartRequestBuilder() {
+	}
+
+	public static MultipartRequestBuilder create() {
+		return new MultipartRequestBuilder();
+	}
+
+	/**
+	 * This method adds a file part read from the given path.
+	 *
+	 * @param name        - Name of the part
+	 * @param file        - Path of the file to be sent
+	 * @param contentType - Content type of the part, null for binary
+	 *
+	 * @return {@link MultipartRequestBuilder}
+	 */
+	public MultipartRequestBuilder addFile(String name, Path file, ContentType contentType) {
+		Objects.requireNonNull(file, "File cannot be null");
+		entityBuilder.addPart(name,
+				new FileBody(file.toFile(), getContentType(contentType), file.getFileName().toString()));
+		return this;
+	}
+
+	/**
+	 * This method adds a file part read from the given stream. The stream is read
+	 * once, when the request is sent, and closed afterwards.
+	 *
+	 * @param name        - Name of the part
+	 * @param inputStream - Stream of the file to be sent
+	 * @param fileName    - Name of the file
+	 * @param contentType - Content type of the part, null for binary
+	 *
+	 * @return {@link MultipartRequestBuilder}
+	 */
+	public MultipartRequestBuilder addFile(String name, InputStream inputStream, String fileName,
+			ContentType contentType) {
+		Objects.requireNonNull(inputStream, "InputStream cannot be null");
+		entityBuilder.addPart(name, new InputStreamBody(inputStream, getContentType(contentType), fileName));
+		return this;
+	}
+
+	/**
+	 * This method adds a file part with the remaining bytes of the given buffer.
+	 *
+	 * @param name        - Name of the part
+	 * @param content     - Buffer with the content of the file
+	 * @param fileName    - Name of the file
+	 * @param contentType - Content type of the part, null for binary
+	 *
+	 * @return {@link MultipartRequestBuilder}
+	 */
+	public MultipartRequestBuilder addFile(String name, ByteBuffer content, String fileName,
+			ContentType contentType) {
+		Objects.requireNonNull(content, "ByteBuffer cannot be null");
+		entityBuilder.addPart(name, new ByteBufferBody(content, getContentType(contentType), fileName));
+		return this;
+	}
+
+	/**
+	 * This method adds a UTF-8 text part. Null values are skipped.
+	 *
+	 * @param name  - Name of the part
+	 * @param value - Value of the part
+	 *
+	 * @return {@link MultipartRequestBuilder}
+	 */
+	public MultipartRequestBuilder addText(String name, Object value) {
+		if (Objects.nonNull(value)) {
+			entityBuilder.addTextBody(name, String.valueOf(value),
+					ContentType.TEXT_PLAIN.withCharset(StandardCharsets.UTF_8));
+		}
+		return this;
+	}
+
+	/**
+	 * This method sets whether the body is sent with chunked transfer encoding.
+	 *
+	 * @param chunked
+	 *
+	 * @return {@link MultipartRequestBuilder}
+	 */
+	public MultipartRequestBuilder chunked(boolean chunked) {
+		this.chunked = chunked;
+		return this;
+	}
+
+	/**
+	 * This method sets the listener which receives the upload progress, notified
+	 * every time the given number of bytes has been written.
+	 *
+	 * @param progressListener      - {@link UploadProgressListener}
+	 * @param progressIntervalBytes - Bytes between two notifications
+	 *
+	 * @return {@link MultipartRequestBuilder}
+	 */
+	public MultipartRequestBuilder progressListener(UploadProgressListener progressListener,
+			long progressIntervalBytes) {
+		this.progressListener = progressListener;
+		this.progressIntervalBytes = Math.max(1L, progressIntervalBytes);
+		return this;
+	}
+
+	/**
+	 * This method sets the listener which receives the upload progress, notified
+	 * every megabyte.
+	 *
+	 * @param progressListener - {@link UploadProgressListener}
+	 *
+	 * @return {@link MultipartRequestBuilder}
+	 */
+	public MultipartRequestBuilder progressListener(UploadProgressListener progressListener) {
+		return progressListener(progressListener, DEFAULT_PROGRESS_INTERVAL_BYTES);
+	}
+
+	/**
+	 * This method builds the streaming multipart entity.
+	 *
+	 * @return {@link HttpEntity}
+	 */
+	HttpEntity build() {
+		return new ProgressHttpEntity(entityBuilder.build(), chunked, progressListener, progressIntervalBytes);
+	}
+
+	private static ContentType getContentType(ContentType contentType) {
+		return Objects.nonNull(contentType) ? contentType : ContentType.DEFAULT_BINARY;
+	}
+
+}
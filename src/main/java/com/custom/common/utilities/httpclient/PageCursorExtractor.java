@@ -0,0 +1,79 @@
+package com.custom.common.utilities.httpclient;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.lang3.math.NumberUtils;
+
+/**
+ * This interface is used to find the request parameters of the next page of a
+ * paginated API, from the page just received.
+ *
+ * @implSpec It is called on the thread fetching the pages, never concurrently
+ *           for the same iteration. The current parameters must not be
+ *           modified, a new map has to be returned instead.
+ *
+ * @author Abhijeet
+ *
+ */
+@FunctionalInterface
+public interface PageCursorExtractor<P> {
+
+	/**
+	 * This method returns the parameters of the page following the given one.
+	 *
+	 * @param page          - Body of the page just received
+	 * @param currentParams - Parameters the page was requested with, can be null
+	 *
+	 * @return Parameters of the next page, null if the page was the last one
+	 */
+	Map<String, String> getNextPageParams(P page, Map<String, String> currentParams);
+
+	/**
+	 * This method creates an extractor for APIs returning an opaque cursor in each
+	 * page, sent back as a parameter to get the next one.
+	 *
+	 * @param paramName      - Name of the cursor parameter
+	 * @param cursorFunction - Reads the cursor from a page, null or blank on the
+	 *                       last page
+	 *
+	 * @return {@link PageCursorExtractor}
+	 */
+	static <P> PageCursorExtractor<P> cursor(String paramName, Function<P, String> cursorFunction) {
+		return (page, currentParams) -> {
+			String cursor = cursorFunction.apply(page);
+			return StringUtils.isBlank(cursor) ? null : withParam(currentParams, paramName, cursor);
+		};
+	}
+
+	/**
+	 * This method creates an extractor for APIs taking a page number, which is
+	 * incremented as long as the page says more pages follow. The first page is
+	 * the number set in the initial parameters, 0 if not set.
+	 *
+	 * @param paramName   - Name of the page number parameter
+	 * @param hasNextPage - Tells from a page whether more pages follow
+	 *
+	 * @return {@link PageCursorExtractor}
+	 */
+	static <P> PageCursorExtractor<P> pageNumber(String paramName, Predicate<P> hasNextPage) {
+		return (page, currentParams) -> {
+			if (!hasNextPage.test(page)) {
+				return null;
+			}
+			long pageNumber = Objects.isNull(currentParams) ? 0L : NumberUtils.toLong(currentParams.get(paramName));
+			return withParam(currentParams, paramName, String.valueOf(pageNumber + 1));
+		};
+	}
+
+	private static Map<String, String> withParam(Map<String, String> params, String name, String value) {
+		Map<String, String> nextParams = Objects.isNull(params) ? new HashMap<>() : new HashMap<>(params);
+		nextParams.put(name, value);
+		return nextParams;
+	}
+
+}
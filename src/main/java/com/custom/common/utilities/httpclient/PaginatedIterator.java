@@ -0,0 +1,256 @@
+package com.custom.common.utilities.httpclient;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.UncheckedIOException;
+import java.net.URISyntaxException;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import org.apache.commons.collections4.MapUtils;
+import org.apache.http.HttpStatus;
+import org.apache.http.client.HttpResponseException;
+import org.apache.http.client.methods.HttpGet;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.custom.common.utilities.response.TypedWebserviceResponse;
+
+/**
+ * This class iterates over the items of a paginated API described by a
+ * {@link HttpPageRequest}, fetching the next pages in the background while the
+ * caller works on the current one.
+ *
+ * @implNote Pages are fetched one after the other by a single task on the
+ *           executor of {@link HttpClientManager}, as each page usually holds
+ *           the cursor of the next. A semaphore of the prefetch depth is taken
+ *           before each fetch and given back when the caller moves to the page,
+ *           so at most that many pages are held besides the current one. A
+ *           failed page is thrown to the caller, as an
+ *           {@link UncheckedIOException}, once the pages before it are
+ *           consumed. The {@link RequestDeadline} of the creating thread
+ *           applies to the fetches, the call-scoped settings of
+ *           {@link HttpUtils} do not.
+ *
+ * @implSpec The iterator must be closed, directly or by closing its stream,
+ *           when it is not consumed to the end, to stop the fetching and abort
+ *           the page in flight. It is not thread-safe.
+ *
+ * @author Abhijeet
+ *
+ */
+public final class PaginatedIterator<T> implements Iterator<T>, AutoCloseable {
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(PaginatedIterator.class);
+
+	// Marks the end of the pages in the queue.
+	private static final Object END = new Object();
+
+	private final BlockingQueue<Object> pages = new LinkedBlockingQueue<>();
+	private final Semaphore prefetchPermits;
+	private final AtomicBoolean closed = new AtomicBoolean();
+	private volatile HttpGet currentRequest;
+	private volatile Future<?> fetcher;
+
+	private Iterator<T> currentPage = Collections.emptyIterator();
+	private boolean finished;
+
+	private PaginatedIterator(int prefetchPages) {
+		this.prefetchPermits = new Semaphore(Math.max(1, prefetchPages));
+	}
+
+	/**
+	 * This method creates the iterator and starts fetching the first pages.
+	 *
+	 * @param pageRequest {@link HttpPageRequest}
+	 *
+	 * @return {@link PaginatedIterator}
+	 */
+	static <P, T> PaginatedIterator<T> start(HttpPageRequest<P, T> pageRequest) {
+		PaginatedIterator<T> iterator = new PaginatedIterator<>(pageRequest.getPrefetchPages());
+		long deadlineMillis = RequestDeadline.getRemainingMillis();
+		iterator.fetcher = HttpClientManager.getTaskExecutor().submit(() -> {
+			if (deadlineMillis >= 0) {
+				RequestDeadline.set(deadlineMillis);
+			}
+			try {
+				iterator.fetchPages(pageRequest);
+			} finally {
+				RequestDeadline.clear();
+			}
+		});
+		return iterator;
+	}
+
+	/**
+	 * This method returns a sequential stream of the items, which closes the
+	 * iterator when closed.
+	 *
+	 * @return {@link Stream}
+	 */
+	public Stream<T> stream() {
+		return StreamSupport.stream(Spliterators.spliteratorUnknownSize(this, Spliterator.ORDERED), false)
+				.onClose(this::close);
+	}
+
+	@Override
+	public boolean hasNext() {
+		while (!currentPage.hasNext()) {
+			if (finished || closed.get()) {
+				return false;
+			}
+			Object next = takePage();
+			if (next == END) {
+				finished = true;
+				close();
+				return false;
+			}
+			if (next instanceof PageFailure failure) {
+				finished = true;
+				close();
+				throw failure.toUncheckedException();
+			}
+			prefetchPermits.release();
+			@SuppressWarnings("unchecked")
+			Collection<T> items = (Collection<T>) next;
+			currentPage = items.iterator();
+		}
+		return true;
+	}
+
+	@Override
+	public T next() {
+		if (!hasNext()) {
+			throw new NoSuchElementException();
+		}
+		return currentPage.next();
+	}
+
+	/**
+	 * This method stops the fetching of pages, aborting the page in flight, and
+	 * drops the pages not consumed yet.
+	 */
+	@Override
+	public void close() {
+		if (closed.compareAndSet(false, true)) {
+			HttpGet request = currentRequest;
+			if (Objects.nonNull(request)) {
+				request.abort();
+			}
+			Future<?> pageFetcher = fetcher;
+			if (Objects.nonNull(pageFetcher)) {
+				pageFetcher.cancel(true);
+			}
+			pages.clear();
+			currentPage = Collections.emptyIterator();
+		}
+	}
+
+	private Object takePage() {
+		try {
+			return pages.take();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			close();
+			throw new UncheckedIOException(new InterruptedIOException("Interrupted while waiting for the next page"));
+		}
+	}
+
+	/**
+	 * This method fetches the pages one after the other until the last one, the
+	 * page limit or a failure, waiting for a prefetch permit before each.
+	 */
+	private <P> void fetchPages(HttpPageRequest<P, T> pageRequest) {
+		Map<String, String> params = pageRequest.getParams();
+		int pageCount = 0;
+		try {
+			while (!closed.get()) {
+				prefetchPermits.acquire();
+				P page = fetchPage(pageRequest, params);
+				pageCount++;
+				Collection<T> items = Objects.isNull(page) ? null : pageRequest.getItemsExtractor().apply(page);
+				pages.add(Objects.isNull(items) ? List.of() : items);
+
+				boolean lastPage = Objects.isNull(page)
+						|| (pageRequest.getMaxPages() > 0 && pageCount >= pageRequest.getMaxPages());
+				params = lastPage ? null : pageRequest.getCursorExtractor().getNextPageParams(page, params);
+				if (Objects.isNull(params)) {
+					pages.add(END);
+					return;
+				}
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		} catch (IOException | RuntimeException e) {
+			if (!closed.get()) {
+				LOGGER.info("URL = {} \nException in fetching page {} : ", pageRequest.getUrl(), pageCount + 1, e);
+				pages.add(new PageFailure(e));
+			}
+		}
+	}
+
+	private <P> P fetchPage(HttpPageRequest<P, T> pageRequest, Map<String, String> params) throws IOException {
+		HttpGet getRequest;
+		try {
+			getRequest = new HttpGet(CommonHttpFunctions.getUriWithParams(pageRequest.getUrl(), params));
+		} catch (URISyntaxException e) {
+			throw new IOException("Invalid page URL " + pageRequest.getUrl(), e);
+		}
+		if (MapUtils.isNotEmpty(pageRequest.getHeaders())) {
+			getRequest.setHeaders(CommonHttpFunctions.getHeaders(pageRequest.getHeaders()));
+		}
+
+		currentRequest = getRequest;
+		// Closed while the request was built, the abort would have been missed.
+		if (closed.get()) {
+			getRequest.abort();
+		}
+		try {
+			TypedWebserviceResponse<P> response = HttpUtils.execute(getRequest, pageRequest.getUrl(),
+					pageRequest.getPageType());
+			if (response.isRejected()) {
+				throw new HttpRequestRejectedException(response.getRejectionReason(), getRequest.getURI().getHost());
+			}
+			int httpStatus = response.getHttpStatus();
+			if (httpStatus < HttpStatus.SC_OK || httpStatus >= HttpStatus.SC_MULTIPLE_CHOICES) {
+				throw new HttpResponseException(httpStatus, "Page request failed : " + response.getErrorResponse());
+			}
+			return response.getResponse();
+		} finally {
+			currentRequest = null;
+		}
+	}
+
+	/**
+	 * Failure of a page, queued after the pages fetched before it.
+	 */
+	private static final class PageFailure {
+
+		private final Exception exception;
+
+		private PageFailure(Exception exception) {
+			this.exception = exception;
+		}
+
+		private RuntimeException toUncheckedException() {
+			return exception instanceof IOException ioException ? new UncheckedIOException(ioException)
+					: (RuntimeException) exception;
+		}
+
+	}
+
+}
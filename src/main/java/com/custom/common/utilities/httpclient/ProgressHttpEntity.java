@@ -0,0 +1,100 @@
+package com.custom.common.utilities.httpclient;
+
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+
+import org.apache.http.HttpEntity;
+import org.apache.http.entity.HttpEntityWrapper;
+
+/**
+ * This class wraps a request entity to report the bytes written to the
+ * connection to an {@link UploadProgressListener}, and optionally forces
+ * chunked transfer encoding.
+ *
+ * @implSpec When chunked, the content length is reported as unknown so that
+ *           the client sends the body with Transfer-Encoding: chunked.
+ *
+ * @author Abhijeet
+ *
+ */
+final class ProgressHttpEntity extends HttpEntityWrapper {
+
+	private final boolean chunked;
+	private final UploadProgressListener progressListener;
+	private final long progressIntervalBytes;
+
+	ProgressHttpEntity(HttpEntity wrappedEntity, boolean chunked, UploadProgressListener progressListener,
+			long progressIntervalBytes) {
+		super(wrappedEntity);
+		this.chunked = chunked;
+		this.progressListener = progressListener;
+		this.progressIntervalBytes = progressIntervalBytes;
+	}
+
+	@Override
+	public boolean isChunked() {
+		return chunked || super.isChunked();
+	}
+
+	@Override
+	public long getContentLength() {
+		return chunked ? -1L : super.getContentLength();
+	}
+
+	@Override
+	public void writeTo(OutputStream outStream) throws IOException {
+		if (progressListener == null) {
+			super.writeTo(outStream);
+			return;
+		}
+		ProgressOutputStream progressStream = new ProgressOutputStream(outStream, super.getContentLength());
+		super.writeTo(progressStream);
+		progressStream.flush();
+		progressStream.notifyListener();
+	}
+
+	/**
+	 * This class counts the bytes passing through it and notifies the listener
+	 * every time the progress interval is crossed.
+	 */
+	private final class ProgressOutputStream extends FilterOutputStream {
+
+		private final long totalBytes;
+		private final long startNanos = System.nanoTime();
+		private long bytesWritten;
+		private long nextNotification = progressIntervalBytes;
+
+		ProgressOutputStream(OutputStream out, long totalBytes) {
+			super(out);
+			this.totalBytes = totalBytes;
+		}
+
+		@Override
+		public void write(int b) throws IOException {
+			out.write(b);
+			onWrite(1);
+		}
+
+		@Override
+		public void write(byte[] b, int off, int len) throws IOException {
+			out.write(b, off, len);
+			onWrite(len);
+		}
+
+		private void onWrite(int length) {
+			bytesWritten += length;
+			if (bytesWritten >= nextNotification) {
+				nextNotification = bytesWritten + progressIntervalBytes;
+				notifyListener();
+			}
+		}
+
+		private void notifyListener() {
+			double elapsedSeconds = Math.max(System.nanoTime() - startNanos, 1L) / 1_000_000_000d;
+			progressListener.onProgress(bytesWritten, totalBytes, bytesWritten / elapsedSeconds);
+		}
+
+	}
+
+}
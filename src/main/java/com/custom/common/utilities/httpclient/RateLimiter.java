@@ -0,0 +1,79 @@
+package com.custom.common.utilities.httpclient;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * This class is a token bucket limiting the requests sent to a host or a group
+ * of hosts, based on its {@link RateLimiterConfig}.
+ *
+ * @implNote The bucket is kept as the time at which the next permit becomes
+ *           free (the generic cell rate algorithm), in a single
+ *           {@link AtomicLong}. Taking a permit is one compare-and-set, so
+ *           threads never block each other. A blocking caller reserves its slot
+ *           first and then waits for it outside of any lock.
+ *
+ * @author Abhijeet
+ *
+ */
+final class RateLimiter {
+
+	private final RateLimiterConfig config;
+	private final long intervalNanos;
+	private final long burstToleranceNanos;
+	private final AtomicLong nextFreeNanos;
+
+	RateLimiter(RateLimiterConfig config) {
+		this.config = config;
+		this.intervalNanos = (long) (TimeUnit.SECONDS.toNanos(1) / config.getPermitsPerSecond());
+		this.burstToleranceNanos = intervalNanos * (Math.max(1, config.getBurstSize()) - 1);
+		this.nextFreeNanos = new AtomicLong(System.nanoTime());
+	}
+
+	RateLimiterConfig getConfig() {
+		return config;
+	}
+
+	/**
+	 * This method takes a permit, waiting for it in blocking mode.
+	 *
+	 * @param timeoutMillis - Longest wait allowed by the caller, e.g. the time
+	 *                      left until its deadline, if shorter than the
+	 *                      configured one
+	 *
+	 * @return True if the request may be sent
+	 *
+	 * @throws InterruptedException
+	 */
+	boolean acquire(long timeoutMillis) throws InterruptedException {
+		long maxWaitNanos = config.isBlocking()
+				? TimeUnit.MILLISECONDS.toNanos(Math.max(0L, Math.min(config.getMaxWaitMillis(), timeoutMillis)))
+				: 0L;
+		long waitNanos;
+		while (true) {
+			long now = System.nanoTime();
+			long nextFree = nextFreeNanos.get();
+			// Idle time does not accumulate more permits than the burst size.
+			long slot = Math.max(nextFree, now);
+			waitNanos = slot - burstToleranceNanos - now;
+			if (waitNanos > maxWaitNanos) {
+				return false;
+			}
+			if (nextFreeNanos.compareAndSet(nextFree, slot + intervalNanos)) {
+				break;
+			}
+		}
+
+		long deadline = System.nanoTime() + waitNanos;
+		while (waitNanos > 0) {
+			LockSupport.parkNanos(this, waitNanos);
+			if (Thread.interrupted()) {
+				throw new InterruptedException();
+			}
+			waitNanos = deadline - System.nanoTime();
+		}
+		return true;
+	}
+
+}
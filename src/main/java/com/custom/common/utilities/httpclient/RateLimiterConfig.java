@@ -0,0 +1,44 @@
+package com.custom.common.utilities.httpclient;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * This class holds the client-side rate limit used by {@link HttpUtils} for a
+ * destination host.
+ *
+ * @implSpec Set using {@link HttpClientManager#setDefaultRateLimiterConfig(RateLimiterConfig)}
+ *           or {@link HttpClientManager#setRateLimiterConfig(String, RateLimiterConfig)}.
+ *           Hosts with the same key share one limit, e.g. several hosts of a
+ *           partner with a single quota. Every attempt, including retries,
+ *           takes a permit. The default configuration does not limit requests.
+ *
+ * @author Abhijeet
+ *
+ */
+@Getter
+@Builder
+@ToString
+public class RateLimiterConfig {
+
+	// Sustained rate, 0 for no limit.
+	@Builder.Default
+	private final double permitsPerSecond = 0.0d;
+
+	// Requests which can be sent at once after an idle period.
+	@Builder.Default
+	private final int burstSize = 1;
+
+	// Waits for a permit when true, otherwise rejects the request at once.
+	@Builder.Default
+	private final boolean blocking = true;
+
+	// Longest wait for a permit in blocking mode before the request is rejected.
+	@Builder.Default
+	private final long maxWaitMillis = 5_000L;
+
+	// Name of a limit shared between hosts, null for a limit per host.
+	private final String key;
+
+}
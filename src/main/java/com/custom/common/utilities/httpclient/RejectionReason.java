@@ -0,0 +1,24 @@
+package com.custom.common.utilities.httpclient;
+
+/**
+ * This enum lists the reasons for which a request is rejected or cut off by
+ * the client itself, without waiting for the server.
+ *
+ * @author Abhijeet
+ *
+ */
+public enum RejectionReason {
+
+	// The circuit breaker of the host is open.
+	CIRCUIT_OPEN,
+
+	// The host already has the maximum number of calls in flight.
+	BULKHEAD_FULL,
+
+	// No rate limit permit was available within the allowed wait.
+	RATE_LIMITED,
+
+	// The deadline of the call passed before the response arrived.
+	DEADLINE_EXCEEDED
+
+}
@@ -0,0 +1,165 @@
+package com.custom.common.utilities.httpclient;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.net.URI;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.apache.commons.lang3.StringUtils;
+import org.apache.http.Header;
+import org.apache.http.client.methods.HttpUriRequest;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.custom.common.utilities.response.WebserviceResponse;
+
+/**
+ * This class coalesces identical concurrent GET requests of {@link HttpUtils}
+ * into a single call, based on the {@link HttpCoalescingConfig} of the host.
+ *
+ * @implNote The first caller for a key sends the request and publishes the
+ *           result through a {@link CompletableFuture} kept in a map while the
+ *           call is in flight. Callers arriving meanwhile wait on that future,
+ *           until their own deadline at the latest. Since
+ *           {@link WebserviceResponse} is mutable, every caller gets its own
+ *           copy.
+ *
+ * @author Abhijeet
+ *
+ */
+final class RequestCoalescer {
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(RequestCoalescer.class);
+
+	private static final Map<String, CompletableFuture<WebserviceResponse>> IN_FLIGHT = new ConcurrentHashMap<>();
+
+	private RequestCoalescer() {
+		throw new IllegalStateException("RequestCoalescer class cannot be instantiated");
+	}
+
+	/**
+	 * Sends a request, used by the caller which leads a coalesced call.
+	 */
+	@FunctionalInterface
+	interface RequestSender {
+
+		WebserviceResponse send() throws IOException;
+
+	}
+
+	/**
+	 * This method sends the request, or waits for an identical request already in
+	 * flight when coalescing is enabled for the host.
+	 *
+	 * @param request {@link HttpUriRequest}
+	 * @param sender  - Sends the request when this caller leads the call
+	 *
+	 * @return {@link WebserviceResponse}
+	 *
+	 * @throws IOException
+	 */
+	static WebserviceResponse execute(HttpUriRequest request, RequestSender sender) throws IOException {
+		HttpCoalescingConfig config = HttpClientManager.getCoalescingConfig(request.getURI().getHost());
+		if (!config.isEnabled() || !"GET".equals(request.getMethod())) {
+			return sender.send();
+		}
+
+		String key = getKey(request, config);
+		CompletableFuture<WebserviceResponse> call = new CompletableFuture<>();
+		CompletableFuture<WebserviceResponse> inFlight = IN_FLIGHT.putIfAbsent(key, call);
+		if (Objects.nonNull(inFlight)) {
+			LOGGER.debug("Coalesced request to {}", request.getURI());
+			return copy(await(inFlight, request));
+		}
+
+		try {
+			WebserviceResponse response = sender.send();
+			call.complete(response);
+			return copy(response);
+		} catch (Throwable e) {
+			// Errors too, so that the callers waiting for this call are released.
+			call.completeExceptionally(e);
+			throw e;
+		} finally {
+			IN_FLIGHT.remove(key, call);
+		}
+	}
+
+	/**
+	 * This method builds the key of the request from the method, the normalized
+	 * URI with sorted query parameters and the key headers.
+	 *
+	 * @return Key of the request
+	 */
+	private static String getKey(HttpUriRequest request, HttpCoalescingConfig config) {
+		URI uri = request.getURI().normalize();
+		StringBuilder key = new StringBuilder(request.getMethod()).append(' ')
+				.append(StringUtils.lowerCase(uri.getScheme(), Locale.ROOT)).append("://")
+				.append(StringUtils.lowerCase(uri.getRawAuthority(), Locale.ROOT))
+				.append(StringUtils.defaultIfEmpty(uri.getRawPath(), "/"));
+		if (StringUtils.isNotEmpty(uri.getRawQuery())) {
+			String[] params = uri.getRawQuery().split("&");
+			// Stable sort, so repeated parameters keep their order.
+			Arrays.sort(params, Comparator.comparing(param -> StringUtils.substringBefore(param, "=")));
+			key.append('?').append(String.join("&", params));
+		}
+		config.getKeyHeaders().stream().map(name -> name.toLowerCase(Locale.ROOT)).sorted().forEach(name -> {
+			key.append('\n').append(name).append(':');
+			for (Header header : request.getHeaders(name)) {
+				key.append(header.getValue()).append(',');
+			}
+		});
+		return key.toString();
+	}
+
+	/**
+	 * This method waits for the call in flight, no longer than the deadline the
+	 * request of this caller would have had.
+	 *
+	 * @return {@link WebserviceResponse}
+	 *
+	 * @throws IOException
+	 */
+	private static WebserviceResponse await(CompletableFuture<WebserviceResponse> inFlight, HttpUriRequest request)
+			throws IOException {
+		long deadlineNanos = ResilientRequestExecutor.getDeadlineNanos(request);
+		try {
+			if (deadlineNanos == Long.MAX_VALUE) {
+				return inFlight.get();
+			}
+			return inFlight.get(deadlineNanos - System.nanoTime(), TimeUnit.NANOSECONDS);
+		} catch (TimeoutException e) {
+			throw new HttpRequestRejectedException(RejectionReason.DEADLINE_EXCEEDED,
+					StringUtils.lowerCase(request.getURI().getHost(), Locale.ROOT));
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new InterruptedIOException("Interrupted while waiting for coalesced request");
+		} catch (ExecutionException e) {
+			if (e.getCause() instanceof IOException ioException) {
+				throw ioException;
+			}
+			if (e.getCause() instanceof RuntimeException runtimeException) {
+				throw runtimeException;
+			}
+			throw new IOException(e.getCause());
+		}
+	}
+
+	private static WebserviceResponse copy(WebserviceResponse response) {
+		if (Objects.isNull(response)) {
+			return null;
+		}
+		return new WebserviceResponse(response.getResponse(), response.getHttpStatus(),
+				response.getRejectionReason());
+	}
+
+}
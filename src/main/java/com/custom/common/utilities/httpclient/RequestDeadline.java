@@ -0,0 +1,61 @@
+package com.custom.common.utilities.httpclient;
+
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+
+import com.custom.common.utilities.constants.Constants;
+import com.custom.common.utilities.filters.DeadlinePropagationFilter;
+
+/**
+ * This class holds the deadline of the inbound request being processed by the
+ * current thread. Calls made through {@link HttpUtils} from that thread finish
+ * before the deadline, and send the remaining budget downstream in the
+ * {@value Constants#DEADLINE_HEADER} header when propagation is enabled for the
+ * host.
+ *
+ * @implSpec The deadline is usually set by {@link DeadlinePropagationFilter}.
+ *           Code handing work over to other threads has to set it there again.
+ *
+ * @author Abhijeet
+ *
+ */
+public final class RequestDeadline {
+
+	private static final ThreadLocal<Long> DEADLINE_NANOS = new ThreadLocal<>();
+
+	private RequestDeadline() {
+		throw new IllegalStateException("RequestDeadline class cannot be instantiated");
+	}
+
+	/**
+	 * This method sets the deadline of the current thread.
+	 *
+	 * @param remainingMillis - Time budget left from now
+	 */
+	public static void set(long remainingMillis) {
+		DEADLINE_NANOS.set(System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(Math.max(0L, remainingMillis)));
+	}
+
+	public static void clear() {
+		DEADLINE_NANOS.remove();
+	}
+
+	/**
+	 * This method returns the time budget left for the current thread.
+	 *
+	 * @return Remaining milliseconds, 0 once passed, -1 when no deadline is set
+	 */
+	public static long getRemainingMillis() {
+		Long deadlineNanos = DEADLINE_NANOS.get();
+		if (Objects.isNull(deadlineNanos)) {
+			return -1L;
+		}
+		return Math.max(0L, TimeUnit.NANOSECONDS.toMillis(deadlineNanos - System.nanoTime()));
+	}
+
+	static long getDeadlineNanos() {
+		Long deadlineNanos = DEADLINE_NANOS.get();
+		return Objects.isNull(deadlineNanos) ? Long.MAX_VALUE : deadlineNanos;
+	}
+
+}
@@ -0,0 +1,46 @@
+package com.custom.common.utilities.httpclient;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * This class is a snapshot of the retry, hedging and circuit breaker counters
+ * of a destination host, returned by {@link HttpClientManager#getResilienceMetrics(String)}.
+ *
+ * @author Abhijeet
+ *
+ */
+@Getter
+@ToString
+@AllArgsConstructor
+public class ResilienceMetrics {
+
+	private final String host;
+
+	// Calls made through HttpUtils.
+	private final long requests;
+
+	// Requests sent on the wire, including retries and hedges.
+	private final long attempts;
+
+	private final long retries;
+
+	private final long hedges;
+
+	// Hedges which replied before the original request.
+	private final long hedgeWins;
+
+	// Retries or hedges skipped because the retry budget was exhausted.
+	private final long budgetExhausted;
+
+	// Latency used as the hedge delay when no fixed delay is configured.
+	private final long p95LatencyMillis;
+
+	// Calls rejected by the circuit breaker or the bulkhead.
+	private final long rejectedCalls;
+
+	// CLOSED, OPEN or HALF_OPEN.
+	private final String circuitBreakerState;
+
+}
@@ -0,0 +1,848 @@
+package com.custom.common.utilities.httpclient;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.net.ConnectException;
+import java.net.UnknownHostException;
+import java.util.Date;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+import javax.net.ssl.SSLException;
+
+import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.lang3.math.NumberUtils;
+import org.apache.http.Header;
+import org.apache.http.HttpEntity;
+import org.apache.http.HttpEntityEnclosingRequest;
+import org.apache.http.HttpHeaders;
+import org.apache.http.HttpResponse;
+import org.apache.http.HttpStatus;
+import org.apache.http.client.ResponseHandler;
+import org.apache.http.client.cache.CacheResponseStatus;
+import org.apache.http.client.cache.HttpCacheContext;
+import org.apache.http.client.config.RequestConfig;
+import org.apache.http.client.methods.HttpRequestBase;
+import org.apache.http.client.methods.HttpUriRequest;
+import org.apache.http.client.utils.DateUtils;
+import org.apache.http.conn.ConnectTimeoutException;
+import org.apache.http.conn.ConnectionPoolTimeoutException;
+import org.apache.http.impl.execchain.RequestAbortedException;
+import org.apache.http.util.EntityUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.custom.common.utilities.constants.Constants;
+import com.fasterxml.jackson.core.JsonProcessingException;
+
+/**
+ * This class executes the requests of {@link HttpUtils} on the shared HTTP
+ * client, retrying and hedging them according to the {@link RetryPolicy} of the
+ * destination host.
+ *
+ * @implNote Each attempt first goes through the {@link RateLimiter}, the
+ *           {@link Bulkhead} and the {@link CircuitBreaker} of the host, which
+ *           reject it without sending it when the host is failing, over its
+ *           quota or busy, unless it is answered by the response cache. Retries
+ *           use exponential backoff with full jitter and honour the
+ *           Retry-After header. Only idempotent methods are retried unless the
+ *           policy allows otherwise, and requests whose body cannot be sent
+ *           again are never retried. Hedged requests are only sent for GET and
+ *           HEAD, after the configured delay or the p95 latency of the host. Both
+ *           retries and hedges are limited by a per-host {@link RetryBudget}.
+ *           Every attempt gets the timeouts of the host, capped by the deadline
+ *           of the call, and no retry is made which could not finish in time.
+ *
+ * @author Abhijeet
+ *
+ */
+final class ResilientRequestExecutor {
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(ResilientRequestExecutor.class);
+
+	private static final Set<String> IDEMPOTENT_METHODS = Set.of("GET", "HEAD", "OPTIONS", "PUT", "DELETE", "TRACE");
+	private static final Set<String> HEDGEABLE_METHODS = Set.of("GET", "HEAD");
+
+	private static final ThreadLocal<RetryPolicy> CALL_POLICY = new ThreadLocal<>();
+	private static final ThreadLocal<HttpTimeoutConfig> CALL_TIMEOUTS = new ThreadLocal<>();
+	private static final Map<String, HostState> HOST_STATES = new ConcurrentHashMap<>();
+	private static final Map<String, RateLimiter> RATE_LIMITERS = new ConcurrentHashMap<>();
+
+	private ResilientRequestExecutor() {
+		throw new IllegalStateException("ResilientRequestExecutor class cannot be instantiated");
+	}
+
+	/**
+	 * This method executes the request with retries and hedging.
+	 *
+	 * @param request         {@link HttpUriRequest}
+	 * @param responseHandler {@link ResponseHandler}
+	 * @param replayable      - False if the handler has side effects, like writing
+	 *                        a download, which must not be repeated once started
+	 *
+	 * @return Result of the response handler
+	 *
+	 * @throws IOException
+	 */
+	static <R> R execute(HttpUriRequest request, ResponseHandler<? extends R> responseHandler, boolean replayable)
+			throws IOException {
+		String host = getHost(request);
+		RetryPolicy policy = getPolicy(host);
+		CallTimeouts timeouts = new CallTimeouts(getTimeouts(host));
+		HostState state = HOST_STATES.computeIfAbsent(host, HostState::new);
+		state.requests.increment();
+		state.budget.deposit();
+
+		boolean retryAllowed = policy.getMaxAttempts() > 1
+				&& (policy.isRetryNonIdempotent() || IDEMPOTENT_METHODS.contains(request.getMethod()))
+				&& isBodyRepeatable(request);
+		boolean hedgeAllowed = replayable && policy.isHedgingEnabled()
+				&& HEDGEABLE_METHODS.contains(request.getMethod()) && request instanceof HttpRequestBase;
+
+		for (int attempt = 1;; attempt++) {
+			int attemptNumber = attempt;
+			boolean retryRemaining = retryAllowed && attempt < policy.getMaxAttempts();
+			AtomicBoolean handlerStarted = new AtomicBoolean();
+			ResponseHandler<R> attemptHandler = httpResponse -> {
+				if (retryRemaining && policy.getRetryableStatusCodes()
+						.contains(httpResponse.getStatusLine().getStatusCode())) {
+					checkStatusRetry(httpResponse, policy, state, attemptNumber, timeouts);
+				}
+				handlerStarted.set(true);
+				return responseHandler.handleResponse(httpResponse);
+			};
+
+			long backoffMillis;
+			try {
+				return hedgeAllowed ? executeHedged(request, attemptHandler, policy, state, timeouts)
+						: executeOnce(request, attemptHandler, state, timeouts);
+			} catch (RetryableStatusException e) {
+				backoffMillis = e.backoffMillis;
+				LOGGER.info("URL = {} \nRetrying attempt {} after Http Status = {} in {} ms", request.getURI(),
+						attempt, e.httpStatus, backoffMillis);
+			} catch (IOException e) {
+				if (!retryRemaining || (handlerStarted.get() && !replayable) || request.isAborted()
+						|| !isRetryable(e, request, policy)) {
+					throw e;
+				}
+				backoffMillis = getBackoffMillis(policy, attempt);
+				if (!timeouts.allows(backoffMillis)) {
+					throw e;
+				}
+				if (!state.budget.tryWithdraw(policy)) {
+					state.budgetExhausted.increment();
+					throw e;
+				}
+				LOGGER.info("URL = {} \nRetrying attempt {} after {} in {} ms", request.getURI(), attempt,
+						e.toString(), backoffMillis);
+			}
+
+			state.retries.increment();
+			sleep(backoffMillis);
+		}
+	}
+
+	/**
+	 * This method runs the supplier with the given policy applied to all the
+	 * requests it sends from the current thread.
+	 *
+	 * @param policy   {@link RetryPolicy}
+	 * @param supplier - Code sending the requests
+	 *
+	 * @return Result of the supplier
+	 */
+	static <T> T withPolicy(RetryPolicy policy, Supplier<T> supplier) {
+		return withThreadLocal(CALL_POLICY, policy, supplier);
+	}
+
+	/**
+	 * This method runs the supplier with the given timeouts applied to all the
+	 * requests it sends from the current thread.
+	 *
+	 * @param timeoutConfig {@link HttpTimeoutConfig}
+	 * @param supplier      - Code sending the requests
+	 *
+	 * @return Result of the supplier
+	 */
+	static <T> T withTimeouts(HttpTimeoutConfig timeoutConfig, Supplier<T> supplier) {
+		return withThreadLocal(CALL_TIMEOUTS, timeoutConfig, supplier);
+	}
+
+	private static <V, T> T withThreadLocal(ThreadLocal<V> threadLocal, V value, Supplier<T> supplier) {
+		V previous = threadLocal.get();
+		threadLocal.set(value);
+		try {
+			return supplier.get();
+		} finally {
+			if (Objects.isNull(previous)) {
+				threadLocal.remove();
+			} else {
+				threadLocal.set(previous);
+			}
+		}
+	}
+
+	/**
+	 * This method returns the deadline of the request if it was sent now from the
+	 * current thread, from the deadline of the thread and the total timeout of the
+	 * call.
+	 *
+	 * @param request {@link HttpUriRequest}
+	 *
+	 * @return Deadline in {@link System#nanoTime()} units, Long.MAX_VALUE when
+	 *         there is none
+	 */
+	static long getDeadlineNanos(HttpUriRequest request) {
+		return new CallTimeouts(getTimeouts(getHost(request))).deadlineNanos;
+	}
+
+	/**
+	 * This method returns the counters of the given host.
+	 *
+	 * @param host
+	 *
+	 * @return {@link ResilienceMetrics}
+	 */
+	static ResilienceMetrics getMetrics(String host) {
+		String key = StringUtils.defaultString(host).toLowerCase(Locale.ROOT);
+		HostState state = HOST_STATES.get(key);
+		if (Objects.isNull(state)) {
+			return new ResilienceMetrics(key, 0L, 0L, 0L, 0L, 0L, 0L, -1L, 0L, CircuitBreaker.State.CLOSED.name());
+		}
+		CircuitBreaker circuitBreaker = state.getCircuitBreaker();
+		return new ResilienceMetrics(key, state.requests.sum(), state.attempts.sum(), state.retries.sum(),
+				state.hedges.sum(), state.hedgeWins.sum(), state.budgetExhausted.sum(),
+				state.latencyTracker.getP95Millis(), state.rejected.sum(),
+				Objects.isNull(circuitBreaker) ? CircuitBreaker.State.CLOSED.name() : circuitBreaker.getState().name());
+	}
+
+	/**
+	 * This method sends a single attempt of the request, if the circuit breaker,
+	 * the rate limiter and the bulkhead of the host allow it. The attempt is
+	 * aborted if it is still running at the deadline of the call.
+	 *
+	 * @implNote On the shared client the permits are taken by
+	 *           {@link BackendPermitExec}, once the response cache has decided to
+	 *           send the request, so cache hits neither take permits nor are
+	 *           recorded by the circuit breaker and the latency tracker.
+	 *
+	 * @return Result of the response handler
+	 *
+	 * @throws IOException
+	 */
+	private static <R> R executeOnce(HttpUriRequest request, ResponseHandler<R> responseHandler, HostState state,
+			CallTimeouts timeouts) throws IOException {
+		long remainingMillis = timeouts.getRemainingMillis();
+		if (remainingMillis <= 0) {
+			state.rejected.increment();
+			throw new HttpRequestRejectedException(RejectionReason.DEADLINE_EXCEEDED, state.host);
+		}
+
+		AttemptPermits permits = new AttemptPermits(state, timeouts);
+		AtomicInteger httpStatus = new AtomicInteger();
+		AtomicBoolean deadlineExceeded = new AtomicBoolean();
+		ScheduledFuture<?> deadlineAbort = scheduleDeadlineAbort(request, timeouts, remainingMillis,
+				deadlineExceeded);
+		boolean failed = true;
+		boolean ignored = false;
+		try {
+			R result;
+			if (HttpClientManager.getTransport(state.host) == HttpTransport.HTTP_2) {
+				permits.acquire();
+				result = Http2Transport.execute(request, httpResponse -> {
+					httpStatus.set(httpResponse.getStatusLine().getStatusCode());
+					return responseHandler.handleResponse(httpResponse);
+				});
+			} else {
+				HttpCacheContext context = HttpCacheContext.create();
+				context.setAttribute(BackendPermitExec.PERMIT_ATTRIBUTE, permits);
+				result = HttpClientManager.getHttpClient().execute(request, httpResponse -> {
+					CacheResponseStatus cacheStatus = context.getCacheResponseStatus();
+					if (Objects.nonNull(permits.rejection)
+							&& cacheStatus == CacheResponseStatus.CACHE_MODULE_RESPONSE) {
+						// The cache answers a rejected revalidation with a 504.
+						throw permits.rejection;
+					}
+					httpStatus.set(httpResponse.getStatusLine().getStatusCode());
+					HttpClientManager.recordCacheResponse(cacheStatus);
+					return responseHandler.handleResponse(httpResponse);
+				}, context);
+			}
+			failed = httpStatus.get() >= HttpStatus.SC_INTERNAL_SERVER_ERROR;
+			return result;
+		} catch (IOException e) {
+			if (deadlineExceeded.get()) {
+				throw new HttpRequestRejectedException(RejectionReason.DEADLINE_EXCEEDED, state.host);
+			}
+			// A response was received, so the handler failed and not the host, or
+			// the body could not be serialized while it was sent.
+			ignored = request.isAborted() || e instanceof JsonProcessingException
+					|| (httpStatus.get() > 0 && httpStatus.get() < HttpStatus.SC_INTERNAL_SERVER_ERROR);
+			throw e;
+		} finally {
+			if (Objects.nonNull(deadlineAbort)) {
+				deadlineAbort.cancel(false);
+			}
+			permits.release(failed, ignored);
+		}
+	}
+
+	/**
+	 * This method sets the connect, pool and socket timeouts of the attempt,
+	 * capped by the time left until the deadline, and the deadline header when
+	 * propagation is enabled.
+	 *
+	 * @param request         {@link HttpUriRequest}
+	 * @param timeouts        {@link CallTimeouts}
+	 * @param remainingMillis - Time left until the deadline, positive, as 0
+	 *                        would disable the timeouts
+	 *
+	 * @return Abort scheduled at the deadline, null when the call has none
+	 */
+	private static ScheduledFuture<?> scheduleDeadlineAbort(HttpUriRequest request, CallTimeouts timeouts,
+			long remainingMillis, AtomicBoolean deadlineExceeded) {
+		int cap = (int) Math.min(Integer.MAX_VALUE, remainingMillis);
+		HttpTimeoutConfig config = timeouts.config;
+		if (request instanceof HttpRequestBase requestBase) {
+			RequestConfig.Builder requestConfig = Objects.isNull(requestBase.getConfig()) ? RequestConfig.custom()
+					: RequestConfig.copy(requestBase.getConfig());
+			requestBase.setConfig(requestConfig.setConnectTimeout(capTimeout(config.getConnectTimeoutMillis(), cap))
+					.setConnectionRequestTimeout(capTimeout(config.getConnectionRequestTimeoutMillis(), cap))
+					.setSocketTimeout(capTimeout(config.getSocketTimeoutMillis(), cap)).build());
+		}
+		if (!timeouts.hasDeadline()) {
+			return null;
+		}
+		if (config.isPropagateDeadline()) {
+			request.setHeader(Constants.DEADLINE_HEADER, String.valueOf(remainingMillis));
+		}
+		return HttpClientManager.getScheduler().schedule(() -> {
+			deadlineExceeded.set(true);
+			request.abort();
+		}, remainingMillis, TimeUnit.MILLISECONDS);
+	}
+
+	private static int capTimeout(int timeoutMillis, int capMillis) {
+		return timeoutMillis <= 0 ? capMillis : Math.min(timeoutMillis, capMillis);
+	}
+
+	/**
+	 * This method returns the rate limiter for the current configuration of the
+	 * host, shared with the other hosts using the same key.
+	 *
+	 * @param host
+	 *
+	 * @return {@link RateLimiter}, null when the host is not limited
+	 */
+	private static RateLimiter getRateLimiter(String host) {
+		RateLimiterConfig config = HttpClientManager.getRateLimiterConfig(host);
+		if (config.getPermitsPerSecond() <= 0) {
+			return null;
+		}
+		String key = Objects.isNull(config.getKey()) ? "host:" + host : "key:" + config.getKey();
+		RateLimiter rateLimiter = RATE_LIMITERS.get(key);
+		if (Objects.isNull(rateLimiter) || rateLimiter.getConfig() != config) {
+			rateLimiter = RATE_LIMITERS.compute(key, (limiterKey, current) -> Objects.isNull(current)
+					|| current.getConfig() != config ? new RateLimiter(config) : current);
+		}
+		return rateLimiter;
+	}
+
+	private static boolean acquire(RateLimiter rateLimiter, long timeoutMillis) throws InterruptedIOException {
+		try {
+			return rateLimiter.acquire(timeoutMillis);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new InterruptedIOException("Interrupted while waiting for rate limit permit");
+		}
+	}
+
+	private static boolean acquire(Bulkhead bulkhead, long timeoutMillis) throws InterruptedIOException {
+		try {
+			return bulkhead.tryAcquire(timeoutMillis);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new InterruptedIOException("Interrupted while waiting for bulkhead");
+		}
+	}
+
+	/**
+	 * This method sends the request and, if it has not completed within the hedge
+	 * delay, a copy of it. The first successful result is returned and the other
+	 * request is aborted.
+	 *
+	 * @return Result of the response handler
+	 *
+	 * @throws IOException
+	 */
+	private static <R> R executeHedged(HttpUriRequest request, ResponseHandler<R> responseHandler,
+			RetryPolicy policy, HostState state, CallTimeouts timeouts) throws IOException {
+		long hedgeDelay = policy.getHedgeDelayMillis() > 0 ? policy.getHedgeDelayMillis()
+				: state.latencyTracker.getP95Millis();
+		if (hedgeDelay <= 0) {
+			// Not enough samples yet to know what a slow request is.
+			return executeOnce(request, responseHandler, state, timeouts);
+		}
+
+		CompletableFuture<R> primary = submit(request, responseHandler, state, timeouts);
+		try {
+			return primary.get(hedgeDelay, TimeUnit.MILLISECONDS);
+		} catch (TimeoutException e) {
+			// Primary is slow, hedge below.
+		} catch (ExecutionException e) {
+			throw unwrap(e.getCause());
+		} catch (InterruptedException e) {
+			request.abort();
+			Thread.currentThread().interrupt();
+			throw new InterruptedIOException("Interrupted while waiting for response");
+		}
+
+		if (!state.budget.tryWithdraw(policy)) {
+			state.budgetExhausted.increment();
+			return await(primary, request);
+		}
+		HttpUriRequest hedgeRequest;
+		try {
+			hedgeRequest = (HttpUriRequest) ((HttpRequestBase) request).clone();
+		} catch (CloneNotSupportedException e) {
+			return await(primary, request);
+		}
+		state.hedges.increment();
+		LOGGER.info("URL = {} \nSending hedged request after {} ms", request.getURI(), hedgeDelay);
+		CompletableFuture<R> hedge = submit(hedgeRequest, responseHandler, state, timeouts);
+
+		try {
+			CompletableFuture.anyOf(primary, hedge).get();
+		} catch (ExecutionException e) {
+			// One of them failed, the other one may still succeed.
+		} catch (InterruptedException e) {
+			request.abort();
+			hedgeRequest.abort();
+			Thread.currentThread().interrupt();
+			throw new InterruptedIOException("Interrupted while waiting for response");
+		}
+
+		if (isSuccessful(primary)) {
+			hedgeRequest.abort();
+			return primary.join();
+		}
+		if (isSuccessful(hedge)) {
+			request.abort();
+			state.hedgeWins.increment();
+			return hedge.join();
+		}
+		if (request.isAborted()) {
+			// Aborted by the caller, e.g. at a batch deadline.
+			hedgeRequest.abort();
+		}
+		return primary.isDone() ? await(hedge, hedgeRequest) : await(primary, request);
+	}
+
+	private static <R> CompletableFuture<R> submit(HttpUriRequest request, ResponseHandler<R> responseHandler,
+			HostState state, CallTimeouts timeouts) {
+		return CompletableFuture.supplyAsync(() -> {
+			try {
+				return executeOnce(request, responseHandler, state, timeouts);
+			} catch (IOException e) {
+				throw new CompletionException(e);
+			}
+		}, HttpClientManager.getTaskExecutor());
+	}
+
+	private static <R> R await(CompletableFuture<R> future, HttpUriRequest request) throws IOException {
+		try {
+			return future.get();
+		} catch (ExecutionException e) {
+			throw unwrap(e.getCause());
+		} catch (InterruptedException e) {
+			request.abort();
+			Thread.currentThread().interrupt();
+			throw new InterruptedIOException("Interrupted while waiting for response");
+		}
+	}
+
+	private static boolean isSuccessful(CompletableFuture<?> future) {
+		return future.isDone() && !future.isCompletedExceptionally();
+	}
+
+	private static IOException unwrap(Throwable cause) {
+		if (cause instanceof CompletionException && Objects.nonNull(cause.getCause())) {
+			cause = cause.getCause();
+		}
+		if (cause instanceof IOException ioException) {
+			return ioException;
+		}
+		if (cause instanceof RuntimeException runtimeException) {
+			throw runtimeException;
+		}
+		return new IOException(cause);
+	}
+
+	/**
+	 * This method decides whether a response with a retryable status is retried.
+	 * If so, the entity is consumed to release the connection and
+	 * {@link RetryableStatusException} is thrown, otherwise the response is left
+	 * to the handler.
+	 */
+	private static void checkStatusRetry(HttpResponse httpResponse, RetryPolicy policy, HostState state,
+			int attempt, CallTimeouts timeouts) throws IOException {
+		long retryAfterMillis = policy.isRespectRetryAfter() ? getRetryAfterMillis(httpResponse) : 0L;
+		long backoffMillis = Math.max(retryAfterMillis, getBackoffMillis(policy, attempt));
+		if (retryAfterMillis > policy.getMaxRetryAfterMillis() || !timeouts.allows(backoffMillis)) {
+			return;
+		}
+		if (!state.budget.tryWithdraw(policy)) {
+			state.budgetExhausted.increment();
+			return;
+		}
+		EntityUtils.consumeQuietly(httpResponse.getEntity());
+		throw new RetryableStatusException(httpResponse.getStatusLine().getStatusCode(), backoffMillis);
+	}
+
+	/**
+	 * This method reads the Retry-After header, given either in seconds or as an
+	 * HTTP date.
+	 *
+	 * @return Delay in milliseconds, 0 when absent or invalid
+	 */
+	private static long getRetryAfterMillis(HttpResponse httpResponse) {
+		Header retryAfter = httpResponse.getFirstHeader(HttpHeaders.RETRY_AFTER);
+		if (Objects.isNull(retryAfter) || StringUtils.isBlank(retryAfter.getValue())) {
+			return 0L;
+		}
+		String value = retryAfter.getValue().trim();
+		if (NumberUtils.isDigits(value)) {
+			return TimeUnit.SECONDS.toMillis(NumberUtils.toLong(value));
+		}
+		Date date = DateUtils.parseDate(value);
+		return Objects.isNull(date) ? 0L : Math.max(0L, date.getTime() - System.currentTimeMillis());
+	}
+
+	private static long getBackoffMillis(RetryPolicy policy, int attempt) {
+		double backoff = policy.getInitialBackoffMillis() * Math.pow(policy.getBackoffMultiplier(), attempt - 1d);
+		long cappedBackoff = (long) Math.min(backoff, policy.getMaxBackoffMillis());
+		if (!policy.isJitter() || cappedBackoff <= 0) {
+			return Math.max(0L, cappedBackoff);
+		}
+		return ThreadLocalRandom.current().nextLong(cappedBackoff + 1);
+	}
+
+	/**
+	 * This method decides whether a failed attempt can be sent again. Requests
+	 * which may have reached the server are only retried if they are idempotent
+	 * or the policy allows it, failures which would just repeat, like a body
+	 * which cannot be serialized, are never retried.
+	 */
+	private static boolean isRetryable(IOException exception, HttpUriRequest request, RetryPolicy policy) {
+		if (exception instanceof UnknownHostException || exception instanceof SSLException
+				|| exception instanceof RequestAbortedException || exception instanceof HttpRequestRejectedException
+				|| exception instanceof JsonProcessingException) {
+			return false;
+		}
+		if (exception instanceof ConnectException || exception instanceof ConnectTimeoutException
+				|| exception instanceof ConnectionPoolTimeoutException) {
+			// The request was never sent.
+			return true;
+		}
+		return policy.isRetryNonIdempotent() || IDEMPOTENT_METHODS.contains(request.getMethod());
+	}
+
+	private static boolean isBodyRepeatable(HttpUriRequest request) {
+		if (request instanceof HttpEntityEnclosingRequest entityRequest) {
+			HttpEntity entity = entityRequest.getEntity();
+			return Objects.isNull(entity) || entity.isRepeatable();
+		}
+		return true;
+	}
+
+	private static HttpTimeoutConfig getTimeouts(String host) {
+		HttpTimeoutConfig callTimeouts = CALL_TIMEOUTS.get();
+		return Objects.nonNull(callTimeouts) ? callTimeouts : HttpClientManager.getTimeoutConfig(host);
+	}
+
+	private static RetryPolicy getPolicy(String host) {
+		RetryPolicy callPolicy = CALL_POLICY.get();
+		return Objects.nonNull(callPolicy) ? callPolicy : HttpClientManager.getRetryPolicy(host);
+	}
+
+	private static String getHost(HttpUriRequest request) {
+		return StringUtils.defaultString(request.getURI().getHost()).toLowerCase(Locale.ROOT);
+	}
+
+	private static void sleep(long millis) throws InterruptedIOException {
+		try {
+			Thread.sleep(millis);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new InterruptedIOException("Interrupted while waiting to retry");
+		}
+	}
+
+	/**
+	 * Signals that the response had a retryable status and was discarded.
+	 */
+	private static final class RetryableStatusException extends IOException {
+
+		private static final long serialVersionUID = 1L;
+
+		private final int httpStatus;
+		private final long backoffMillis;
+
+		private RetryableStatusException(int httpStatus, long backoffMillis) {
+			super("Retryable Http Status = " + httpStatus);
+			this.httpStatus = httpStatus;
+			this.backoffMillis = backoffMillis;
+		}
+
+	}
+
+	/**
+	 * Circuit breaker, rate limiter and bulkhead permits of an attempt, taken
+	 * when it is sent to the host and released when it completes.
+	 *
+	 * @implNote Only the thread of the attempt takes permits. The response cache
+	 *           may send a background revalidation with the same context, which
+	 *           goes through without them.
+	 */
+	private static final class AttemptPermits implements BackendPermitExec.BackendPermit {
+
+		private final HostState state;
+		private final CallTimeouts timeouts;
+		private final Thread owner = Thread.currentThread();
+		private CircuitBreaker circuitBreaker;
+		private Object permission;
+		private Bulkhead bulkhead;
+		private boolean acquired;
+		private long startTime;
+		private HttpRequestRejectedException rejection;
+
+		private AttemptPermits(HostState state, CallTimeouts timeouts) {
+			this.state = state;
+			this.timeouts = timeouts;
+		}
+
+		@Override
+		public void acquire() throws IOException {
+			if (Objects.nonNull(rejection)) {
+				throw rejection;
+			}
+			if (Thread.currentThread() != owner || acquired) {
+				return;
+			}
+			try {
+				acquirePermits();
+			} catch (HttpRequestRejectedException e) {
+				rejection = e;
+				state.rejected.increment();
+				throw e;
+			}
+			acquired = true;
+			state.attempts.increment();
+			startTime = System.nanoTime();
+		}
+
+		/**
+		 * Takes the permits which may have to be waited for first, so that the
+		 * circuit breaker permit, possibly the single half-open trial call, is
+		 * only held while the request is sent.
+		 */
+		private void acquirePermits() throws IOException {
+			CircuitBreaker breaker = state.getCircuitBreaker();
+			if (Objects.nonNull(breaker) && !breaker.isCallPermitted()) {
+				throw new HttpRequestRejectedException(RejectionReason.CIRCUIT_OPEN, state.host);
+			}
+			RateLimiter rateLimiter = getRateLimiter(state.host);
+			if (Objects.nonNull(rateLimiter)
+					&& !ResilientRequestExecutor.acquire(rateLimiter, getRemainingMillis())) {
+				throw new HttpRequestRejectedException(RejectionReason.RATE_LIMITED, state.host);
+			}
+			Bulkhead hostBulkhead = state.getBulkhead();
+			if (Objects.nonNull(hostBulkhead)
+					&& !ResilientRequestExecutor.acquire(hostBulkhead, getRemainingMillis())) {
+				throw new HttpRequestRejectedException(RejectionReason.BULKHEAD_FULL, state.host);
+			}
+			Object breakerPermission = null;
+			try {
+				// The waits may have used up the time of the call.
+				getRemainingMillis();
+				breakerPermission = Objects.isNull(breaker) ? null : breaker.tryAcquirePermission();
+				if (Objects.nonNull(breaker) && Objects.isNull(breakerPermission)) {
+					throw new HttpRequestRejectedException(RejectionReason.CIRCUIT_OPEN, state.host);
+				}
+			} catch (HttpRequestRejectedException e) {
+				if (Objects.nonNull(hostBulkhead)) {
+					hostBulkhead.release();
+				}
+				throw e;
+			}
+			circuitBreaker = breaker;
+			permission = breakerPermission;
+			bulkhead = hostBulkhead;
+		}
+
+		/**
+		 * Returns the time left until the deadline of the call, rejecting the
+		 * attempt once it has passed.
+		 */
+		private long getRemainingMillis() throws HttpRequestRejectedException {
+			long remainingMillis = timeouts.getRemainingMillis();
+			if (remainingMillis <= 0) {
+				throw new HttpRequestRejectedException(RejectionReason.DEADLINE_EXCEEDED, state.host);
+			}
+			return remainingMillis;
+		}
+
+		/**
+		 * Releases the permits, if the attempt was sent to the host, recording its
+		 * outcome.
+		 *
+		 * @param failed  - True for connection errors and 5xx responses
+		 * @param ignored - True if the outcome says nothing about the host
+		 */
+		private void release(boolean failed, boolean ignored) {
+			if (!acquired) {
+				return;
+			}
+			long durationMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime);
+			if (Objects.nonNull(bulkhead)) {
+				bulkhead.release();
+			}
+			if (Objects.nonNull(circuitBreaker)) {
+				if (ignored) {
+					circuitBreaker.onIgnored(permission);
+				} else {
+					circuitBreaker.onResult(permission, failed, durationMillis);
+				}
+			}
+			if (!failed) {
+				state.latencyTracker.record(durationMillis);
+			}
+		}
+
+	}
+
+	/**
+	 * Timeouts of a call and its deadline, the earlier of its total timeout and
+	 * the {@link RequestDeadline} of the calling thread.
+	 */
+	private static final class CallTimeouts {
+
+		private final HttpTimeoutConfig config;
+		private final long deadlineNanos;
+
+		private CallTimeouts(HttpTimeoutConfig config) {
+			this.config = config;
+			long deadline = RequestDeadline.getDeadlineNanos();
+			if (config.getTotalTimeoutMillis() > 0) {
+				deadline = Math.min(deadline,
+						System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(config.getTotalTimeoutMillis()));
+			}
+			this.deadlineNanos = deadline;
+		}
+
+		private boolean hasDeadline() {
+			return deadlineNanos != Long.MAX_VALUE;
+		}
+
+		private long getRemainingMillis() {
+			return hasDeadline() ? TimeUnit.NANOSECONDS.toMillis(deadlineNanos - System.nanoTime()) : Long.MAX_VALUE;
+		}
+
+		// True if a retry after the given backoff can still finish in time.
+		private boolean allows(long backoffMillis) {
+			return getRemainingMillis() > backoffMillis;
+		}
+
+	}
+
+	/**
+	 * Budget, latency, protections and counters of a destination host.
+	 *
+	 * @implNote Package-private so that tests can create it for a cold host.
+	 */
+	static final class HostState {
+
+		private final String host;
+		private final AtomicReference<CircuitBreaker> circuitBreaker = new AtomicReference<>();
+		private final AtomicReference<Bulkhead> bulkhead = new AtomicReference<>();
+
+		private final RetryBudget budget = new RetryBudget();
+		private final LatencyTracker latencyTracker = new LatencyTracker();
+		private final LongAdder requests = new LongAdder();
+		private final LongAdder attempts = new LongAdder();
+		private final LongAdder retries = new LongAdder();
+		private final LongAdder hedges = new LongAdder();
+		private final LongAdder hedgeWins = new LongAdder();
+		private final LongAdder budgetExhausted = new LongAdder();
+		private final LongAdder rejected = new LongAdder();
+
+		HostState(String host) {
+			this.host = host;
+		}
+
+		/**
+		 * Returns the circuit breaker for the current configuration of the host,
+		 * replacing it when the configuration has changed.
+		 *
+		 * @implNote Installed with a compare and set, so that concurrent calls all
+		 *           share the breaker of the thread which installed it first.
+		 */
+		CircuitBreaker getCircuitBreaker() {
+			CircuitBreakerConfig config = HttpClientManager.getCircuitBreakerConfig(host);
+			if (!config.isEnabled()) {
+				return null;
+			}
+			while (true) {
+				CircuitBreaker current = circuitBreaker.get();
+				if (Objects.nonNull(current) && current.getConfig() == config) {
+					return current;
+				}
+				CircuitBreaker created = new CircuitBreaker(host, config);
+				if (circuitBreaker.compareAndSet(current, created)) {
+					return created;
+				}
+			}
+		}
+
+		/**
+		 * Returns the bulkhead for the current configuration of the host, replacing
+		 * it when the configuration has changed.
+		 *
+		 * @implNote Installed with a compare and set, so that concurrent calls to a
+		 *           cold host all take their slots from the same bulkhead.
+		 */
+		Bulkhead getBulkhead() {
+			BulkheadConfig config = HttpClientManager.getBulkheadConfig(host);
+			if (config.getMaxConcurrentCalls() <= 0) {
+				return null;
+			}
+			while (true) {
+				Bulkhead current = bulkhead.get();
+				if (Objects.nonNull(current) && current.getConfig() == config) {
+					return current;
+				}
+				Bulkhead created = new Bulkhead(config);
+				if (bulkhead.compareAndSet(current, created)) {
+					return created;
+				}
+			}
+		}
+
+	}
+
+}
@@ -0,0 +1,106 @@
+package com.custom.common.utilities.httpclient;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * This class limits the retries and hedges sent to a host to a percentage of
+ * its recent requests, so that retries cannot multiply the load on a struggling
+ * server.
+ *
+ * @implNote Requests and retries are counted in a sliding window of
+ *           {@value #WINDOW_SECONDS} one-second buckets. A retry is allowed
+ *           while the retries of the window stay below the reserve of the
+ *           {@link RetryPolicy} plus its percentage of the requests of the
+ *           window, so a long healthy period does not save up retries for the
+ *           next outage. Requests are counted lock-free, retries, which are
+ *           rare, are checked and counted under a lock so that concurrent
+ *           retries cannot overshoot the budget.
+ *
+ * @author Abhijeet
+ *
+ */
+final class RetryBudget {
+
+	static final int WINDOW_SECONDS = 10;
+
+	private static final long BUCKET_NANOS = TimeUnit.SECONDS.toNanos(1L);
+
+	private final LongSupplier clock;
+	private final Bucket[] buckets = new Bucket[WINDOW_SECONDS];
+
+	RetryBudget() {
+		this(System::nanoTime);
+	}
+
+	/**
+	 * @param clock - Source of {@link System#nanoTime()}, replaced in tests
+	 */
+	RetryBudget(LongSupplier clock) {
+		this.clock = clock;
+		for (int index = 0; index < buckets.length; index++) {
+			buckets[index] = new Bucket();
+		}
+	}
+
+	/**
+	 * This method counts a request to the host.
+	 */
+	void deposit() {
+		currentBucket(clock.getAsLong() / BUCKET_NANOS).requests.incrementAndGet();
+	}
+
+	/**
+	 * This method takes a retry or hedge from the budget, if the retries of the
+	 * window are still below what the policy allows for its requests.
+	 *
+	 * @param policy {@link RetryPolicy}
+	 *
+	 * @return true if the retry can be sent
+	 */
+	synchronized boolean tryWithdraw(RetryPolicy policy) {
+		long second = clock.getAsLong() / BUCKET_NANOS;
+		Bucket current = currentBucket(second);
+		long requests = 0L;
+		long retries = 0L;
+		for (Bucket bucket : buckets) {
+			if (second - bucket.second.get() < WINDOW_SECONDS) {
+				requests += bucket.requests.get();
+				retries += bucket.retries.get();
+			}
+		}
+		double allowed = policy.getRetryBudgetReserve() + policy.getRetryBudgetPercent() / 100d * requests;
+		if (retries + 1 > allowed) {
+			return false;
+		}
+		current.retries.incrementAndGet();
+		return true;
+	}
+
+	/**
+	 * This method returns the bucket of the given second, emptied first if it
+	 * still holds the counts of an older second.
+	 */
+	private Bucket currentBucket(long second) {
+		Bucket bucket = buckets[(int) Math.floorMod(second, (long) WINDOW_SECONDS)];
+		long bucketSecond = bucket.second.get();
+		if (bucketSecond != second && bucket.second.compareAndSet(bucketSecond, second)) {
+			bucket.requests.set(0L);
+			bucket.retries.set(0L);
+		}
+		return bucket;
+	}
+
+	/**
+	 * Counts of one second of the window.
+	 */
+	private static final class Bucket {
+
+		private final AtomicLong second = new AtomicLong(Long.MIN_VALUE);
+		private final AtomicLong requests = new AtomicLong();
+		private final AtomicLong retries = new AtomicLong();
+
+	}
+
+}
@@ -0,0 +1,78 @@
+package com.custom.common.utilities.httpclient;
+
+import java.util.Set;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * This class holds the retry and hedging settings used by {@link HttpUtils}
+ * for a destination host or a single call.
+ *
+ * @implSpec Set using {@link HttpClientManager#setDefaultRetryPolicy(RetryPolicy)},
+ *           {@link HttpClientManager#setRetryPolicy(String, RetryPolicy)} or, for
+ *           the calls made inside a block,
+ *           {@link HttpUtils#withRetryPolicy(RetryPolicy, java.util.function.Supplier)}.
+ *           The default policy makes a single attempt and never hedges.
+ *
+ * @author Abhijeet
+ *
+ */
+@Getter
+@Builder
+@ToString
+public class RetryPolicy {
+
+	// Total attempts including the first one, 1 disables retries.
+	@Builder.Default
+	private final int maxAttempts = 1;
+
+	// Backoff before the first retry, doubled by the multiplier for each retry.
+	@Builder.Default
+	private final long initialBackoffMillis = 100L;
+
+	@Builder.Default
+	private final double backoffMultiplier = 2.0d;
+
+	@Builder.Default
+	private final long maxBackoffMillis = 5_000L;
+
+	// Picks a random backoff between zero and the computed value (full jitter).
+	@Builder.Default
+	private final boolean jitter = true;
+
+	// Response status codes which are retried.
+	@Builder.Default
+	private final Set<Integer> retryableStatusCodes = Set.of(429, 502, 503, 504);
+
+	// Retries POST and PATCH as well, only safe for idempotent APIs.
+	@Builder.Default
+	private final boolean retryNonIdempotent = false;
+
+	// Waits for the Retry-After header when present, if it is within the limit.
+	@Builder.Default
+	private final boolean respectRetryAfter = true;
+
+	@Builder.Default
+	private final long maxRetryAfterMillis = 30_000L;
+
+	// Sends a duplicate GET when the first one is slow and uses the first reply.
+	@Builder.Default
+	private final boolean hedgingEnabled = false;
+
+	// Delay before the hedge is sent, 0 to use the p95 latency of the host.
+	@Builder.Default
+	private final long hedgeDelayMillis = 0L;
+
+	// Retries and hedges allowed as a percentage of the requests to the host in
+	// the last 10 seconds.
+	@Builder.Default
+	private final double retryBudgetPercent = 10.0d;
+
+	// Retries and hedges always allowed per 10 seconds, so hosts with little
+	// traffic can retry.
+	@Builder.Default
+	private final int retryBudgetReserve = 10;
+
+}
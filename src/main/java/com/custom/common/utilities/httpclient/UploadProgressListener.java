@@ -0,0 +1,26 @@
+package com.custom.common.utilities.httpclient;
+
+/**
+ * This interface is used to receive the progress of a multipart upload sent
+ * using {@link MultipartRequestBuilder}.
+ *
+ * @implSpec The listener is called on the thread which sends the request, at
+ *           most once per progress interval and once when the body is fully
+ *           written, so it should return quickly.
+ *
+ * @author Abhijeet
+ *
+ */
+@FunctionalInterface
+public interface UploadProgressListener {
+
+	/**
+	 * This method is called with the bytes of the body written so far.
+	 *
+	 * @param bytesWritten   - Bytes of the body written to the connection
+	 * @param totalBytes     - Total size of the body, -1 if not known
+	 * @param bytesPerSecond - Average throughput since the upload started
+	 */
+	void onProgress(long bytesWritten, long totalBytes, double bytesPerSecond);
+
+}
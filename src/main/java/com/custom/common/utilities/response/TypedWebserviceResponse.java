@@ -0,0 +1,52 @@
+package com.custom.common.utilities.response;
+
+import java.util.Objects;
+
+import com.custom.common.utilities.httpclient.HttpUtils;
+import com.custom.common.utilities.httpclient.RejectionReason;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+
+/**
+ * This class is used to store the Http response from Remote API calls, with
+ * the body already converted into the type requested by the caller.
+ * 
+ * @implSpec This class is used by the typed methods of {@link HttpUtils}. The
+ *           body is converted only for successful (2xx) responses, any other
+ *           body is kept as a String in errorResponse. When the request is
+ *           rejected by the client without being sent, the rejection reason is
+ *           set and the Http status is 0.
+ * 
+ * @author Abhijeet
+ *
+ */
+@Getter
+@Setter
+@ToString
+@NoArgsConstructor
+@AllArgsConstructor
+public class TypedWebserviceResponse<T> {
+
+	private T response;
+
+	private int httpStatus;
+
+	private String errorResponse;
+
+	private RejectionReason rejectionReason;
+
+	public TypedWebserviceResponse(T response, int httpStatus, String errorResponse) {
+		this.response = response;
+		this.httpStatus = httpStatus;
+		this.errorResponse = errorResponse;
+	}
+
+	public boolean isRejected() {
+		return Objects.nonNull(rejectionReason);
+	}
+
+}
@@ -1,8 +1,10 @@
 package com.custom.common.utilities.response;
 
 import java.io.Serializable;
+import java.util.Objects;
 
 import com.custom.common.utilities.httpclient.HttpUtils;
+import com.custom.common.utilities.httpclient.RejectionReason;
 
 import lombok.AllArgsConstructor;
 import lombok.Getter;
@@ -13,7 +15,9 @@ import lombok.ToString;
 /**
  * This class is used to store the Http response from Remote API calls.
  * 
- * @implSpec This class is used in {@link HttpUtils} class.
+ * @implSpec This class is used in {@link HttpUtils} class. When the request is
+ *           rejected by the client without being sent, e.g. by an open circuit
+ *           breaker, the rejection reason is set and the Http status is 0.
  * 
  * @author Abhijeet
  *
@@ -31,4 +35,15 @@ public class WebserviceResponse implements Serializable {
 
 	private int httpStatus;
 
+	private RejectionReason rejectionReason;
+
+	public WebserviceResponse(String response, int httpStatus) {
+		this.response = response;
+		this.httpStatus = httpStatus;
+	}
+
+	public boolean isRejected() {
+		return Objects.nonNull(rejectionReason);
+	}
+
 }
@@ -0,0 +1,512 @@
+package com.custom.common.utilities.convertors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.type.TypeFactory;
+
+/**
+ * Tests that {@link BeanMapper} converts beans like
+ * {@link ObjectMapper#convertValue(Object, JavaType)}, or leaves them to it.
+ */
+class BeanMapperTest {
+
+	private static final ObjectMapper MAPPER = new ObjectMapper()
+			.disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+			.disable(SerializationFeature.FAIL_ON_EMPTY_BEANS);
+
+	@Test
+	void mapsNestedBeansAndCollectionsLikeJackson() {
+		Person person = person();
+		PersonView view = assertMappedLikeJackson(person, PersonView.class);
+
+		assertNotSame(person.getAddress(), view.getAddress());
+		assertNotSame(person.getAddresses(), view.getAddresses());
+		assertEquals("Pune", view.getAddressesByName().get("home").getCity());
+	}
+
+	@Test
+	void mapsListOfBeansLikeJackson() {
+		List<Person> people = List.of(person(), new Person());
+		JavaType type = TypeFactory.defaultInstance().constructCollectionType(List.class, PersonView.class);
+
+		Object mapped = BeanMapper.map(people, type);
+
+		assertNotNull(mapped);
+		assertEquals(MAPPER.valueToTree(MAPPER.convertValue(people, type)), MAPPER.valueToTree(mapped));
+	}
+
+	@Test
+	void setsPrimitiveDefaultsForNullValuesLikeJackson() {
+		Counters counters = new Counters();
+		PrimitiveCounters mapped = assertMappedLikeJackson(counters, PrimitiveCounters.class);
+
+		assertEquals(0, mapped.getCount());
+		assertEquals(false, mapped.isFlag());
+	}
+
+	@Test
+	void mapsEmptyBeanLikeJackson() {
+		assertMappedLikeJackson(new Person(), PersonView.class);
+	}
+
+	@Test
+	void mapsRuntimeTypeOfSubclassValuesLikeJackson() {
+		Person person = person();
+		ZipAddress address = new ZipAddress();
+		address.setCity("Mumbai");
+		address.setZip("400001");
+		person.setAddress(address);
+
+		PersonView view = assertMappedLikeJackson(person, PersonView.class);
+
+		assertEquals("Mumbai", view.getAddress().getCity());
+	}
+
+	@Test
+	void mapsUpperCaseAcronymPropertiesLikeJackson() {
+		Link link = new Link();
+		link.setURL("https://example.com");
+		link.setURLPath("/index");
+
+		LinkView view = assertMappedLikeJackson(link, LinkView.class);
+
+		assertEquals("https://example.com", view.getUrl());
+		assertEquals("/index", view.getUrlpath());
+	}
+
+	@Test
+	void leavesGetterOnlyCollectionsToJackson() {
+		Tagged tagged = new Tagged();
+		tagged.setTags(List.of("a", "b"));
+
+		assertNull(BeanMapper.map(tagged, MAPPER.constructType(GetterOnlyTags.class)));
+	}
+
+	@Test
+	void leavesAnnotatedClassesToJackson() {
+		assertNull(BeanMapper.map(person(), MAPPER.constructType(AnnotatedPerson.class)));
+	}
+
+	@Test
+	void convertsLikeJacksonWhenLeftToIt() throws Exception {
+		Tagged tagged = new Tagged();
+		tagged.setTags(List.of("a", "b"));
+		ObjectMapperContext context = new ObjectMapperContext(MAPPER);
+
+		GetterOnlyTags converted = context.<GetterOnlyTags>converterFor(MAPPER.constructType(GetterOnlyTags.class))
+				.convert(tagged);
+		AnnotatedPerson annotated = context.<AnnotatedPerson>converterFor(
+				MAPPER.constructType(AnnotatedPerson.class)).convert(person());
+
+		assertEquals(List.of("a", "b"), converted.getTags());
+		assertEquals(MAPPER.convertValue(person(), AnnotatedPerson.class).getFullName(), annotated.getFullName());
+	}
+
+	@Test
+	void keepsInitializersWithNonNullInclusionLikeJackson() throws Exception {
+		ObjectMapper nonNullMapper = MAPPER.copy().setSerializationInclusion(JsonInclude.Include.NON_NULL);
+		Counters counters = new Counters();
+		ObjectMapperContext context = new ObjectMapperContext(nonNullMapper);
+
+		PrimitiveCounters converted = context
+				.<PrimitiveCounters>converterFor(nonNullMapper.constructType(PrimitiveCounters.class))
+				.convert(counters);
+
+		assertEquals(5, converted.getCount());
+		assertEquals(nonNullMapper.convertValue(counters, PrimitiveCounters.class).getCount(), converted.getCount());
+	}
+
+	private static <T> T assertMappedLikeJackson(Object source, Class<T> targetClass) {
+		Object mapped = BeanMapper.map(source, MAPPER.constructType(targetClass));
+
+		assertNotNull(mapped);
+		assertEquals(MAPPER.valueToTree(MAPPER.convertValue(source, targetClass)), MAPPER.valueToTree(mapped));
+		return targetClass.cast(mapped);
+	}
+
+	private static Person person() {
+		Address home = new Address();
+		home.setStreet("MG Road");
+		home.setCity("Pune");
+		Address office = new Address();
+		office.setCity("Bengaluru");
+
+		Person person = new Person();
+		person.setName("Abhijeet");
+		person.setAge(30);
+		person.setScore(4.5d);
+		person.setAddress(home);
+		person.setAddresses(new ArrayList<>(List.of(home, office)));
+		person.setTags(new LinkedHashSet<>(Set.of("admin")));
+		Map<String, Address> addressesByName = new LinkedHashMap<>();
+		addressesByName.put("home", home);
+		addressesByName.put("office", office);
+		person.setAddressesByName(addressesByName);
+		person.setScores(new ArrayList<>(List.of(1, 2, 3)));
+		return person;
+	}
+
+	public static class Address {
+
+		private String street;
+		private String city;
+
+		public String getStreet() {
+			return street;
+		}
+
+		public void setStreet(String street) {
+			this.street = street;
+		}
+
+		public String getCity() {
+			return city;
+		}
+
+		public void setCity(String city) {
+			this.city = city;
+		}
+
+	}
+
+	public static class ZipAddress extends Address {
+
+		private String zip;
+
+		public String getZip() {
+			return zip;
+		}
+
+		public void setZip(String zip) {
+			this.zip = zip;
+		}
+
+	}
+
+	public static class AddressView {
+
+		private String street;
+		private String city;
+
+		public String getStreet() {
+			return street;
+		}
+
+		public void setStreet(String street) {
+			this.street = street;
+		}
+
+		public String getCity() {
+			return city;
+		}
+
+		public void setCity(String city) {
+			this.city = city;
+		}
+
+	}
+
+	public static class Person {
+
+		private String name;
+		private int age;
+		private Double score;
+		private Address address;
+		private List<Address> addresses;
+		private Set<String> tags;
+		private Map<String, Address> addressesByName;
+		private List<Integer> scores;
+
+		public String getName() {
+			return name;
+		}
+
+		public void setName(String name) {
+			this.name = name;
+		}
+
+		public int getAge() {
+			return age;
+		}
+
+		public void setAge(int age) {
+			this.age = age;
+		}
+
+		public Double getScore() {
+			return score;
+		}
+
+		public void setScore(Double score) {
+			this.score = score;
+		}
+
+		public Address getAddress() {
+			return address;
+		}
+
+		public void setAddress(Address address) {
+			this.address = address;
+		}
+
+		public List<Address> getAddresses() {
+			return addresses;
+		}
+
+		public void setAddresses(List<Address> addresses) {
+			this.addresses = addresses;
+		}
+
+		public Set<String> getTags() {
+			return tags;
+		}
+
+		public void setTags(Set<String> tags) {
+			this.tags = tags;
+		}
+
+		public Map<String, Address> getAddressesByName() {
+			return addressesByName;
+		}
+
+		public void setAddressesByName(Map<String, Address> addressesByName) {
+			this.addressesByName = addressesByName;
+		}
+
+		public List<Integer> getScores() {
+			return scores;
+		}
+
+		public void setScores(List<Integer> scores) {
+			this.scores = scores;
+		}
+
+	}
+
+	public static class PersonView {
+
+		private String name;
+		private Integer age;
+		private double score;
+		private AddressView address;
+		private List<AddressView> addresses;
+		private Set<String> tags;
+		private Map<String, AddressView> addressesByName;
+		private List<Integer> scores;
+
+		public String getName() {
+			return name;
+		}
+
+		public void setName(String name) {
+			this.name = name;
+		}
+
+		public Integer getAge() {
+			return age;
+		}
+
+		public void setAge(Integer age) {
+			this.age = age;
+		}
+
+		public double getScore() {
+			return score;
+		}
+
+		public void setScore(double score) {
+			this.score = score;
+		}
+
+		public AddressView getAddress() {
+			return address;
+		}
+
+		public void setAddress(AddressView address) {
+			this.address = address;
+		}
+
+		public List<AddressView> getAddresses() {
+			return addresses;
+		}
+
+		public void setAddresses(List<AddressView> addresses) {
+			this.addresses = addresses;
+		}
+
+		public Set<String> getTags() {
+			return tags;
+		}
+
+		public void setTags(Set<String> tags) {
+			this.tags = tags;
+		}
+
+		public Map<String, AddressView> getAddressesByName() {
+			return addressesByName;
+		}
+
+		public void setAddressesByName(Map<String, AddressView> addressesByName) {
+			this.addressesByName = addressesByName;
+		}
+
+		public List<Integer> getScores() {
+			return scores;
+		}
+
+		public void setScores(List<Integer> scores) {
+			this.scores = scores;
+		}
+
+	}
+
+	public static class Counters {
+
+		private Integer count;
+		private Boolean flag;
+
+		public Integer getCount() {
+			return count;
+		}
+
+		public void setCount(Integer count) {
+			this.count = count;
+		}
+
+		public Boolean getFlag() {
+			return flag;
+		}
+
+		public void setFlag(Boolean flag) {
+			this.flag = flag;
+		}
+
+	}
+
+	public static class PrimitiveCounters {
+
+		private int count = 5;
+		private boolean flag = true;
+
+		public int getCount() {
+			return count;
+		}
+
+		public void setCount(int count) {
+			this.count = count;
+		}
+
+		public boolean isFlag() {
+			return flag;
+		}
+
+		public void setFlag(boolean flag) {
+			this.flag = flag;
+		}
+
+	}
+
+	public static class Link {
+
+		private String url;
+		private String urlPath;
+
+		public String getURL() {
+			return url;
+		}
+
+		public void setURL(String url) {
+			this.url = url;
+		}
+
+		public String getURLPath() {
+			return urlPath;
+		}
+
+		public void setURLPath(String urlPath) {
+			this.urlPath = urlPath;
+		}
+
+	}
+
+	public static class LinkView {
+
+		private String url;
+		private String urlpath;
+
+		public String getUrl() {
+			return url;
+		}
+
+		public void setUrl(String url) {
+			this.url = url;
+		}
+
+		public String getUrlpath() {
+			return urlpath;
+		}
+
+		public void setUrlpath(String urlpath) {
+			this.urlpath = urlpath;
+		}
+
+	}
+
+	public static class Tagged {
+
+		private List<String> tags;
+
+		public List<String> getTags() {
+			return tags;
+		}
+
+		public void setTags(List<String> tags) {
+			this.tags = tags;
+		}
+
+	}
+
+	public static class GetterOnlyTags {
+
+		private final List<String> tags = new ArrayList<>();
+
+		public List<String> getTags() {
+			return tags;
+		}
+
+	}
+
+	public static class AnnotatedPerson {
+
+		@JsonProperty("name")
+		private String fullName;
+
+		public String getFullName() {
+			return fullName;
+		}
+
+		public void setFullName(String fullName) {
+			this.fullName = fullName;
+		}
+
+	}
+
+}
@@ -0,0 +1,72 @@
+package com.custom.common.utilities.convertors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests of {@link TypeConversionUtils#convertAll(List, Class, BulkConversionConfig)}.
+ */
+class BulkConversionTest {
+
+	@Test
+	void rejectsInvalidConfig() {
+		assertThrows(IllegalArgumentException.class, () -> BulkConversionConfig.builder().parallelThreshold(0).build());
+		assertThrows(IllegalArgumentException.class,
+				() -> BulkConversionConfig.builder().parallelThreshold(-1).build());
+		assertThrows(NullPointerException.class, () -> BulkConversionConfig.builder().pool(null).build());
+	}
+
+	@Test
+	void convertsInParallelInOrderWithFailures() {
+		List<Object> data = new ArrayList<>();
+		for (int index = 0; index < 500; index++) {
+			data.add(index % 100 == 7 ? "{invalid" : "{\"value\":" + index + "}");
+		}
+		ForkJoinPool pool = new ForkJoinPool(4);
+		try {
+			BulkConversionResult<Item> result = TypeConversionUtils.convertAll(data, Item.class,
+					BulkConversionConfig.builder().parallelThreshold(10).pool(pool).build());
+
+			assertFalse(result.isSuccess());
+			assertEquals(Set.of(7, 107, 207, 307, 407), result.getFailures().keySet());
+			assertEquals(500, result.getValues().size());
+			assertEquals(499, result.getValues().get(499).getValue());
+			assertNull(result.getValues().get(7));
+		} finally {
+			pool.shutdown();
+		}
+	}
+
+	@Test
+	void convertsStreams() {
+		BulkConversionResult<Item> result = TypeConversionUtils.convertAll(
+				Stream.of("{\"value\":1}", "{\"value\":2}"), Item.class, BulkConversionConfig.builder().build());
+
+		assertEquals(2, result.getValues().get(1).getValue());
+	}
+
+	public static class Item {
+
+		private int value;
+
+		public int getValue() {
+			return value;
+		}
+
+		public void setValue(int value) {
+			this.value = value;
+		}
+
+	}
+
+}
@@ -0,0 +1,116 @@
+package com.custom.common.utilities.convertors;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests of the comma separated number lists of
+ * {@link CommonConversionUtils}, read by {@link NumberListScanner}.
+ */
+class CommonConversionUtilsTest {
+
+	@Test
+	void parsesLongRangeLimits() {
+		assertArrayEquals(new long[] { Long.MIN_VALUE, Long.MAX_VALUE },
+				CommonConversionUtils.parseLongs("-9223372036854775808,9223372036854775807"));
+		assertArrayEquals(new long[] { 0L, -0L, 7L }, CommonConversionUtils.parseLongs("0,-0,+7"));
+	}
+
+	@Test
+	void rejectsLongOverflowByOneDigit() {
+		assertThrows(NumberFormatException.class, () -> CommonConversionUtils.parseLongs("9223372036854775808"));
+		assertThrows(NumberFormatException.class, () -> CommonConversionUtils.parseLongs("-9223372036854775809"));
+		assertThrows(NumberFormatException.class, () -> CommonConversionUtils.parseLongs("92233720368547758070"));
+	}
+
+	@Test
+	void rejectsSignsWithoutDigits() {
+		assertThrows(NumberFormatException.class, () -> CommonConversionUtils.parseLongs("+"));
+		assertThrows(NumberFormatException.class, () -> CommonConversionUtils.parseLongs("-"));
+		assertThrows(NumberFormatException.class, () -> CommonConversionUtils.parseLongs("1,-,2"));
+	}
+
+	@Test
+	void rejectsNumbersSeparatedByWhitespace() {
+		NumberFormatException exception = assertThrows(NumberFormatException.class,
+				() -> CommonConversionUtils.parseLongs("1 2"));
+		assertEquals("Invalid number at index 0", exception.getMessage());
+	}
+
+	@Test
+	void parsesEmptyLists() {
+		assertArrayEquals(new long[0], CommonConversionUtils.parseLongs("[]"));
+		assertArrayEquals(new long[0], CommonConversionUtils.parseLongs(" [ ] "));
+		assertArrayEquals(new long[0], CommonConversionUtils.parseLongs(""));
+		assertArrayEquals(new long[0], CommonConversionUtils.parseLongs((CharSequence) null));
+		assertArrayEquals(new long[0], CommonConversionUtils.parseLongs(",,"));
+	}
+
+	@Test
+	void ignoresBracketsWhitespaceAndEmptyEntries() {
+		assertArrayEquals(new long[] { 1L, 2L }, CommonConversionUtils.parseLongs(" [ 1 , 2 ] "));
+		assertArrayEquals(new long[] { 1L, 2L, 3L }, CommonConversionUtils.parseLongs("1,2,3,"));
+		assertArrayEquals(new long[] { 1L, 2L }, CommonConversionUtils.parseLongs("\t1,\n,2 "));
+		assertEquals(List.of(1L, 2L, 3L), CommonConversionUtils.convertFromCommaSeperatedStrings("[1,2,3]"));
+	}
+
+	@Test
+	void skipsInvalidEntriesLeniently() {
+		assertEquals(List.of(1L, 3L),
+				CommonConversionUtils.convertFromCommaSeperatedStringsLeniently("[1, x, 3]"));
+		assertEquals(List.of(4L), CommonConversionUtils
+				.convertFromCommaSeperatedStringsLeniently("1 2, +, 9223372036854775808, 4, 5x"));
+		assertEquals(List.of(), CommonConversionUtils.convertFromCommaSeperatedStringsLeniently(null));
+	}
+
+	@Test
+	void rejectsIntsOutOfRange() {
+		assertArrayEquals(new int[] { Integer.MIN_VALUE, Integer.MAX_VALUE },
+				CommonConversionUtils.parseInts("-2147483648, 2147483647"));
+		assertThrows(NumberFormatException.class, () -> CommonConversionUtils.parseInts("2147483648"));
+		assertThrows(NumberFormatException.class, () -> CommonConversionUtils.parseInts("1,-2147483649"));
+	}
+
+	@Test
+	void readsBufferFromItsPositionWithoutMovingIt() {
+		ByteBuffer buffer = ByteBuffer.wrap("xx,[5, 6]yy".getBytes(StandardCharsets.US_ASCII));
+		buffer.position(3).limit(9);
+
+		assertArrayEquals(new long[] { 5L, 6L }, CommonConversionUtils.parseLongs(buffer));
+		assertArrayEquals(new int[] { 5, 6 }, CommonConversionUtils.parseInts(buffer));
+		assertEquals(3, buffer.position());
+	}
+
+	@Test
+	void readsSlicedBufferWithArrayOffset() {
+		byte[] bytes = "99,7,8,99".getBytes(StandardCharsets.US_ASCII);
+		ByteBuffer slice = ByteBuffer.wrap(bytes, 3, 3).slice();
+
+		assertEquals(3, slice.arrayOffset());
+		assertArrayEquals(new long[] { 7L, 8L }, CommonConversionUtils.parseLongs(slice));
+	}
+
+	@Test
+	void streamsNumbersLazily() {
+		assertEquals(3L, CommonConversionUtils.streamLongs("1, 2, x").limit(2).sum());
+		assertThrows(NumberFormatException.class, () -> CommonConversionUtils.streamLongs("1, 2, x").sum());
+	}
+
+	@Test
+	void writesListsReadBackByTheParser() {
+		long[] values = { Long.MIN_VALUE, -1L, 0L, Long.MAX_VALUE };
+		String text = CommonConversionUtils.convertToCommaSeperatedString(values);
+
+		assertEquals("[-9223372036854775808, -1, 0, 9223372036854775807]", text);
+		assertArrayEquals(values, CommonConversionUtils.parseLongs(text));
+		assertEquals("[]", CommonConversionUtils.appendCommaSeperated(new StringBuilder(), new int[0]).toString());
+	}
+
+}
@@ -0,0 +1,64 @@
+package com.custom.common.utilities.convertors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+
+/**
+ * Unit tests of the mapper used by {@link TypeConversionUtils}.
+ */
+class TypeConversionUtilsTest {
+
+	@AfterEach
+	void resetObjectMapper() {
+		TypeConversionUtils.resetObjectMapper();
+	}
+
+	@Test
+	void performanceModuleKeepsSettingsOfInjectedMapper() {
+		ObjectMapper injected = new ObjectMapper().setPropertyNamingStrategy(PropertyNamingStrategies.SNAKE_CASE);
+		TypeConversionUtils.setObjectMapper(injected);
+
+		assertTrue(TypeConversionUtils.enablePerformanceModule());
+
+		ObjectMapper objectMapper = TypeConversionUtils.getObjectMapper();
+		assertNotSame(injected, objectMapper);
+		assertTrue(objectMapper.getRegisteredModuleIds()
+				.contains("com.fasterxml.jackson.module.blackbird.BlackbirdModule"));
+		assertTrue(injected.getRegisteredModuleIds().isEmpty());
+		Item item = new Item();
+		item.setItemName("pen");
+		assertEquals("{\"item_name\":\"pen\"}", TypeConversionUtils.convertObjectToString(item));
+	}
+
+	@Test
+	void performanceModuleIsEnabledOnce() {
+		assertTrue(TypeConversionUtils.enablePerformanceModule());
+		ObjectMapper objectMapper = TypeConversionUtils.getObjectMapper();
+
+		assertTrue(TypeConversionUtils.enablePerformanceModule());
+		assertSame(objectMapper, TypeConversionUtils.getObjectMapper());
+	}
+
+	public static class Item {
+
+		private String itemName;
+
+		public String getItemName() {
+			return itemName;
+		}
+
+		public void setItemName(String itemName) {
+			this.itemName = itemName;
+		}
+
+	}
+
+}
@@ -0,0 +1,83 @@
+package com.custom.common.utilities.httpclient;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests of {@link Bulkhead}.
+ */
+class BulkheadTest {
+
+	@Test
+	void rejectsCallsOverTheLimit() throws InterruptedException {
+		Bulkhead bulkhead = new Bulkhead(BulkheadConfig.builder().maxConcurrentCalls(2).build());
+		assertTrue(bulkhead.tryAcquire(Long.MAX_VALUE));
+		assertTrue(bulkhead.tryAcquire(Long.MAX_VALUE));
+		assertFalse(bulkhead.tryAcquire(Long.MAX_VALUE));
+		assertEquals(0, bulkhead.getAvailableSlots());
+
+		bulkhead.release();
+		assertTrue(bulkhead.tryAcquire(Long.MAX_VALUE));
+	}
+
+	@Test
+	void waitsForAFreeSlot() throws InterruptedException {
+		Bulkhead bulkhead = new Bulkhead(BulkheadConfig.builder().maxConcurrentCalls(1).maxWaitMillis(50L).build());
+		assertTrue(bulkhead.tryAcquire(Long.MAX_VALUE));
+		long start = System.nanoTime();
+		assertFalse(bulkhead.tryAcquire(Long.MAX_VALUE));
+		assertTrue(System.nanoTime() - start >= TimeUnit.MILLISECONDS.toNanos(50L));
+	}
+
+	@Test
+	void waitsNoLongerThanTheCallerAllows() throws InterruptedException {
+		Bulkhead bulkhead = new Bulkhead(
+				BulkheadConfig.builder().maxConcurrentCalls(1).maxWaitMillis(10_000L).build());
+		assertTrue(bulkhead.tryAcquire(Long.MAX_VALUE));
+		long start = System.nanoTime();
+		assertFalse(bulkhead.tryAcquire(20L));
+		assertTrue(System.nanoTime() - start < TimeUnit.SECONDS.toNanos(5L));
+		assertFalse(bulkhead.tryAcquire(0L));
+	}
+
+	@Test
+	void limitsConcurrentCalls() throws InterruptedException {
+		Bulkhead bulkhead = new Bulkhead(BulkheadConfig.builder().maxConcurrentCalls(3).build());
+		AtomicInteger inFlight = new AtomicInteger();
+		AtomicInteger maxInFlight = new AtomicInteger();
+		CountDownLatch start = new CountDownLatch(1);
+		ExecutorService executor = Executors.newFixedThreadPool(8);
+		for (int thread = 0; thread < 8; thread++) {
+			executor.execute(() -> {
+				try {
+					start.await();
+					for (int call = 0; call < 200; call++) {
+						if (bulkhead.tryAcquire(Long.MAX_VALUE)) {
+							maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+							Thread.yield();
+							inFlight.decrementAndGet();
+							bulkhead.release();
+						}
+					}
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+				}
+			});
+		}
+		start.countDown();
+		executor.shutdown();
+		assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+		assertTrue(maxInFlight.get() <= 3);
+		assertEquals(3, bulkhead.getAvailableSlots());
+	}
+
+}
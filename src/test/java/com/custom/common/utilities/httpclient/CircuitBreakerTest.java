@@ -0,0 +1,217 @@
+package com.custom.common.utilities.httpclient;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.Test;
+
+import com.custom.common.utilities.httpclient.CircuitBreaker.State;
+
+/**
+ * Unit tests of {@link CircuitBreaker}, with a fake clock.
+ */
+class CircuitBreakerTest {
+
+	private final AtomicLong clock = new AtomicLong(1_000_000L);
+	private final CircuitBreaker breaker = new CircuitBreaker("localhost",
+			CircuitBreakerConfig.builder().enabled(true).failureRateThreshold(50.0d).minimumNumberOfCalls(4)
+					.slidingWindowSeconds(10).waitDurationInOpenStateMillis(1_000L)
+					.permittedCallsInHalfOpenState(2).build(),
+			clock::get);
+
+	@Test
+	void opensWhenFailureRateIsReached() {
+		record(false);
+		record(true);
+		record(false);
+		assertEquals(State.CLOSED, breaker.getState());
+
+		record(true);
+		assertEquals(State.OPEN, breaker.getState());
+		assertNull(breaker.tryAcquirePermission());
+	}
+
+	@Test
+	void staysClosedBelowMinimumNumberOfCalls() {
+		record(true);
+		record(true);
+		record(true);
+		assertEquals(State.CLOSED, breaker.getState());
+	}
+
+	@Test
+	void forgetsCallsOutsideOfTheWindow() {
+		record(true);
+		record(true);
+		record(true);
+		clock.addAndGet(11_000L);
+		record(true);
+		assertEquals(State.CLOSED, breaker.getState());
+	}
+
+	@Test
+	void closesAfterSuccessfulTrialCalls() {
+		open();
+		clock.addAndGet(999L);
+		assertNull(breaker.tryAcquirePermission());
+
+		clock.addAndGet(1L);
+		Object first = breaker.tryAcquirePermission();
+		Object second = breaker.tryAcquirePermission();
+		assertNotNull(first);
+		assertNotNull(second);
+		assertEquals(State.HALF_OPEN, breaker.getState());
+		assertNull(breaker.tryAcquirePermission());
+
+		breaker.onResult(first, false, 1L);
+		assertEquals(State.HALF_OPEN, breaker.getState());
+		breaker.onResult(second, false, 1L);
+		assertEquals(State.CLOSED, breaker.getState());
+		assertNotNull(breaker.tryAcquirePermission());
+	}
+
+	@Test
+	void reopensAfterFailedTrialCall() {
+		open();
+		clock.addAndGet(1_000L);
+		Object first = breaker.tryAcquirePermission();
+		Object second = breaker.tryAcquirePermission();
+
+		breaker.onResult(first, true, 1L);
+		breaker.onResult(second, false, 1L);
+		assertEquals(State.OPEN, breaker.getState());
+		assertNull(breaker.tryAcquirePermission());
+
+		clock.addAndGet(1_000L);
+		assertNotNull(breaker.tryAcquirePermission());
+		assertEquals(State.HALF_OPEN, breaker.getState());
+	}
+
+	@Test
+	void slowButSuccessfulTrialCallsCloseWhenSlowCallsAreIgnored() {
+		open();
+		clock.addAndGet(1_000L);
+		Object first = breaker.tryAcquirePermission();
+		Object second = breaker.tryAcquirePermission();
+
+		breaker.onResult(first, false, 10_000L);
+		breaker.onResult(second, false, 10_000L);
+		assertEquals(State.CLOSED, breaker.getState());
+	}
+
+	@Test
+	void reopensAfterSlowTrialCalls() {
+		CircuitBreaker slowBreaker = new CircuitBreaker("localhost",
+				CircuitBreakerConfig.builder().enabled(true).slowCallRateThreshold(50.0d)
+						.slowCallDurationMillis(100L).minimumNumberOfCalls(2).waitDurationInOpenStateMillis(1_000L)
+						.permittedCallsInHalfOpenState(2).build(),
+				clock::get);
+		slowBreaker.onResult(slowBreaker.tryAcquirePermission(), false, 100L);
+		slowBreaker.onResult(slowBreaker.tryAcquirePermission(), false, 100L);
+		assertEquals(State.OPEN, slowBreaker.getState());
+
+		clock.addAndGet(1_000L);
+		Object first = slowBreaker.tryAcquirePermission();
+		Object second = slowBreaker.tryAcquirePermission();
+		slowBreaker.onResult(first, false, 1L);
+		slowBreaker.onResult(second, false, 100L);
+		assertEquals(State.OPEN, slowBreaker.getState());
+	}
+
+	@Test
+	void tellsWhetherACallIsPermittedWithoutTakingIt() {
+		assertTrue(breaker.isCallPermitted());
+		open();
+		assertFalse(breaker.isCallPermitted());
+
+		clock.addAndGet(1_000L);
+		assertTrue(breaker.isCallPermitted());
+		assertNotNull(breaker.tryAcquirePermission());
+		assertTrue(breaker.isCallPermitted());
+		assertNotNull(breaker.tryAcquirePermission());
+		assertFalse(breaker.isCallPermitted());
+	}
+
+	@Test
+	void ignoredTrialCallGivesBackItsPermission() {
+		open();
+		clock.addAndGet(1_000L);
+		Object first = breaker.tryAcquirePermission();
+		assertNotNull(breaker.tryAcquirePermission());
+		assertNull(breaker.tryAcquirePermission());
+
+		breaker.onIgnored(first);
+		assertNotNull(breaker.tryAcquirePermission());
+	}
+
+	@Test
+	void resultOfAnOldPhaseDoesNotChangeTheState() {
+		Object closedPermission = breaker.tryAcquirePermission();
+		open();
+		breaker.onResult(closedPermission, false, 1L);
+		assertEquals(State.OPEN, breaker.getState());
+	}
+
+	@Test
+	void onlyPermittedTrialCallsGetThroughConcurrently() throws InterruptedException {
+		open();
+		clock.addAndGet(1_000L);
+		int threads = 16;
+		AtomicInteger permitted = new AtomicInteger();
+		CountDownLatch start = new CountDownLatch(1);
+		ExecutorService executor = Executors.newFixedThreadPool(threads);
+		List<Object> permissions = new ArrayList<>();
+		for (int thread = 0; thread < threads; thread++) {
+			executor.execute(() -> {
+				try {
+					start.await();
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+				}
+				for (int attempt = 0; attempt < 100; attempt++) {
+					Object permission = breaker.tryAcquirePermission();
+					if (permission != null) {
+						permitted.incrementAndGet();
+						synchronized (permissions) {
+							permissions.add(permission);
+						}
+					}
+				}
+			});
+		}
+		start.countDown();
+		executor.shutdown();
+		assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+
+		assertEquals(2, permitted.get());
+		assertEquals(State.HALF_OPEN, breaker.getState());
+		permissions.forEach(permission -> breaker.onResult(permission, false, 1L));
+		assertEquals(State.CLOSED, breaker.getState());
+	}
+
+	private void open() {
+		for (int call = 0; call < 4; call++) {
+			record(true);
+		}
+		assertEquals(State.OPEN, breaker.getState());
+	}
+
+	private void record(boolean failed) {
+		Object permission = breaker.tryAcquirePermission();
+		assertNotNull(permission);
+		breaker.onResult(permission, failed, 1L);
+	}
+
+}
@@ -0,0 +1,105 @@
+package com.custom.common.utilities.httpclient;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.BrokenBarrierException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests of {@link ResilientRequestExecutor}.
+ */
+class ResilientRequestExecutorTest {
+
+	private static final String HOST = "cold.host.test";
+	private static final int THREADS = 16;
+	private static final int MAX_CONCURRENT_CALLS = 2;
+
+	@AfterEach
+	void resetHostConfigs() {
+		HttpClientManager.setBulkheadConfig(HOST, null);
+		HttpClientManager.setCircuitBreakerConfig(HOST, null);
+	}
+
+	@Test
+	void limitsConcurrentCallsToAColdHost() throws InterruptedException {
+		HttpClientManager.setBulkheadConfig(HOST,
+				BulkheadConfig.builder().maxConcurrentCalls(MAX_CONCURRENT_CALLS).build());
+		ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+		try {
+			for (int round = 0; round < 200; round++) {
+				ResilientRequestExecutor.HostState state = new ResilientRequestExecutor.HostState(HOST);
+				CyclicBarrier barrier = new CyclicBarrier(THREADS);
+				AtomicInteger inFlight = new AtomicInteger();
+				runConcurrently(executor, () -> {
+					barrier.await();
+					if (state.getBulkhead().tryAcquire(0L)) {
+						inFlight.incrementAndGet();
+					}
+				});
+				assertEquals(MAX_CONCURRENT_CALLS, inFlight.get());
+			}
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
+	@Test
+	void sharesTheCircuitBreakerOfAColdHost() throws InterruptedException {
+		HttpClientManager.setCircuitBreakerConfig(HOST, CircuitBreakerConfig.builder().enabled(true).build());
+		ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+		try {
+			ResilientRequestExecutor.HostState state = new ResilientRequestExecutor.HostState(HOST);
+			CyclicBarrier barrier = new CyclicBarrier(THREADS);
+			CircuitBreaker[] breakers = new CircuitBreaker[THREADS];
+			AtomicInteger index = new AtomicInteger();
+			runConcurrently(executor, () -> {
+				int slot = index.getAndIncrement();
+				barrier.await();
+				breakers[slot] = state.getCircuitBreaker();
+			});
+			assertNotNull(breakers[0]);
+			for (CircuitBreaker breaker : breakers) {
+				assertSame(breakers[0], breaker);
+			}
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
+	private static void runConcurrently(ExecutorService executor, ConcurrentTask task) throws InterruptedException {
+		CountDownLatch done = new CountDownLatch(THREADS);
+		for (int thread = 0; thread < THREADS; thread++) {
+			executor.execute(() -> {
+				try {
+					task.run();
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+				} catch (BrokenBarrierException e) {
+					// Only thrown when another thread was interrupted.
+				} finally {
+					done.countDown();
+				}
+			});
+		}
+		assertTrue(done.await(10, TimeUnit.SECONDS));
+	}
+
+	@FunctionalInterface
+	private interface ConcurrentTask {
+
+		void run() throws InterruptedException, BrokenBarrierException;
+
+	}
+
+}
@@ -0,0 +1,114 @@
+package com.custom.common.utilities.httpclient;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests of {@link RetryBudget}.
+ */
+class RetryBudgetTest {
+
+	private static final long SECOND = TimeUnit.SECONDS.toNanos(1L);
+
+	private final AtomicLong clock = new AtomicLong(1_000L * SECOND);
+	private final RetryBudget budget = new RetryBudget(clock::get);
+	private final RetryPolicy policy = RetryPolicy.builder().retryBudgetPercent(10.0d).retryBudgetReserve(5)
+			.build();
+
+	@Test
+	void retriesAreCappedAtPercentageOfRecentRequests() {
+		for (int request = 0; request < 1_000; request++) {
+			budget.deposit();
+		}
+		assertEquals(105, withdrawAll());
+	}
+
+	@Test
+	void reserveAllowsRetriesWithoutTraffic() {
+		assertEquals(5, withdrawAll());
+	}
+
+	@Test
+	void longHealthyPeriodDoesNotSaveUpRetries() {
+		// 100 requests per second for 100 seconds, without any retry.
+		for (int second = 0; second < 100; second++) {
+			for (int request = 0; request < 100; request++) {
+				budget.deposit();
+			}
+			clock.addAndGet(SECOND);
+		}
+		// Only the last 10 seconds count: 5 + 10% of 900 requests.
+		assertEquals(95, withdrawAll());
+	}
+
+	@Test
+	void retriesOfTheWindowExpire() {
+		for (int request = 0; request < 100; request++) {
+			budget.deposit();
+		}
+		assertEquals(15, withdrawAll());
+
+		clock.addAndGet(RetryBudget.WINDOW_SECONDS * SECOND);
+		assertEquals(5, withdrawAll());
+	}
+
+	@Test
+	void retriesFollowTheTrafficOfTheWindow() {
+		for (int second = 0; second < RetryBudget.WINDOW_SECONDS; second++) {
+			for (int request = 0; request < 50; request++) {
+				budget.deposit();
+			}
+			clock.addAndGet(SECOND);
+		}
+		// The first second of traffic has left the window.
+		assertEquals(5 + 45, withdrawAll());
+	}
+
+	@Test
+	void concurrentRetriesDoNotOvershootTheBudget() throws InterruptedException {
+		for (int request = 0; request < 200; request++) {
+			budget.deposit();
+		}
+		AtomicInteger granted = new AtomicInteger();
+		CountDownLatch start = new CountDownLatch(1);
+		ExecutorService executor = Executors.newFixedThreadPool(8);
+		for (int thread = 0; thread < 8; thread++) {
+			executor.execute(() -> {
+				try {
+					start.await();
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+				}
+				for (int retry = 0; retry < 100; retry++) {
+					if (budget.tryWithdraw(policy)) {
+						granted.incrementAndGet();
+					}
+				}
+			});
+		}
+		start.countDown();
+		executor.shutdown();
+		assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+		assertEquals(25, granted.get());
+		assertFalse(budget.tryWithdraw(policy));
+	}
+
+	private int withdrawAll() {
+		int granted = 0;
+		while (budget.tryWithdraw(policy)) {
+			granted++;
+		}
+		return granted;
+	}
+
+}